@@ -235,6 +235,7 @@ public class Constants {
     public static final String YAML_EXTENSION = ".yaml";
     public static final String JSON_EXTENSION = ".json";
     public static final String YML_EXTENSION = ".yml";
+    public static final String GZIP_EXTENSION = ".gz";
     public static final String PLUS = "+";
     public static final String UNDERSCORE = "_";
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.converter.model;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This {@code HttpServiceInfo} contains the analysed details of a service declaration, which are shared by the
+ * compiler plugins analysing the same service.
+ *
+ * @since 1.7.0
+ */
+public class HttpServiceInfo {
+
+    private final ServiceDeclarationNode serviceNode;
+    private final SemanticModel semanticModel;
+    private final ServiceDeclarationSymbol serviceSymbol;
+    private final boolean httpService;
+    private final AnnotationNode serviceInfoAnnotation;
+    private final Map<String, String> serviceInfoFields;
+
+    public HttpServiceInfo(ServiceDeclarationNode serviceNode, SemanticModel semanticModel,
+                           ServiceDeclarationSymbol serviceSymbol, boolean httpService,
+                           AnnotationNode serviceInfoAnnotation, Map<String, String> serviceInfoFields) {
+        this.serviceNode = serviceNode;
+        this.semanticModel = semanticModel;
+        this.serviceSymbol = serviceSymbol;
+        this.httpService = httpService;
+        this.serviceInfoAnnotation = serviceInfoAnnotation;
+        this.serviceInfoFields = Collections.unmodifiableMap(serviceInfoFields);
+    }
+
+    public ServiceDeclarationNode getServiceNode() {
+        return serviceNode;
+    }
+
+    public SemanticModel getSemanticModel() {
+        return semanticModel;
+    }
+
+    public Optional<ServiceDeclarationSymbol> getServiceSymbol() {
+        return Optional.ofNullable(serviceSymbol);
+    }
+
+    /**
+     * Returns whether the service is attached to an HTTP listener.
+     */
+    public boolean isHttpService() {
+        return httpService;
+    }
+
+    /**
+     * Returns the `@openapi:ServiceInfo` annotation of the service.
+     */
+    public Optional<AnnotationNode> getServiceInfoAnnotation() {
+        return Optional.ofNullable(serviceInfoAnnotation);
+    }
+
+    /**
+     * Returns the source of the value of the given `@openapi:ServiceInfo` field, e.g. `"openapi.yaml"` for
+     * `contract`.
+     */
+    public Optional<String> getServiceInfoField(String fieldName) {
+        return Optional.ofNullable(serviceInfoFields.get(fieldName));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi.converter.model;
+
+import java.util.Optional;
+
+import static io.ballerina.openapi.converter.Constants.GZIP_EXTENSION;
+import static io.ballerina.openapi.converter.Constants.JSON_EXTENSION;
+import static io.ballerina.openapi.converter.Constants.YAML_EXTENSION;
+
+/**
+ * This {@code OASFormat} enum contains the output formats supported for the generated OpenAPI definitions.
+ * The compact formats are meant for machine consumption, such as artifact uploads and spec registries.
+ *
+ * @since 1.7.0
+ */
+public enum OASFormat {
+    YAML("yaml", YAML_EXTENSION),
+    JSON("json", JSON_EXTENSION),
+    JSON_MIN("json-min", JSON_EXTENSION),
+    JSON_GZ("json-gz", JSON_EXTENSION + GZIP_EXTENSION);
+
+    private final String name;
+    private final String extension;
+
+    OASFormat(String name, String extension) {
+        this.name = name;
+        this.extension = extension;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public boolean isJson() {
+        return this != YAML;
+    }
+
+    public boolean isCompressed() {
+        return this == JSON_GZ;
+    }
+
+    /**
+     * Returns the format for the given format name, e.g. `json-min`.
+     */
+    public static Optional<OASFormat> fromName(String name) {
+        for (OASFormat format : values()) {
+            if (format.name.equals(name)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.converter.service;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
+import io.ballerina.openapi.converter.model.OASGenerationMetaInfo;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.openapi.converter.Constants.OPENAPI_ANNOTATION;
+import static io.ballerina.openapi.converter.Constants.SLASH;
+import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.containErrors;
+import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.isHttpService;
+
+/**
+ * This {@code HttpServiceAnalysis} keeps the analysis of the services of a package compilation, which is shared by
+ * the compiler plugins analysing the services. The compilation errors, the HTTP listener check, the
+ * `@openapi:ServiceInfo` annotation and the generated OpenAPI definitions are computed once per compilation, module or
+ * service instead of once per plugin.
+ *
+ * @since 1.7.0
+ */
+public class HttpServiceAnalysis {
+    // The analyses must not refer to their compilations, otherwise the weak keys are never cleared
+    private static final Map<PackageCompilation, HttpServiceAnalysis> ANALYSES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final boolean hasErrors;
+    private final Map<ModuleId, Boolean> moduleErrors = new ConcurrentHashMap<>();
+    private final Map<DocumentId, Map<Integer, HttpServiceInfo>> documentServices = new ConcurrentHashMap<>();
+    private final Map<HttpServiceInfo, OASResult> oasResults = new ConcurrentHashMap<>();
+
+    private HttpServiceAnalysis(PackageCompilation compilation) {
+        this.hasErrors = compilation.diagnosticResult().diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+    }
+
+    /**
+     * Returns the service analysis of the given compilation.
+     */
+    public static HttpServiceAnalysis getInstance(PackageCompilation compilation) {
+        return ANALYSES.computeIfAbsent(compilation, HttpServiceAnalysis::new);
+    }
+
+    /**
+     * Returns whether the package compilation contains any error diagnostic.
+     */
+    public boolean hasErrors() {
+        return hasErrors;
+    }
+
+    /**
+     * Returns whether the semantic model of the given module contains any error diagnostic.
+     */
+    public boolean hasErrors(ModuleId moduleId, SemanticModel semanticModel) {
+        return moduleErrors.computeIfAbsent(moduleId, id -> containErrors(semanticModel.diagnostics()));
+    }
+
+    /**
+     * Returns the analysis of the given service declaration of the given document.
+     */
+    public HttpServiceInfo getService(DocumentId documentId, ServiceDeclarationNode serviceNode,
+                                      SemanticModel semanticModel) {
+        return documentServices.computeIfAbsent(documentId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(serviceNode.textRange().startOffset(),
+                        offset -> analyseService(serviceNode, semanticModel));
+    }
+
+    /**
+     * Returns the OpenAPI definition of the given service of the given document, generating it only once per service.
+     * The returned definition is shared, hence it must not be modified.
+     * <p>
+     * The definition does not depend on the plugin requesting it. The contract given in `@openapi:ServiceInfo` is
+     * resolved against the path of the document, and the title of a service on the root path is left as `/`, to be
+     * replaced with the name of the file the definition is written to.
+     */
+    public OASResult getOASResult(HttpServiceInfo service, DocumentId documentId, Project project) {
+        return oasResults.computeIfAbsent(service, key -> {
+            OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
+                    new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
+            builder.setServiceDeclarationNode(service.getServiceNode())
+                    .setSemanticModel(service.getSemanticModel())
+                    .setOpenApiFileName(SLASH)
+                    .setBallerinaFilePath(project.documentPath(documentId).orElse(null))
+                    .setProject(project);
+            return ServiceToOpenAPIConverterUtils.generateOAS(builder.build());
+        });
+    }
+
+    private static HttpServiceInfo analyseService(ServiceDeclarationNode serviceNode, SemanticModel semanticModel) {
+        Optional<Symbol> symbol = semanticModel.symbol(serviceNode);
+        ServiceDeclarationSymbol serviceSymbol = symbol.isPresent() &&
+                symbol.get() instanceof ServiceDeclarationSymbol ? (ServiceDeclarationSymbol) symbol.get() : null;
+        boolean httpService = serviceSymbol != null && isHttpService(serviceNode, semanticModel);
+        AnnotationNode serviceInfoAnnotation = null;
+        Map<String, String> serviceInfoFields = new HashMap<>();
+        Optional<MetadataNode> metadata = serviceNode.metadata();
+        if (metadata.isPresent()) {
+            for (AnnotationNode annotation : metadata.get().annotations()) {
+                if (OPENAPI_ANNOTATION.equals(annotation.annotReference().toString().trim())) {
+                    serviceInfoAnnotation = annotation;
+                    break;
+                }
+            }
+        }
+        if (serviceInfoAnnotation != null && serviceInfoAnnotation.annotValue().isPresent()) {
+            MappingConstructorExpressionNode annotationValue = serviceInfoAnnotation.annotValue().get();
+            for (MappingFieldNode field : annotationValue.fields()) {
+                if (field instanceof SpecificFieldNode) {
+                    SpecificFieldNode specificField = (SpecificFieldNode) field;
+                    String fieldName = specificField.fieldName().toString().trim();
+                    specificField.valueExpr().ifPresent(value ->
+                            serviceInfoFields.putIfAbsent(fieldName, value.toString().trim()));
+                }
+            }
+        }
+        return new HttpServiceInfo(serviceNode, semanticModel, serviceSymbol, httpService, serviceInfoAnnotation,
+                serviceInfoFields);
+    }
+}
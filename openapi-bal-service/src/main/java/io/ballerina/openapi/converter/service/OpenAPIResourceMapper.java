@@ -38,6 +38,7 @@ import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -61,6 +62,7 @@ public class OpenAPIResourceMapper {
     private final Paths pathObject = new Paths();
     private final Components components = new Components();
     private final List<OpenAPIConverterDiagnostic> errors;
+    private final Map<String, ApiResponses> responseCache = new HashMap<>();
 
     public List<OpenAPIConverterDiagnostic> getErrors() {
         return errors;
@@ -221,7 +223,7 @@ public class OpenAPIResourceMapper {
         errors.addAll(openAPIParameterMapper.getErrors());
 
         OpenAPIResponseMapper openAPIResponseMapper = new OpenAPIResponseMapper(semanticModel, components,
-                resource.location());
+                resource.location(), responseCache);
         openAPIResponseMapper.getResourceOutput(resource, op);
         if (!openAPIResponseMapper.getErrors().isEmpty()) {
             errors.addAll(openAPIResponseMapper.getErrors());
@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.Documentable;
 import io.ballerina.compiler.api.symbols.Documentation;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.MapTypeSymbol;
 import io.ballerina.compiler.api.symbols.ReadonlyTypeSymbol;
@@ -60,6 +61,7 @@ import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.converter.utils.ConverterCommonUtils;
 import io.ballerina.tools.diagnostics.Location;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -148,6 +150,7 @@ public class OpenAPIResponseMapper {
     private final Components components;
     private final List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
     private final Location location;
+    private final Map<String, ApiResponses> responseCache;
     private String httpMethod;
 
     public List<OpenAPIConverterDiagnostic> getErrors() {
@@ -155,9 +158,20 @@ public class OpenAPIResponseMapper {
     }
 
     public OpenAPIResponseMapper(SemanticModel semanticModel, Components components, Location location) {
+        this(semanticModel, components, location, new HashMap<>());
+    }
+
+    /**
+     * Initializes a response mapper which shares the derived responses with the other resources of the conversion.
+     *
+     * @param responseCache responses already derived within the conversion, keyed by the return type details
+     */
+    public OpenAPIResponseMapper(SemanticModel semanticModel, Components components, Location location,
+                                 Map<String, ApiResponses> responseCache) {
         this.semanticModel = semanticModel;
         this.components = components;
         this.location = location;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -174,6 +188,13 @@ public class OpenAPIResponseMapper {
         io.swagger.v3.oas.models.Operation operation = operationAdaptor.getOperation();
         // Handle response with custom prefix subtype
         Optional<String> customMediaType = extractCustomMediaType(resource);
+        // Resources sharing the same return type derive the same responses, hence reuse the already derived ones
+        Optional<String> cacheKey = returnTypeDescriptor.flatMap(returnNode ->
+                getResponseCacheKey(resource, returnNode, customMediaType));
+        if (cacheKey.isPresent() && responseCache.containsKey(cacheKey.get())) {
+            operation.setResponses(copyResponses(responseCache.get(cacheKey.get())));
+            return;
+        }
         ApiResponses apiResponses = new ApiResponses();
         if (returnTypeDescriptor.isPresent()) {
             ReturnTypeDescriptorNode returnNode = returnTypeDescriptor.get();
@@ -198,6 +219,39 @@ public class OpenAPIResponseMapper {
             apiResponses.put("202", apiResponse);
         }
         operation.setResponses(apiResponses);
+        // Responses with diagnostics are not cached, since the diagnostics are specific to the resource location
+        if (cacheKey.isPresent() && errors.isEmpty()) {
+            responseCache.put(cacheKey.get(), copyResponses(apiResponses));
+        }
+    }
+
+    /**
+     * Generates the key used to share the derived responses between resources. The key consists of the signature of
+     * the return type symbol, the return type descriptor including its annotations (e.g. `@http:Cache`), the custom
+     * media type prefix and whether the resource is a `POST` resource, as these decide the generated responses.
+     */
+    private Optional<String> getResponseCacheKey(FunctionDefinitionNode resource, ReturnTypeDescriptorNode returnNode,
+                                                 Optional<String> customMediaType) {
+        Optional<Symbol> resourceSymbol = semanticModel.symbol(resource);
+        if (resourceSymbol.isEmpty() || !(resourceSymbol.get() instanceof FunctionSymbol)) {
+            return Optional.empty();
+        }
+        Optional<TypeSymbol> returnTypeSymbol =
+                ((FunctionSymbol) resourceSymbol.get()).typeDescriptor().returnTypeDescriptor();
+        if (returnTypeSymbol.isEmpty()) {
+            return Optional.empty();
+        }
+        String returnTypeSource = returnNode.toSourceCode().replaceAll("\\s+", " ").trim();
+        return Optional.of(returnTypeSymbol.get().signature() + "|" + returnTypeSource + "|" +
+                customMediaType.orElse("") + "|" + httpMethod.equals(POST));
+    }
+
+    /**
+     * Deep copies the given responses, including the headers, the media types with their examples, the schemas and
+     * the extensions, so that the operations sharing the derived responses can not change each other's responses.
+     */
+    private static ApiResponses copyResponses(ApiResponses responses) {
+        return Json.mapper().convertValue(responses, ApiResponses.class);
     }
 
     /**
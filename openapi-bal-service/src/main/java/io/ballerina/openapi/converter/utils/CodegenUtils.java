@@ -16,6 +16,12 @@
 
 package io.ballerina.openapi.converter.utils;
 
+import io.ballerina.openapi.converter.model.OASFormat;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -26,7 +32,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
 
+import static io.ballerina.openapi.converter.Constants.GZIP_EXTENSION;
 import static io.ballerina.openapi.converter.Constants.JSON_EXTENSION;
 import static io.ballerina.openapi.converter.Constants.YAML_EXTENSION;
 
@@ -59,6 +67,55 @@ public final class CodegenUtils {
         }
     }
 
+    /**
+     * Writes the given OpenAPI definition to the specified {@code filePath} in the given format. The compact JSON
+     * formats are streamed into the file without building the whole document as a string.
+     *
+     * @param filePath valid file path to write the content
+     * @param openAPI  OpenAPI definition to be written
+     * @param format   output format of the file
+     * @throws IOException when a file operation fails
+     */
+    public static void writeContract(Path filePath, OpenAPI openAPI, OASFormat format) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(filePath)) {
+            writeContract(outputStream, openAPI, format);
+        }
+    }
+
+    /**
+     * Serializes the given OpenAPI definition in the given format.
+     *
+     * @param openAPI OpenAPI definition to be serialized
+     * @param format  output format
+     * @return serialized content
+     * @throws IOException when the serialization fails
+     */
+    public static byte[] serializeContract(OpenAPI openAPI, OASFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeContract(outputStream, openAPI, format);
+        return outputStream.toByteArray();
+    }
+
+    private static void writeContract(OutputStream outputStream, OpenAPI openAPI, OASFormat format)
+            throws IOException {
+        switch (format) {
+            case YAML:
+                outputStream.write(Yaml.pretty(openAPI).getBytes(StandardCharsets.UTF_8));
+                break;
+            case JSON:
+                outputStream.write(Json.pretty(openAPI).getBytes(StandardCharsets.UTF_8));
+                break;
+            case JSON_GZ:
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+                    Json.mapper().writeValue(gzipOutputStream, openAPI);
+                }
+                break;
+            default:
+                Json.mapper().writeValue(outputStream, openAPI);
+                break;
+        }
+    }
+
     /**
      * Copy content of a file/directory into another location.
      *
@@ -86,9 +143,22 @@ public final class CodegenUtils {
     public static String resolveContractFileName(Path outPath, String openApiName, Boolean isJson) {
         if (outPath != null && Files.exists(outPath)) {
             final File[] listFiles = new File(String.valueOf(outPath)).listFiles();
-            if (listFiles != null) {
-                openApiName = checkAvailabilityOfGivenName(openApiName, listFiles, isJson);
-            }
+            return resolveContractFileName(listFiles, openApiName, isJson);
+        }
+        return openApiName;
+    }
+
+    /**
+     * This method use for checking the duplicate files against an already taken listing of the output directory.
+     * Callers which resolve many names for the same directory can list it once and reuse the listing.
+     *
+     * @param listFiles   files available in the output directory
+     * @param openApiName given file name
+     * @return file name with duplicate number tag
+     */
+    public static String resolveContractFileName(File[] listFiles, String openApiName, Boolean isJson) {
+        if (listFiles != null) {
+            openApiName = checkAvailabilityOfGivenName(openApiName, listFiles, isJson);
         }
         return openApiName;
     }
@@ -123,7 +193,9 @@ public final class CodegenUtils {
             }
         }
         if (isJson) {
-            return fileName.split("\\.")[0] + "." + duplicateCount + JSON_EXTENSION;
+            // Keep the compression suffix of compressed contracts
+            String extension = fileName.endsWith(GZIP_EXTENSION) ? JSON_EXTENSION + GZIP_EXTENSION : JSON_EXTENSION;
+            return fileName.split("\\.")[0] + "." + duplicateCount + extension;
         }
         return fileName.split("\\.")[0] + "." + duplicateCount + YAML_EXTENSION;
     }
@@ -453,6 +453,11 @@ public class ConverterCommonUtils {
         if (listenerType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
             return isHttpModule(((TypeReferenceTypeSymbol) listenerType).typeDescriptor().getModule().get());
         }
+
+        if (listenerType.typeKind() == TypeDescKind.OBJECT) {
+            Optional<ModuleSymbol> moduleOpt = listenerType.getModule();
+            return moduleOpt.isPresent() && isHttpModule(moduleOpt.get());
+        }
         return false;
     }
 
@@ -17,50 +17,43 @@
 package io.ballerina.openapi.build;
 
 import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
-import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
-import io.ballerina.openapi.converter.model.OASGenerationMetaInfo;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
+import io.ballerina.openapi.converter.model.OASFormat;
 import io.ballerina.openapi.converter.model.OASResult;
-import io.ballerina.openapi.converter.service.OpenAPIEndpointMapper;
-import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.openapi.converter.service.HttpServiceAnalysis;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
-import static io.ballerina.openapi.build.PluginConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.build.PluginConstants.OPENAPI;
 import static io.ballerina.openapi.build.PluginConstants.UNDERSCORE;
 import static io.ballerina.openapi.converter.Constants.HYPHEN;
 import static io.ballerina.openapi.converter.Constants.OPENAPI_SUFFIX;
 import static io.ballerina.openapi.converter.Constants.SLASH;
-import static io.ballerina.openapi.converter.Constants.YAML_EXTENSION;
-import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
-import static io.ballerina.openapi.converter.utils.CodegenUtils.writeFile;
-import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.containErrors;
+import static io.ballerina.openapi.converter.utils.CodegenUtils.serializeContract;
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.getNormalizedFileName;
-import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.isHttpService;
+import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.normalizeTitle;
 
 /**
  * SyntaxNodeAnalyzer for getting all service node.
@@ -68,6 +61,9 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.isHttpSe
  * @since 2.0.0
  */
 public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
+    // Export details are kept per compilation, so that they are computed once per build instead of once per service.
+    private final Map<PackageCompilation, OpenAPIExportContext> exportContexts =
+            Collections.synchronizedMap(new WeakHashMap<>());
 
     @Override
     public void perform(SyntaxNodeAnalysisContext context) {
@@ -80,35 +76,34 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         if (!buildOptions.exportOpenAPI()) {
             return;
         }
-        boolean hasErrors = context.compilation().diagnosticResult()
-                .diagnostics().stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        if (hasErrors) {
+        Path outPath = project.targetDir();
+        OpenAPIExportContext exportContext = exportContexts.computeIfAbsent(context.compilation(),
+                compilation -> new OpenAPIExportContext(compilation, outPath.resolve(OPENAPI)));
+        if (exportContext.hasErrors()) {
             // if there are any compilation errors, do not proceed
             return;
         }
-        Path outPath = project.targetDir();
-        Optional<Path> path = currentPackage.project().documentPath(context.documentId());
-        Path inputPath = path.orElse(null);
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
-        Map<Integer, String> services = new HashMap<>();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         // Spec generation won't proceed, If diagnostic includes error type.
-        if (containErrors(semanticModel.diagnostics())) {
+        if (exportContext.hasErrors(context.moduleId(), semanticModel)) {
             diagnostics.addAll(semanticModel.diagnostics());
-        } else if (isHttpService(serviceNode, semanticModel)) {
+        } else {
+            Map<Integer, String> services = exportContext.getServices(context.documentId(), syntaxTree.rootNode(),
+                    semanticModel);
             Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
-            if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
-                extractServiceNodes(syntaxTree.rootNode(), services, semanticModel);
-                OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
-                        new OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
-                builder.setServiceDeclarationNode(serviceNode).setSemanticModel(semanticModel)
-                        .setOpenApiFileName(services.get(serviceSymbol.get().hashCode()))
-                        .setBallerinaFilePath(inputPath).setProject(project);
-                OASResult oasResult = ServiceToOpenAPIConverterUtils.generateOAS(builder.build());
-                oasResult.setServiceName(constructFileName(syntaxTree, services, serviceSymbol.get()));
-                writeOpenAPIYaml(outPath, oasResult, diagnostics);
+            // Only the HTTP services of the document are available in the service map
+            if (serviceSymbol.isPresent() && services.containsKey(serviceSymbol.get().hashCode())) {
+                HttpServiceAnalysis serviceAnalysis = exportContext.getServiceAnalysis();
+                HttpServiceInfo serviceInfo = serviceAnalysis.getService(context.documentId(), serviceNode,
+                        semanticModel);
+                // The generated definition is shared with the other plugins, hence it is not modified here
+                OASResult oasResult = serviceAnalysis.getOASResult(serviceInfo, context.documentId(), project);
+                OASFormat format = exportContext.getFormat();
+                String fileName = constructFileName(syntaxTree, services, serviceSymbol.get(), format);
+                writeOpenAPIContract(exportContext.getContractWriter(), oasResult,
+                        services.get(serviceSymbol.get().hashCode()), fileName, format, diagnostics);
             }
         }
         if (!diagnostics.isEmpty()) {
@@ -124,27 +119,27 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
      * @param syntaxTree syntax tree for check the multiple services
      * @param services   service map for maintain the file name with updated name
      * @param serviceSymbol symbol for taking the hash code of services
+     * @param format     output format which decides the file extension
      */
-    private String constructFileName(SyntaxTree syntaxTree, Map<Integer, String> services, Symbol serviceSymbol) {
+    private String constructFileName(SyntaxTree syntaxTree, Map<Integer, String> services, Symbol serviceSymbol,
+                                     OASFormat format) {
         String fileName = getNormalizedFileName(services.get(serviceSymbol.hashCode()));
         String balFileName = syntaxTree.filePath().split("\\.")[0];
         if (fileName.equals(SLASH)) {
-            return balFileName + OPENAPI_SUFFIX + YAML_EXTENSION;
+            return balFileName + OPENAPI_SUFFIX + format.getExtension();
         } else if (fileName.contains(HYPHEN) && fileName.split(HYPHEN)[0].equals(SLASH) || fileName.isBlank()) {
-            return balFileName + UNDERSCORE + serviceSymbol.hashCode() + OPENAPI_SUFFIX + YAML_EXTENSION;
+            return balFileName + UNDERSCORE + serviceSymbol.hashCode() + OPENAPI_SUFFIX + format.getExtension();
         }
-        return fileName + OPENAPI_SUFFIX + YAML_EXTENSION;
+        return fileName + OPENAPI_SUFFIX + format.getExtension();
     }
 
-    private void writeOpenAPIYaml(Path outPath, OASResult oasResult, List<Diagnostic> diagnostics) {
-        if (oasResult.getYaml().isPresent()) {
+    private void writeOpenAPIContract(OpenAPIContractWriter contractWriter, OASResult oasResult, String serviceName,
+                                      String fileName, OASFormat format, List<Diagnostic> diagnostics) {
+        if (oasResult.getOpenAPI().isPresent()) {
             try {
-                // Create openapi directory if not exists in the path. If exists do not throw an error
-                Files.createDirectories(Paths.get(outPath + OAS_PATH_SEPARATOR + OPENAPI));
-                String serviceName = oasResult.getServiceName();
-                String fileName = resolveContractFileName(outPath.resolve(OPENAPI),
-                        serviceName, false);
-                writeFile(outPath.resolve(OPENAPI + OAS_PATH_SEPARATOR + fileName), oasResult.getYaml().get());
+                OpenAPI openAPI = getTitledContract(oasResult.getOpenAPI().get(), serviceName);
+                // Unchanged contracts are skipped to keep the timestamps of the existing files
+                contractWriter.write(fileName, serializeContract(openAPI, format), format.isJson());
             } catch (IOException e) {
                 DiagnosticMessages error = DiagnosticMessages.OAS_CONVERTOR_108;
                 ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(error.getCode(),
@@ -160,32 +155,16 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
     }
 
     /**
-     * Filter all the end points and service nodes for avoiding the generated file name conflicts.
+     * Returns the given shared definition, or a copy of it titled by the given service name if the definition of a
+     * service on the root path is left untitled.
      */
-    private static void extractServiceNodes(ModulePartNode modulePartNode, Map<Integer, String> services,
-                                            SemanticModel semanticModel) {
-        List<String> allServices = new ArrayList<>();
-        for (Node node : modulePartNode.members()) {
-            SyntaxKind syntaxKind = node.kind();
-            if (syntaxKind.equals(SyntaxKind.SERVICE_DECLARATION)) {
-                ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) node;
-                if (isHttpService(serviceNode, semanticModel)) {
-                    // Here check the service is related to the http
-                    // module by checking listener type that attached to service endpoints.
-                    Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
-                    if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
-                        String service = OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServiceBasePath(serviceNode);
-                        String updateServiceName = service;
-                        if (allServices.contains(service)) {
-                            updateServiceName = service + HYPHEN + serviceSymbol.get().hashCode();
-                        } else {
-                            // To generate for all services
-                            allServices.add(service);
-                        }
-                        services.put(serviceSymbol.get().hashCode(), updateServiceName);
-                    }
-                }
-            }
+    private static OpenAPI getTitledContract(OpenAPI openAPI, String serviceName) {
+        if (openAPI.getInfo() == null || !SLASH.equals(openAPI.getInfo().getTitle()) ||
+                SLASH.equals(normalizeTitle(serviceName))) {
+            return openAPI;
         }
+        OpenAPI titledOpenAPI = Json.mapper().convertValue(openAPI, OpenAPI.class);
+        titledOpenAPI.getInfo().setTitle(normalizeTitle(serviceName));
+        return titledOpenAPI;
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.ballerina.openapi.build.PluginConstants.TEMP_FILE_SUFFIX;
+import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
+
+/**
+ * Writes the OpenAPI contracts exported with the `--export-openapi` build option into the output directory.
+ * <p>
+ * The output directory is listed only once per build. A contract is written only when its content differs from the
+ * existing file, and the write goes through a temporary file which is then moved over the target, so that the
+ * timestamps of unchanged contracts are kept and readers never observe a partially written file.
+ *
+ * @since 1.7.0
+ */
+public class OpenAPIContractWriter {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final Path outDir;
+    private List<File> listFiles;
+
+    public OpenAPIContractWriter(Path outDir) {
+        this.outDir = outDir;
+    }
+
+    /**
+     * Resolves the file name for the given contract and writes the content, if it is not already available in the
+     * output directory.
+     *
+     * @param contractName file name of the generated contract
+     * @param content      content of the contract
+     * @param isJson       whether the contract is in the JSON format
+     * @return {@code true} if the file was written, {@code false} if an identical file already exists
+     * @throws IOException when a file operation fails
+     */
+    public synchronized boolean write(String contractName, byte[] content, boolean isJson) throws IOException {
+        List<File> files = getListFiles();
+        String fileName = resolveContractFileName(files.toArray(new File[0]), contractName, isJson);
+        Path filePath = outDir.resolve(fileName);
+        if (Files.isRegularFile(filePath) && Files.size(filePath) == content.length &&
+                MessageDigest.isEqual(hash(Files.readAllBytes(filePath)), hash(content))) {
+            return false;
+        }
+        Path tempFile = Files.createTempFile(outDir, fileName, TEMP_FILE_SUFFIX);
+        try {
+            Files.write(tempFile, content);
+            try {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        File file = filePath.toFile();
+        if (!files.contains(file)) {
+            files.add(file);
+        }
+        return true;
+    }
+
+    private List<File> getListFiles() throws IOException {
+        if (listFiles == null) {
+            Files.createDirectories(outDir);
+            File[] files = outDir.toFile().listFiles();
+            listFiles = files == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(files));
+        }
+        return listFiles;
+    }
+
+    private static byte[] hash(byte[] content) throws IOException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+}
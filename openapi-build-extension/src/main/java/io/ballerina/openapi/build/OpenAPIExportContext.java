@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.openapi.build;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
+import io.ballerina.openapi.converter.model.OASFormat;
+import io.ballerina.openapi.converter.service.HttpServiceAnalysis;
+import io.ballerina.openapi.converter.service.OpenAPIEndpointMapper;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.PackageCompilation;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.openapi.build.PluginConstants.EXPORT_FORMAT_ENV;
+import static io.ballerina.openapi.converter.Constants.HYPHEN;
+
+/**
+ * Holds the details shared by all the service analysis of a single package compilation, so that they are computed
+ * once per compilation or once per document instead of once per service. The compilation errors and the service
+ * details are taken from the {@link HttpServiceAnalysis} shared with the other OpenAPI compiler plugins.
+ *
+ * @since 1.7.0
+ */
+public class OpenAPIExportContext {
+    private final HttpServiceAnalysis serviceAnalysis;
+    private final OASFormat format;
+    private final OpenAPIContractWriter contractWriter;
+    private final Map<DocumentId, Map<Integer, String>> documentServices = new ConcurrentHashMap<>();
+
+    public OpenAPIExportContext(PackageCompilation compilation, Path outDir) {
+        this.serviceAnalysis = HttpServiceAnalysis.getInstance(compilation);
+        this.contractWriter = new OpenAPIContractWriter(outDir);
+        // Compact formats can be selected for the exported contracts through the environment
+        String formatName = System.getenv(EXPORT_FORMAT_ENV);
+        this.format = formatName == null ? OASFormat.YAML : OASFormat.fromName(formatName).orElse(OASFormat.YAML);
+    }
+
+    /**
+     * Returns whether the package compilation contains any error diagnostic.
+     */
+    public boolean hasErrors() {
+        return serviceAnalysis.hasErrors();
+    }
+
+    public HttpServiceAnalysis getServiceAnalysis() {
+        return serviceAnalysis;
+    }
+
+    public OpenAPIContractWriter getContractWriter() {
+        return contractWriter;
+    }
+
+    /**
+     * Returns the output format of the exported contracts.
+     */
+    public OASFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns whether the semantic model of the given module contains any error diagnostic.
+     */
+    public boolean hasErrors(ModuleId moduleId, SemanticModel semanticModel) {
+        return serviceAnalysis.hasErrors(moduleId, semanticModel);
+    }
+
+    /**
+     * Returns the HTTP services of the given document mapped from the service symbol hash code to the service name
+     * used for the generated file. The mapping is computed once per document.
+     */
+    public Map<Integer, String> getServices(DocumentId documentId, ModulePartNode modulePartNode,
+                                            SemanticModel semanticModel) {
+        return documentServices.computeIfAbsent(documentId,
+                id -> Collections.unmodifiableMap(extractServiceNodes(documentId, modulePartNode, semanticModel)));
+    }
+
+    /**
+     * Filter all the end points and service nodes for avoiding the generated file name conflicts.
+     */
+    private Map<Integer, String> extractServiceNodes(DocumentId documentId, ModulePartNode modulePartNode,
+                                                     SemanticModel semanticModel) {
+        Map<Integer, String> services = new HashMap<>();
+        List<String> allServices = new ArrayList<>();
+        for (Node node : modulePartNode.members()) {
+            SyntaxKind syntaxKind = node.kind();
+            if (syntaxKind.equals(SyntaxKind.SERVICE_DECLARATION)) {
+                ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) node;
+                HttpServiceInfo serviceInfo = serviceAnalysis.getService(documentId, serviceNode, semanticModel);
+                if (serviceInfo.isHttpService()) {
+                    // Here check the service is related to the http
+                    // module by checking listener type that attached to service endpoints.
+                    Optional<ServiceDeclarationSymbol> serviceSymbol = serviceInfo.getServiceSymbol();
+                    if (serviceSymbol.isPresent()) {
+                        String service = OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServiceBasePath(serviceNode);
+                        String updateServiceName = service;
+                        if (allServices.contains(service)) {
+                            updateServiceName = service + HYPHEN + serviceSymbol.get().hashCode();
+                        } else {
+                            // To generate for all services
+                            allServices.add(service);
+                        }
+                        services.put(serviceSymbol.get().hashCode(), updateServiceName);
+                    }
+                }
+            }
+        }
+        return services;
+    }
+}
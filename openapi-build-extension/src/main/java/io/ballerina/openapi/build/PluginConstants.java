@@ -24,4 +24,6 @@ public class PluginConstants {
     public static final String OPENAPI = "openapi";
     public static final String OAS_PATH_SEPARATOR = "/";
     public static final String UNDERSCORE = "_";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String EXPORT_FORMAT_ENV = "BAL_OPENAPI_EXPORT_FORMAT";
 }
@@ -18,21 +18,35 @@
 
 package io.ballerina.openapi.cmd;
 
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaBenchmarkGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.ConstraintAnalyzer;
+import io.ballerina.openapi.core.generators.schema.TypeReferenceIndex;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceObjectGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.ConstraintMode;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
@@ -44,23 +58,39 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static io.ballerina.openapi.cmd.CmdConstants.BALLERINA_TOML;
+import static io.ballerina.openapi.cmd.CmdConstants.BENCHMARK_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.CLIENT_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.COMMON_MODULE;
 import static io.ballerina.openapi.cmd.CmdConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_CLIENT_PKG;
 import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_MOCK_PKG;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_BOTH;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.MODULES_DIR;
 import static io.ballerina.openapi.cmd.CmdConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_DIR;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_FILE_NAME;
@@ -68,8 +98,13 @@ import static io.ballerina.openapi.cmd.CmdConstants.TYPE_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.UNTITLED_SERVICE;
 import static io.ballerina.openapi.cmd.CmdConstants.UTIL_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdUtils.setGeneratedFileName;
+import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
+import static io.ballerina.openapi.core.GeneratorConstants.CONSTRAINT;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_FILE_HEADER;
 import static io.ballerina.openapi.core.GeneratorConstants.DO_NOT_MODIFY_FILE_HEADER;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP;
+import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_CONSTRAINT_MODE;
+import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_HTTP_CONFIGURATIONS;
 
 /**
  * This class generates Ballerina Services/Clients for a provided OAS definition.
@@ -80,8 +115,15 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private boolean includeBenchmark;
+    private boolean mockService;
+    private boolean sharedConnector;
+    private ConstraintMode constraintMode;
+    private Map<String, Object> httpConfigurations = Collections.emptyMap();
 
     private static final PrintStream outStream = System.err;
+    private static final Pattern TOML_TABLE_PATTERN = Pattern.compile("^\\[\\s*([^\\[\\]\\s]+)\\s*]\\s*(#.*)?$");
+    private static final Pattern PACKAGE_NAME_PATTERN = Pattern.compile("^name\\s*=\\s*[\"']([^\"']+)[\"']");
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -102,6 +144,8 @@ public class BallerinaCodeGenerator {
         // absence of the operationId in operation. Therefor we enable client flag true as default code generation.
         // if resource is enabled, we avoid checking operationId.
         OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIPath, !isResource);
+        addHttpConfigurations(openAPIDef);
+        addConstraintMode(openAPIDef);
 
         // Generate service
         String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
@@ -134,10 +178,12 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
-                .withResourceMode(isResource).build();
+                .withResourceMode(isResource)
+                .withSharedConnector(sharedConnector).build();
 
         BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toString();
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        String clientContent = Formatter.format(clientSyntaxTree).toString();
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
                 (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + clientContent));
         String utilContent = Formatter.format(clientGenerator
@@ -188,6 +234,15 @@ public class BallerinaCodeGenerator {
             }
         }
 
+        // Generate benchmark harness for the client operations
+        if (this.includeBenchmark) {
+            BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(clientGenerator,
+                    clientSyntaxTree);
+            String benchmarkContent = Formatter.format(benchmarkGenerator.generateSyntaxTree()).toString();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, BENCHMARK_FILE_NAME,
+                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + benchmarkContent));
+        }
+
         List<GenSrcFile> newGenFiles = sourceFiles.stream()
                 .filter(distinctByKey(GenSrcFile::getFileName))
                 .collect(Collectors.toList());
@@ -223,6 +278,320 @@ public class BallerinaCodeGenerator {
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
     }
 
+    /**
+     * Generates a client module for each tag of the operations in the provided Open API Definition, in the Ballerina
+     * package at {@code outPath}. The definition is parsed and normalized once, and the types of the schemas are
+     * generated and indexed once for all the clients, which are generated concurrently. The types used by more than
+     * one client and the client configurations are generated to the `common` module, hence each client module only
+     * has the types used by its own client.
+     *
+     * @param definitionPath Input Open Api Definition file path
+     * @param outPath        Ballerina package path to save the generated modules
+     * @param filter         For take the tags of the clients, all the tags are taken when it is empty
+     * @param nullable       Enable nullable option for make record field optional
+     * @param isResource     Enable the resource functions of the clients
+     * @throws IOException               when file operations fail
+     * @throws BallerinaOpenApiException when code generator fails
+     */
+    public void generateClientsByTag(String definitionPath, String outPath, Filter filter, boolean nullable,
+                                     boolean isResource)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        Path srcPath = Paths.get(outPath);
+        String packageName = getPackageName(srcPath);
+        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(Paths.get(definitionPath), !isResource);
+        addHttpConfigurations(openAPIDef);
+        addConstraintMode(openAPIDef);
+        Map<String, String> tagModules = getTagModules(openAPIDef, filter.getTags());
+        if (tagModules.isEmpty()) {
+            throw new BallerinaOpenApiException("OpenAPI definition does not have operations with the given tags to " +
+                    "generate the clients: " + definitionPath);
+        }
+        //Take default DO NOT modify
+        licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
+
+        // Generate ballerina records to represent schemas, once for all the clients.
+        SyntaxTree typesSyntaxTree = parseSource(Formatter.format(
+                new BallerinaTypesGenerator(openAPIDef, nullable).generateSyntaxTree()).toString());
+        TypeReferenceIndex typeReferenceIndex = new TypeReferenceIndex(typesSyntaxTree);
+
+        // The workers are scoped to this generation, hence they do not outlive it
+        ExecutorService clientGenerators = Executors.newFixedThreadPool(
+                Math.min(tagModules.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "openapi-client-generator");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        List<TagClient> tagClients = new ArrayList<>();
+        try {
+            List<CompletableFuture<TagClient>> futureClients = new ArrayList<>();
+            for (Map.Entry<String, String> tagModule : tagModules.entrySet()) {
+                futureClients.add(CompletableFuture.supplyAsync(() -> generateTagClient(openAPIDef,
+                        tagModule.getKey(), tagModule.getValue(), nullable, isResource, typeReferenceIndex),
+                        clientGenerators));
+            }
+            for (CompletableFuture<TagClient> futureClient : futureClients) {
+                try {
+                    tagClients.add(futureClient.join());
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof BallerinaOpenApiException) {
+                        throw (BallerinaOpenApiException) e.getCause();
+                    } else if (e.getCause() instanceof IOException) {
+                        throw (IOException) e.getCause();
+                    } else if (e.getCause() instanceof FormatterException) {
+                        throw (FormatterException) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            clientGenerators.shutdownNow();
+        }
+
+        // Types used by more than one client, and the types used by those, are shared in the common module
+        Map<String, Integer> typeUsages = new HashMap<>();
+        for (TagClient tagClient : tagClients) {
+            tagClient.types.forEach(typeName -> typeUsages.merge(typeName, 1, Integer::sum));
+        }
+        Set<String> sharedTypes = typeReferenceIndex.getReachableTypes(typeUsages.entrySet().stream()
+                .filter(typeUsage -> typeUsage.getValue() > 1)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList()));
+        // Client configuration records do not depend on the tags, hence those of the first client are shared
+        List<TypeDefinitionNode> commonTypeDefinitions = new ArrayList<>(tagClients.get(0).configTypes);
+        commonTypeDefinitions.addAll(typeReferenceIndex.getTypeDefinitions(sharedTypes));
+        Set<String> commonTypes = new HashSet<>(sharedTypes);
+        commonTypeDefinitions.forEach(typeDefinition -> commonTypes.add(typeDefinition.typeName().text()));
+
+        ModulePartNode typesModulePartNode = typesSyntaxTree.rootNode();
+        List<ImportDeclarationNode> typeImports = new ArrayList<>();
+        typesModulePartNode.imports().forEach(typeImports::add);
+        // Inline types of the clients may use these modules, even when the types of the schemas do not use those
+        typeImports.add(NodeParser.parseImportDeclaration("import " + BALLERINA + "/" + HTTP + ";"));
+        typeImports.add(NodeParser.parseImportDeclaration("import " + BALLERINA + "/" + CONSTRAINT + ";"));
+        String commonImport = "import " + packageName + "." + COMMON_MODULE + ";";
+
+        Map<String, List<GenSrcFile>> modules = new LinkedHashMap<>();
+        if (!commonTypeDefinitions.isEmpty()) {
+            modules.put(COMMON_MODULE, List.of(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, COMMON_MODULE,
+                    TYPE_FILE_NAME, licenseHeader + generateTypesModule(typeImports, commonTypeDefinitions,
+                    Collections.emptySet(), commonImport))));
+        }
+        for (TagClient tagClient : tagClients) {
+            List<GenSrcFile> sourceFiles = new ArrayList<>();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, tagClient.moduleName, CLIENT_FILE_NAME,
+                    licenseHeader + qualifyCommonTypes(tagClient.clientContent, commonTypes, commonImport)));
+            if (!tagClient.utilContent.isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, tagClient.moduleName,
+                        UTIL_FILE_NAME, licenseHeader + tagClient.utilContent));
+            }
+            Set<String> moduleTypes = new LinkedHashSet<>(tagClient.types);
+            moduleTypes.removeAll(commonTypes);
+            List<ModuleMemberDeclarationNode> typeDefinitions = new ArrayList<>(tagClient.inlineTypes);
+            typeDefinitions.addAll(typeReferenceIndex.getTypeDefinitions(moduleTypes));
+            if (!typeDefinitions.isEmpty()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, tagClient.moduleName,
+                        TYPE_FILE_NAME, licenseHeader + generateTypesModule(typeImports, typeDefinitions,
+                        commonTypes, commonImport)));
+            }
+            modules.put(tagClient.moduleName, sourceFiles);
+        }
+        writeGeneratedModules(modules, srcPath);
+    }
+
+    /**
+     * Generate the client of the given tag, and find the types used by the client from the given index. This runs
+     * concurrently with the clients of the other tags, hence the given definition is only read.
+     */
+    private TagClient generateTagClient(OpenAPI openAPI, String tag, String moduleName, boolean nullable,
+                                        boolean isResource, TypeReferenceIndex typeReferenceIndex) {
+        try {
+            OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                    .withFilters(new Filter(List.of(tag), List.of()))
+                    .withNullable(nullable)
+                    .withPlugin(false)
+                    .withOpenAPI(openAPI)
+                    .withResourceMode(isResource)
+                    .withSharedConnector(sharedConnector)
+                    .build();
+            BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toString();
+            String utilContent = Formatter.format(
+                    clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
+            ModulePartNode inlineTypesModulePartNode = parseSource(
+                    formatModule(clientGenerator.getTypeDefinitionNodeList())).rootNode();
+
+            Set<String> referencedNames = new HashSet<>(
+                    TypeReferenceIndex.getReferencedNames(parseSource(clientContent).rootNode()));
+            referencedNames.addAll(TypeReferenceIndex.getReferencedNames(inlineTypesModulePartNode));
+            return new TagClient(moduleName, clientContent, utilContent,
+                    inlineTypesModulePartNode.members().stream().collect(Collectors.toList()),
+                    clientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes(),
+                    typeReferenceIndex.getReachableTypes(referencedNames));
+        } catch (BallerinaOpenApiException | IOException | FormatterException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Returns the module names of the tags of the operations, in the order of the operations. Operations without
+     * tags are not generated, hence those are reported.
+     */
+    private static Map<String, String> getTagModules(OpenAPI openAPI, List<String> filterTags) {
+        Map<String, String> tagModules = new LinkedHashMap<>();
+        Set<String> moduleNames = new HashSet<>();
+        moduleNames.add(COMMON_MODULE);
+        List<String> untaggedOperations = new ArrayList<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap()
+                        .entrySet()) {
+                    List<String> tags = operation.getValue().getTags();
+                    if (tags == null || tags.isEmpty()) {
+                        untaggedOperations.add(operation.getValue().getOperationId() != null ?
+                                operation.getValue().getOperationId() :
+                                operation.getKey().name().toLowerCase(Locale.ENGLISH) + " " + path.getKey());
+                        continue;
+                    }
+                    for (String tag : tags) {
+                        if ((filterTags.isEmpty() || filterTags.contains(tag)) && !tagModules.containsKey(tag)) {
+                            tagModules.put(tag, getModuleName(tag, moduleNames));
+                        }
+                    }
+                }
+            }
+        }
+        if (!untaggedOperations.isEmpty()) {
+            outStream.println("WARNING: Following operations do not have tags, hence those are not generated to " +
+                    "the client modules.");
+            untaggedOperations.forEach(operation -> outStream.println("-- " + operation));
+        }
+        return tagModules;
+    }
+
+    /**
+     * Returns a valid module name for the given tag, which is not used by the other modules.
+     */
+    private static String getModuleName(String tag, Set<String> moduleNames) {
+        String moduleName = tag.trim().toLowerCase(Locale.ENGLISH).replaceAll("[^a-z0-9]+", "_")
+                .replaceAll("^_+|_+$", "");
+        if (moduleName.isEmpty()) {
+            moduleName = "tag";
+        } else if (!Character.isLetter(moduleName.charAt(0))) {
+            moduleName = "tag_" + moduleName;
+        }
+        String uniqueName = moduleName;
+        for (int i = 1; !moduleNames.add(uniqueName); i++) {
+            uniqueName = moduleName + "_" + i;
+        }
+        return uniqueName;
+    }
+
+    /**
+     * Returns the name of the Ballerina package at the given path, which is needed to import the common module. The
+     * name is taken from the `[package]` table of the `Ballerina.toml`, as the other tables may have names too.
+     */
+    private static String getPackageName(Path srcPath) throws IOException, BallerinaOpenApiException {
+        Path tomlPath = srcPath.resolve(BALLERINA_TOML);
+        if (Files.notExists(tomlPath)) {
+            throw new BallerinaOpenApiException("Clients are generated as the modules of a Ballerina package, " +
+                    "hence the output path must be a Ballerina package: " + srcPath);
+        }
+        boolean isPackageTable = false;
+        for (String line : Files.readAllLines(tomlPath)) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.startsWith("[")) {
+                // Array tables, e.g. `[[dependency]]`, do not match the pattern
+                Matcher tableMatcher = TOML_TABLE_PATTERN.matcher(trimmedLine);
+                isPackageTable = tableMatcher.matches() && tableMatcher.group(1).equals("package");
+            } else if (isPackageTable) {
+                Matcher nameMatcher = PACKAGE_NAME_PATTERN.matcher(trimmedLine);
+                if (nameMatcher.find()) {
+                    return nameMatcher.group(1);
+                }
+            }
+        }
+        throw new BallerinaOpenApiException("Package name is not found in the `[package]` table of the " + tomlPath);
+    }
+
+    /**
+     * Generate the types module of the given type definitions, with the imports used by those.
+     */
+    private static String generateTypesModule(List<ImportDeclarationNode> imports,
+                                              List<? extends ModuleMemberDeclarationNode> typeDefinitions,
+                                              Set<String> commonTypes, String commonImport)
+            throws FormatterException {
+        String typesContent = formatModule(typeDefinitions);
+        Set<String> modulePrefixes = TypeReferenceIndex.getModulePrefixes(parseSource(typesContent).rootNode());
+        StringBuilder usedImports = new StringBuilder();
+        for (ImportDeclarationNode importNode : imports) {
+            String modulePrefix = importNode.prefix().isPresent() ? importNode.prefix().get().prefix().text() :
+                    importNode.moduleName().get(importNode.moduleName().size() - 1).text();
+            // Prefix is removed once imported, hence the duplicated imports are skipped
+            if (modulePrefixes.remove(modulePrefix)) {
+                usedImports.append(importNode.toSourceCode().trim()).append(System.lineSeparator());
+            }
+        }
+        if (usedImports.length() > 0) {
+            typesContent = Formatter.format(usedImports + typesContent);
+        }
+        return qualifyCommonTypes(typesContent, commonTypes, commonImport);
+    }
+
+    /**
+     * Qualify the references to the types of the common module in the given source, and import the common module
+     * if there are such references.
+     */
+    private static String qualifyCommonTypes(String source, Set<String> commonTypes, String commonImport)
+            throws FormatterException {
+        if (commonTypes.isEmpty()) {
+            return source;
+        }
+        String qualifiedSource = TypeReferenceIndex.qualifyReferences(parseSource(source), commonTypes,
+                COMMON_MODULE);
+        if (qualifiedSource.equals(source)) {
+            return source;
+        }
+        return Formatter.format(commonImport + System.lineSeparator() + qualifiedSource);
+    }
+
+    private static String formatModule(List<? extends ModuleMemberDeclarationNode> members)
+            throws FormatterException {
+        ModulePartNode modulePartNode = NodeFactory.createModulePartNode(AbstractNodeFactory.createEmptyNodeList(),
+                AbstractNodeFactory.createNodeList(members.toArray(new ModuleMemberDeclarationNode[0])),
+                AbstractNodeFactory.createToken(SyntaxKind.EOF_TOKEN));
+        return Formatter.format(SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode)).toString();
+    }
+
+    private static SyntaxTree parseSource(String source) {
+        return SyntaxTree.from(TextDocuments.from(source));
+    }
+
+    private void writeGeneratedModules(Map<String, List<GenSrcFile>> modules, Path srcPath) throws IOException {
+        //  Existing files of the modules are overridden or kept, as the files of a single client are
+        for (Map.Entry<String, List<GenSrcFile>> module : modules.entrySet()) {
+            File[] files = srcPath.resolve(MODULES_DIR).resolve(module.getKey()).toFile().listFiles();
+            if (files != null) {
+                handleExistingFiles(Arrays.asList(files), module.getValue());
+            }
+        }
+        for (Map.Entry<String, List<GenSrcFile>> module : modules.entrySet()) {
+            Path modulePath = srcPath.resolve(MODULES_DIR).resolve(module.getKey());
+            Files.createDirectories(modulePath);
+            for (GenSrcFile file : module.getValue()) {
+                CodegenUtils.writeFile(modulePath.resolve(file.getFileName()), file.getContent());
+            }
+        }
+        //This will print the generated files to the console
+        outStream.println("Client generated successfully.");
+        outStream.println("Following files were created.");
+        for (Map.Entry<String, List<GenSrcFile>> module : modules.entrySet()) {
+            for (GenSrcFile file : module.getValue()) {
+                outStream.println("-- " + MODULES_DIR + OAS_PATH_SEPARATOR + module.getKey() + OAS_PATH_SEPARATOR +
+                        file.getFileName());
+            }
+        }
+    }
+
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
      * Generated source will be written to a ballerina module at {@code outPath}
@@ -245,6 +614,27 @@ public class BallerinaCodeGenerator {
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_SERVICE);
     }
 
+    /**
+     * Prompts whether to override the existing files of the given sources, and renames the sources which are not to
+     * override those files, e.g. `client.bal` is generated as `client.1.bal`.
+     */
+    private static void handleExistingFiles(List<File> listFiles, List<GenSrcFile> sources) {
+        for (File file : listFiles) {
+            for (GenSrcFile gFile : sources) {
+                if (file.getName().equals(gFile.getFileName())) {
+                    if (System.console() != null) {
+                        String userInput = System.console().readLine("There is already a/an " + file.getName() +
+                                " in the location. Do you want to override the file? [y/N] ");
+                        if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
+                            int duplicateCount = 0;
+                            setGeneratedFileName(listFiles, gFile, duplicateCount);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
                                        CmdConstants.GenType type)
             throws IOException {
@@ -265,20 +655,7 @@ public class BallerinaCodeGenerator {
             }
         }
 
-        for (File file : listFiles) {
-            for (GenSrcFile gFile : sources) {
-                if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
-                        String userInput = System.console().readLine("There is already a/an " + file.getName() +
-                                " in the location. Do you want to override the file? [y/N] ");
-                        if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
-                            int duplicateCount = 0;
-                            setGeneratedFileName(listFiles, gFile, duplicateCount);
-                        }
-                    }
-                }
-            }
-        }
+        handleExistingFiles(listFiles, sources);
 
         for (GenSrcFile file : sources) {
             Path filePath;
@@ -293,9 +670,10 @@ public class BallerinaCodeGenerator {
                 }
             } else {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
-                        file.getFileName().matches("Config.+[0-9]+.toml");
+                        file.getFileName().matches("Config.+[0-9]+.toml") ||
+                        file.getFileName().matches("benchmark.+[0-9]+.bal");
                 if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
-                        isDuplicatedFileInTests) {
+                        file.getFileName().equals(BENCHMARK_FILE_NAME) || isDuplicatedFileInTests) {
                     // Create test directory if not exists in the path. If exists do not throw an error
                     Files.createDirectories(Paths.get(srcPath + OAS_PATH_SEPARATOR + TEST_DIR));
                     filePath = Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
@@ -336,6 +714,8 @@ public class BallerinaCodeGenerator {
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         // Normalize OpenAPI definition
         OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource);
+        addHttpConfigurations(openAPIDef);
+        addConstraintMode(openAPIDef);
         // Generate ballerina service and resources.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
@@ -344,11 +724,13 @@ public class BallerinaCodeGenerator {
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
                 .withResourceMode(isResource)
+                .withSharedConnector(sharedConnector)
                 .build();
         //Take default DO NOT modify
         licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String mainContent = Formatter.format(clientSyntaxTree).toString();
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
                 licenseHeader + mainContent));
         String utilContent = Formatter.format(
@@ -390,6 +772,15 @@ public class BallerinaCodeGenerator {
             }
         }
 
+        // Generate benchmark harness for the client operations
+        if (this.includeBenchmark) {
+            BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(
+                    ballerinaClientGenerator, clientSyntaxTree);
+            String benchmarkContent = Formatter.format(benchmarkGenerator.generateSyntaxTree()).toString();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, BENCHMARK_FILE_NAME,
+                    licenseHeader + benchmarkContent));
+        }
+
         return sourceFiles;
     }
 
@@ -405,6 +796,7 @@ public class BallerinaCodeGenerator {
             throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
                     openAPI);
         }
+        addConstraintMode(openAPIDef);
 
         if (openAPIDef.getInfo().getTitle().isBlank() && (serviceName == null || serviceName.isBlank())) {
             openAPIDef.getInfo().setTitle(UNTITLED_SERVICE);
@@ -422,6 +814,7 @@ public class BallerinaCodeGenerator {
                 .withFilters(filter)
                 .withNullable(nullable)
                 .withGenerateServiceType(generateServiceType)
+                .withMockService(mockService)
                 .build();
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
         String mainContent = Formatter.format(ballerinaServiceGenerator.generateSyntaxTree()).toString();
@@ -465,4 +858,117 @@ public class BallerinaCodeGenerator {
     public void setIncludeTestFiles(boolean includeTestFiles) {
         this.includeTestFiles = includeTestFiles;
     }
+
+    /**
+     * Set whether to generate the benchmark harness of the client operations.
+     *
+     * @param includeBenchmark value received from command line by "--with-benchmark"
+     */
+    public void setIncludeBenchmark(boolean includeBenchmark) {
+        this.includeBenchmark = includeBenchmark;
+    }
+
+    /**
+     * Set the mode of generating the constraints of the types.
+     *
+     * @param constraintMode value received from command line by "--constraint-mode"
+     */
+    public void setConstraintMode(ConstraintMode constraintMode) {
+        this.constraintMode = constraintMode;
+    }
+
+    /**
+     * Set whether to generate a mock service, which returns the examples of the responses.
+     *
+     * @param mockService value received from command line by "--mode mock"
+     */
+    public void setMockService(boolean mockService) {
+        this.mockService = mockService;
+    }
+
+    /**
+     * Set whether the generated client accepts an `http:Client` shared with the other clients of the service.
+     *
+     * @param sharedConnector value received from command line by "--shared-connector"
+     */
+    public void setSharedConnector(boolean sharedConnector) {
+        this.sharedConnector = sharedConnector;
+    }
+
+    /**
+     * Set the HTTP client configurations given in the command line, which override the values of the
+     * `x-ballerina-http-configurations` extension of the OpenAPI definition.
+     *
+     * @param httpConfigurations client configurations received from command line, e.g. "--client-timeout"
+     */
+    public void setHttpConfigurations(Map<String, Object> httpConfigurations) {
+        this.httpConfigurations = httpConfigurations;
+    }
+
+    /**
+     * Merge the HTTP client configurations given in the command line to the `x-ballerina-http-configurations`
+     * extension of the given OpenAPI definition.
+     */
+    private void addHttpConfigurations(OpenAPI openAPI) {
+        if (httpConfigurations.isEmpty()) {
+            return;
+        }
+        Map<String, Object> extFields = new LinkedHashMap<>();
+        if (openAPI.getExtensions() != null &&
+                openAPI.getExtensions().get(X_BALLERINA_HTTP_CONFIGURATIONS) instanceof Map) {
+            ((Map<?, ?>) openAPI.getExtensions().get(X_BALLERINA_HTTP_CONFIGURATIONS))
+                    .forEach((key, value) -> extFields.put(key.toString(), value));
+        }
+        for (Map.Entry<String, Object> configuration : httpConfigurations.entrySet()) {
+            Object currentValue = extFields.get(configuration.getKey());
+            if (configuration.getValue() instanceof Map && currentValue instanceof Map) {
+                Map<Object, Object> fields = new LinkedHashMap<>((Map<?, ?>) currentValue);
+                fields.putAll((Map<?, ?>) configuration.getValue());
+                extFields.put(configuration.getKey(), fields);
+            } else {
+                extFields.put(configuration.getKey(), configuration.getValue());
+            }
+        }
+        openAPI.addExtension(X_BALLERINA_HTTP_CONFIGURATIONS, extFields);
+    }
+
+    /**
+     * Set the constraint mode given in the command line as the `x-ballerina-constraint-mode` extension of the
+     * definition, which overrides the mode given in the definition, and print the number of the constrained fields
+     * validated for each operation in that mode.
+     */
+    private void addConstraintMode(OpenAPI openAPI) {
+        if (constraintMode == null) {
+            return;
+        }
+        openAPI.addExtension(X_BALLERINA_CONSTRAINT_MODE, constraintMode.getValue());
+        Map<String, Integer> fieldCounts = new ConstraintAnalyzer(openAPI, constraintMode)
+                .getConstrainedFieldCounts();
+        outStream.println("Constrained fields of the operation payloads in the `" + constraintMode.getValue() +
+                "` constraint mode:");
+        fieldCounts.forEach((operation, fieldCount) -> outStream.println("-- " + operation + " : " + fieldCount));
+    }
+
+    /**
+     * Client of a tag, with the types used by the client.
+     */
+    private static class TagClient {
+        private final String moduleName;
+        private final String clientContent;
+        private final String utilContent;
+        private final List<ModuleMemberDeclarationNode> inlineTypes;
+        private final List<TypeDefinitionNode> configTypes;
+        private final Set<String> types;
+
+        TagClient(String moduleName, String clientContent, String utilContent,
+                  List<ModuleMemberDeclarationNode> inlineTypes, List<TypeDefinitionNode> configTypes,
+                  Set<String> types) {
+            this.moduleName = moduleName;
+            this.clientContent = clientContent;
+            this.utilContent = utilContent;
+            this.inlineTypes = inlineTypes;
+            this.configTypes = configTypes;
+            this.types = types;
+        }
+    }
 }
@@ -30,6 +30,8 @@ public class CmdConstants {
     public static final String RESOURCE = "resource";
     public static final String REMOTE = "remote";
     public static final String SERVICE = "service";
+    public static final String MOCK = "mock";
+    public static final String CLIENT = "client";
 
     /**
      * Enum to select the code generation mode.
@@ -80,6 +82,7 @@ public class CmdConstants {
     public static final String CLIENT_FILE_NAME = "client.bal";
     public static final String UTIL_FILE_NAME = "utils.bal";
     public static final String TEST_FILE_NAME = "test.bal";
+    public static final String BENCHMARK_FILE_NAME = "benchmark.bal";
     public static final String SERVICE_FILE_NAME = "service.bal";
     public static final String CONFIG_FILE_NAME = "Config.toml";
     public static final String BALLERINA_TOML = "Ballerina.toml";
@@ -96,6 +99,8 @@ public class CmdConstants {
     public static final String HTTP = "http";
     public static final String URL = "url";
     public static final String TEST_DIR = "tests";
+    public static final String MODULES_DIR = "modules";
+    public static final String COMMON_MODULE = "common";
     public static final String STRING = "string";
     public static final String XML = "xml";
     public static final String JSON = "json";
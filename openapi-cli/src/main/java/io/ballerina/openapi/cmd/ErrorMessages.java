@@ -30,6 +30,17 @@ public class ErrorMessages {
     public static final String MISSING_CONTRACT_PATH = "An OpenAPI definition path is required to generate the " +
             "service. \ne.g: bal openapi --input <OpenAPIContract> or <Ballerina file>";
 
+    public static final String CLIENT_CONFIGURATION_OPTIONS = "'--client-timeout', '--client-compression', " +
+            "'--client-keep-alive', '--client-max-active-connections', '--client-max-idle-connections', " +
+            "'--client-http2-prior-knowledge' and '--client-cache-capacity' options are only available in client " +
+            "generation mode.";
+
+    public static final String SHARED_CONNECTOR_OPTION = "'--shared-connector' option is only available in client " +
+            "generation mode.";
+
+    public static final String FORMAT_OPTION = "'--format' option is only available when generating an OpenAPI " +
+            "contract from a Ballerina service.";
+
     private ErrorMessages() {
         throw new AssertionError();
     }
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+import io.ballerina.openapi.converter.model.OASFormat;
 import io.ballerina.openapi.converter.model.OASResult;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
@@ -45,6 +46,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+import static io.ballerina.openapi.converter.Constants.GZIP_EXTENSION;
 import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
 
 /**
@@ -80,6 +82,21 @@ public class OASContractGenerator {
      */
     public void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, String serviceName,
                                                   Boolean needJson) {
+        generateOAS3DefinitionsAllService(servicePath, outPath, serviceName,
+                needJson ? OASFormat.JSON : OASFormat.YAML);
+    }
+
+    /**
+     * This util for generating OAS files in the given output format.
+     *
+     * @param servicePath The path to a single ballerina file.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     * @param format      Output format of the generated OpenAPI specifications.
+     */
+    public void generateOAS3DefinitionsAllService(Path servicePath, Path outPath, String serviceName,
+                                                  OASFormat format) {
+        boolean needJson = format.isJson();
         // Load project instance for single ballerina file
         project = ProjectLoader.loadProject(servicePath);
         DiagnosticResult diagnosticsFromCodeGenAndModify = project.currentPackage().runCodeGenAndModifyPlugins();
@@ -121,14 +138,12 @@ public class OASContractGenerator {
                 try {
                     this.errors.addAll(definition.getDiagnostics());
                     if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
+                        String contractName = definition.getServiceName();
+                        if (format.isCompressed()) {
+                            contractName = contractName + GZIP_EXTENSION;
                         }
-                        String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                        CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
+                        String fileName = resolveContractFileName(outPath, contractName, needJson);
+                        CodegenUtils.writeContract(outPath.resolve(fileName), definition.getOpenAPI().get(), format);
                         fileNames.add(fileName);
                     }
                 } catch (IOException e) {
@@ -22,7 +22,9 @@ import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+import io.ballerina.openapi.converter.model.OASFormat;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.ConstraintMode;
 import io.ballerina.openapi.core.model.Filter;
 import org.ballerinalang.formatter.core.FormatterException;
 import picocli.CommandLine;
@@ -33,22 +35,36 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.cmd.CmdConstants.BAL_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.MOCK;
 import static io.ballerina.openapi.cmd.CmdConstants.REMOTE;
 import static io.ballerina.openapi.cmd.CmdConstants.RESOURCE;
 import static io.ballerina.openapi.cmd.CmdConstants.SERVICE;
 import static io.ballerina.openapi.cmd.CmdConstants.YAML_EXTENSION;
 import static io.ballerina.openapi.cmd.CmdConstants.YML_EXTENSION;
+import static io.ballerina.openapi.core.GeneratorConstants.CACHE_CONFIG_FIELD;
+import static io.ballerina.openapi.core.GeneratorConstants.COMPRESSION_FIELD;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP2_SETTINGS_FIELD;
+import static io.ballerina.openapi.core.GeneratorConstants.KEEP_ALIVE;
+import static io.ballerina.openapi.core.GeneratorConstants.POOL_CONFIG_FIELD;
+import static io.ballerina.openapi.core.GeneratorConstants.TIMEOUT_FIELD;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 
 /**
@@ -61,6 +77,7 @@ import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 )
 public class OpenApiCmd implements BLauncherCmd {
     private static final String CMD_NAME = "openapi";
+    private static final Set<String> HTTP_OPTION_VALUES = Set.of("AUTO", "ALWAYS", "NEVER");
     private PrintStream outStream;
     private Path executionPath = Paths.get(System.getProperty("user.dir"));
     private Path targetOutputPath;
@@ -80,8 +97,8 @@ public class OpenApiCmd implements BLauncherCmd {
             "client and model files.")
     private String outputPath;
 
-    @CommandLine.Option(names = {"--mode"}, description = "Generate only service file or client file according to the" +
-            " given mode type")
+    @CommandLine.Option(names = {"--mode"}, description = "Generate only service file, mock service file or client " +
+            "file according to the given mode type")
     private String mode;
 
     @CommandLine.Option(names = {"-n", "--nullable"}, description = "Generate the code by setting nullable true")
@@ -103,9 +120,17 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--json"}, description = "Generate json file")
     private boolean generatedFileType;
 
+    @CommandLine.Option(names = {"--format"}, description = "Format of the generated OpenAPI contract. Only " +
+            "\"yaml\", \"json\", \"json-min\" and \"json-gz\" options are supported.")
+    private String format;
+
     @CommandLine.Option(names = {"--with-tests"}, hidden = true, description = "Generate test files")
     private boolean includeTestFiles;
 
+    @CommandLine.Option(names = {"--with-benchmark"}, hidden = true, description = "Generate the benchmark harness " +
+            "of the client operations")
+    private boolean includeBenchmark;
+
     @CommandLine.Option(names = {"--client-methods"}, hidden = true, description = "Generate the client methods" +
             " with provided type . Only \"resource\"(default) and \"remote\" options are supported.")
     private String generateClientMethods;
@@ -113,6 +138,46 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--with-service-type"}, hidden = true, description = "Generate service type")
     private boolean generateServiceType;
 
+    @CommandLine.Option(names = {"--client-timeout"}, description = "Default time (in seconds) that the generated " +
+            "client waits for a response")
+    private BigDecimal clientTimeout;
+
+    @CommandLine.Option(names = {"--client-compression"}, description = "Default compression behaviour of the " +
+            "generated client. Only \"AUTO\", \"ALWAYS\" and \"NEVER\" options are supported.")
+    private String clientCompression;
+
+    @CommandLine.Option(names = {"--client-keep-alive"}, description = "Default keep-alive behaviour of the " +
+            "generated client. Only \"AUTO\", \"ALWAYS\" and \"NEVER\" options are supported.")
+    private String clientKeepAlive;
+
+    @CommandLine.Option(names = {"--client-max-active-connections"}, description = "Default maximum number of " +
+            "active connections in the connection pool of the generated client")
+    private Integer clientMaxActiveConnections;
+
+    @CommandLine.Option(names = {"--client-max-idle-connections"}, description = "Default maximum number of idle " +
+            "connections in the connection pool of the generated client")
+    private Integer clientMaxIdleConnections;
+
+    @CommandLine.Option(names = {"--client-http2-prior-knowledge"}, description = "Generate the client to use " +
+            "HTTP/2 without the upgrade from HTTP/1.1 by default")
+    private boolean clientHttp2PriorKnowledge;
+
+    @CommandLine.Option(names = {"--client-cache-capacity"}, description = "Default capacity of the response " +
+            "cache of the generated client")
+    private Integer clientCacheCapacity;
+
+    @CommandLine.Option(names = {"--constraint-mode"}, description = "Constraints generated for the types, which " +
+            "can be `full`(default), `top-level`, `request-only` or `none`")
+    private String constraintMode;
+
+    @CommandLine.Option(names = {"--shared-connector"}, description = "Generate the client to accept an " +
+            "`http:Client` shared with the other clients of the service")
+    private boolean sharedConnector;
+
+    @CommandLine.Option(names = {"--split-by-tag"}, description = "Generate a client module for each tag of the " +
+            "operations, with a common module for the types shared by the clients")
+    private boolean splitByTag;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -177,11 +242,61 @@ public class OpenApiCmd implements BLauncherCmd {
                 clientResourceMode = generateClientMethods == null || generateClientMethods.isBlank() ||
                         (!generateClientMethods.equals(REMOTE));
                 
-                if (!clientResourceMode && mode != null && mode.equals(SERVICE)) {
+                if (!clientResourceMode && mode != null && (mode.equals(SERVICE) || mode.equals(MOCK))) {
                     // Exit the code generation process
                     outStream.println("'--client-methods' option is only available in client generation mode.");
                     exitError(this.exitWhenFinish);
                 }
+                if (clientTimeout != null && clientTimeout.signum() < 0) {
+                    // Exit the code generation process
+                    outStream.println("'--client-timeout' option only supports non-negative values.");
+                    exitError(this.exitWhenFinish);
+                }
+                if (!isHttpOptionValue(clientCompression) || !isHttpOptionValue(clientKeepAlive)) {
+                    // Exit the code generation process
+                    outStream.println("'--client-compression' and '--client-keep-alive' options only support " +
+                            "`AUTO`, `ALWAYS` or `NEVER` options.");
+                    exitError(this.exitWhenFinish);
+                }
+                if (isNegative(clientMaxActiveConnections) || isNegative(clientMaxIdleConnections) ||
+                        isNegative(clientCacheCapacity)) {
+                    // Exit the code generation process
+                    outStream.println("'--client-max-active-connections', '--client-max-idle-connections' and " +
+                            "'--client-cache-capacity' options only support non-negative values.");
+                    exitError(this.exitWhenFinish);
+                }
+                if (!getHttpConfigurations().isEmpty() && mode != null && (mode.equals(SERVICE) ||
+                        mode.equals(MOCK))) {
+                    // Exit the code generation process
+                    outStream.println(ErrorMessages.CLIENT_CONFIGURATION_OPTIONS);
+                    exitError(this.exitWhenFinish);
+                }
+                if (sharedConnector && mode != null && (mode.equals(SERVICE) || mode.equals(MOCK))) {
+                    // Exit the code generation process
+                    outStream.println(ErrorMessages.SHARED_CONNECTOR_OPTION);
+                    exitError(this.exitWhenFinish);
+                }
+                if (splitByTag && (mode == null || !mode.equals(CLIENT))) {
+                    // Exit the code generation process
+                    outStream.println("'--split-by-tag' option is only available in client generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+                if (splitByTag && operations != null) {
+                    // Exit the code generation process
+                    outStream.println("'--split-by-tag' option cannot be used with the '--operations' option.");
+                    exitError(this.exitWhenFinish);
+                }
+                if (format != null) {
+                    // Exit the code generation process
+                    outStream.println(ErrorMessages.FORMAT_OPTION);
+                    exitError(this.exitWhenFinish);
+                }
+                if (constraintMode != null && ConstraintMode.fromValue(constraintMode).isEmpty()) {
+                    // Exit the code generation process
+                    outStream.println("'--constraint-mode' only supports `full`, `top-level`, `request-only` or " +
+                            "`none` options.");
+                    exitError(this.exitWhenFinish);
+                }
                 try {
                     openApiToBallerina(fileName, filter);
                 } catch (IOException e) {
@@ -195,6 +310,21 @@ public class OpenApiCmd implements BLauncherCmd {
                     outStream.println("'--client-methods' option is only available in client generation mode.");
                     exitError(this.exitWhenFinish);
                 }
+                if (!getHttpConfigurations().isEmpty()) {
+                    // Exit the code generation process
+                    outStream.println(ErrorMessages.CLIENT_CONFIGURATION_OPTIONS);
+                    exitError(this.exitWhenFinish);
+                }
+                if (sharedConnector) {
+                    // Exit the code generation process
+                    outStream.println(ErrorMessages.SHARED_CONNECTOR_OPTION);
+                    exitError(this.exitWhenFinish);
+                }
+                if (generatedFileType && format != null) {
+                    // Exit the code generation process
+                    outStream.println("'--json' option cannot be used with the '--format' option.");
+                    exitError(this.exitWhenFinish);
+                }
                 ballerinaToOpenApi(fileName);
             } else {
                 outStream.println(ErrorMessages.MISSING_CONTRACT_PATH);
@@ -228,11 +358,21 @@ public class OpenApiCmd implements BLauncherCmd {
                     message.getDescription(), null,  e.getLocalizedMessage());
             errors.add(error);
         }
+        OASFormat contractFormat = generatedFileType ? OASFormat.JSON : OASFormat.YAML;
+        if (format != null) {
+            Optional<OASFormat> givenFormat = OASFormat.fromName(format);
+            if (givenFormat.isEmpty()) {
+                outStream.println("'--format' only supports `yaml`, `json`, `json-min` or `json-gz` options.");
+                exitError(this.exitWhenFinish);
+                return;
+            }
+            contractFormat = givenFormat.get();
+        }
         getTargetOutputPath();
         // Check service name it is mandatory
         OASContractGenerator openApiConverter = new OASContractGenerator();
         openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
+                contractFormat);
         errors.addAll(openApiConverter.getErrors());
         if (!errors.isEmpty()) {
             for (OpenAPIConverterDiagnostic error: errors) {
@@ -264,6 +404,12 @@ public class OpenApiCmd implements BLauncherCmd {
         BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setIncludeBenchmark(this.includeBenchmark);
+        generator.setSharedConnector(this.sharedConnector);
+        generator.setHttpConfigurations(getHttpConfigurations());
+        if (constraintMode != null) {
+            ConstraintMode.fromValue(constraintMode).ifPresent(generator::setConstraintMode);
+        }
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -282,6 +428,10 @@ public class OpenApiCmd implements BLauncherCmd {
                 case "service":
                     generateServiceFile(generator, serviceName, resourcePath, filter);
                     break;
+                case "mock":
+                    generator.setMockService(true);
+                    generateServiceFile(generator, serviceName, resourcePath, filter);
+                    break;
                 case "client":
                     generatesClientFile(generator, resourcePath, filter, this.clientResourceMode);
                     break;
@@ -293,6 +443,52 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * Returns whether the given value of an HTTP client option is valid. The generator ignores the invalid values of
+     * the `x-ballerina-http-configurations` extension, hence the CLI options are validated before generation.
+     */
+    private static boolean isHttpOptionValue(String value) {
+        return value == null || HTTP_OPTION_VALUES.contains(value.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    private static boolean isNegative(Integer value) {
+        return value != null && value < 0;
+    }
+
+    /**
+     * This util is to collect the HTTP client configurations given in the command line, in the structure of the
+     * `x-ballerina-http-configurations` extension.
+     */
+    private Map<String, Object> getHttpConfigurations() {
+        Map<String, Object> httpConfigurations = new LinkedHashMap<>();
+        if (clientTimeout != null) {
+            httpConfigurations.put(TIMEOUT_FIELD, clientTimeout);
+        }
+        if (clientCompression != null) {
+            httpConfigurations.put(COMPRESSION_FIELD, clientCompression);
+        }
+        if (clientKeepAlive != null) {
+            httpConfigurations.put(KEEP_ALIVE, clientKeepAlive);
+        }
+        Map<String, Object> poolConfig = new LinkedHashMap<>();
+        if (clientMaxActiveConnections != null) {
+            poolConfig.put("maxActiveConnections", clientMaxActiveConnections);
+        }
+        if (clientMaxIdleConnections != null) {
+            poolConfig.put("maxIdleConnections", clientMaxIdleConnections);
+        }
+        if (!poolConfig.isEmpty()) {
+            httpConfigurations.put(POOL_CONFIG_FIELD, poolConfig);
+        }
+        if (clientHttp2PriorKnowledge) {
+            httpConfigurations.put(HTTP2_SETTINGS_FIELD, Map.of("http2PriorKnowledge", true));
+        }
+        if (clientCacheCapacity != null) {
+            httpConfigurations.put(CACHE_CONFIG_FIELD, Map.of("capacity", clientCacheCapacity));
+        }
+        return httpConfigurations;
+    }
+
     /**
      * This util is to take the resource Path.
      * 
@@ -355,8 +551,13 @@ public class OpenApiCmd implements BLauncherCmd {
     private void generatesClientFile(BallerinaCodeGenerator generator, Path resourcePath, Filter filter,
                                      boolean resourceMode) {
         try {
-            generator.generateClient(resourcePath.toString(), targetOutputPath.toString(), filter, nullable,
-                    resourceMode);
+            if (splitByTag) {
+                generator.generateClientsByTag(resourcePath.toString(), targetOutputPath.toString(), filter,
+                        nullable, resourceMode);
+            } else {
+                generator.generateClient(resourcePath.toString(), targetOutputPath.toString(), filter, nullable,
+                        resourceMode);
+            }
         } catch (IOException | FormatterException | BallerinaOpenApiException e) {
             if (e.getLocalizedMessage() != null) {
                 outStream.println(e.getLocalizedMessage());
@@ -32,11 +32,14 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -107,6 +110,39 @@ public class CodeGeneratorTest {
         }
     }
 
+    @Test(description = "Test the client configurations given in the command line override the values of the " +
+            "`x-ballerina-http-configurations` extension")
+    public void generateClientWithHttpConfigurations() {
+        String definitionPath = RES_DIR.resolve("generators/client/auth/scenarios/http_config_extension/" +
+                "petstore_with_client_configurations.yaml").toString();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        Map<String, Object> httpConfigurations = new LinkedHashMap<>();
+        httpConfigurations.put(GeneratorConstants.TIMEOUT_FIELD, new BigDecimal("15"));
+        httpConfigurations.put(GeneratorConstants.COMPRESSION_FIELD, "NEVER");
+        httpConfigurations.put(GeneratorConstants.KEEP_ALIVE, "AUTO");
+        httpConfigurations.put(GeneratorConstants.POOL_CONFIG_FIELD, Map.of("maxActiveConnections", 10));
+        httpConfigurations.put(GeneratorConstants.CACHE_CONFIG_FIELD, Map.of("capacity", 100));
+        generator.setHttpConfigurations(httpConfigurations);
+        try {
+            String expectedTypesContent = getStringFromGivenBalFile(expectedDirPath,
+                    "client_configurations_override.bal");
+            generator.generateClient(definitionPath, resourcePath.toString(), filter,
+                    false, false);
+            if (Files.exists(resourcePath.resolve("types.bal"))) {
+                String generatedTypes = getStringFromGivenBalFile(resourcePath, "types.bal");
+                generatedTypes = (generatedTypes.trim()).replaceAll("\\s+", "");
+                expectedTypesContent = (expectedTypesContent.trim()).replaceAll("\\s+", "");
+                Assert.assertTrue(generatedTypes.contains(expectedTypesContent));
+            } else {
+                Assert.fail("Types were not generated");
+            }
+        } catch (IOException | BallerinaOpenApiException | FormatterException e) {
+            Assert.fail("Error while generating the client. " + e.getMessage());
+        } finally {
+            deleteGeneratedFiles("client.bal");
+        }
+    }
+
     @Test(description = "Test Ballerina service skeleton generation for OAS 2.0")
     public void generateServiceForOAS2() {
         final String serviceName = "openapipetstore";
@@ -331,6 +367,111 @@ public class CodeGeneratorTest {
         }
     }
 
+    @Test(description = "Test Ballerina client modules generation for each tag")
+    public void generateClientsByTag() throws IOException {
+        String definitionPath = RES_DIR.resolve("petstore_tags.yaml").toString();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        Path packagePath = createPackage("petstore");
+        try {
+            generator.generateClientsByTag(definitionPath, packagePath.toString(), filter, false, false);
+            Path modulesPath = packagePath.resolve("modules");
+            Assert.assertTrue(Files.exists(modulesPath.resolve("pets").resolve(CLIENT_FILE_NAME)));
+            Assert.assertTrue(Files.exists(modulesPath.resolve("list").resolve(CLIENT_FILE_NAME)));
+
+            // `listPets` has the `pets` and the `list` tags, hence it is generated to both the clients
+            String petsClient = Files.readString(modulesPath.resolve("pets").resolve(CLIENT_FILE_NAME));
+            String listClient = Files.readString(modulesPath.resolve("list").resolve(CLIENT_FILE_NAME));
+            Assert.assertTrue(petsClient.contains("remote isolated function listPets("));
+            Assert.assertTrue(listClient.contains("remote isolated function listPets("));
+            Assert.assertFalse(listClient.contains("remote isolated function showPetById("));
+
+            // `Pets` is used by the `pets` and the `list` clients, hence it is shared with the `Pet` used by it
+            String commonTypes = Files.readString(modulesPath.resolve("common").resolve(TYPE_FILE_NAME));
+            Assert.assertTrue(commonTypes.contains("public type Pets Pet[];"));
+            Assert.assertTrue(commonTypes.contains("public type Pet record"));
+            Assert.assertTrue(commonTypes.contains("public type ConnectionConfig record"));
+            Assert.assertFalse(commonTypes.contains("public type Dog record"));
+
+            String dogsClient = Files.readString(modulesPath.resolve("dogs").resolve(CLIENT_FILE_NAME));
+            Assert.assertTrue(dogsClient.contains("import petstore.common;"));
+            Assert.assertTrue(dogsClient.contains("common:ConnectionConfig config"));
+            Assert.assertTrue(dogsClient.contains("common:ClientHttp1Settings settings"));
+            String dogsTypes = Files.readString(modulesPath.resolve("dogs").resolve(TYPE_FILE_NAME));
+            Assert.assertTrue(dogsTypes.contains("public type Dog record"));
+            Assert.assertTrue(dogsTypes.contains("*common:Pet;"));
+            Assert.assertTrue(TestUtils.getPackageErrors(packagePath).isEmpty());
+        } catch (BallerinaOpenApiException | FormatterException e) {
+            Assert.fail("Error while generating the client modules. " + e.getMessage());
+        } finally {
+            FileUtils.deleteDirectory(packagePath.toFile());
+        }
+    }
+
+    @Test(description = "Test Ballerina client modules generation for each tag with the resource methods")
+    public void generateResourceClientsByTag() throws IOException {
+        String definitionPath = RES_DIR.resolve("petstore_tags.yaml").toString();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        Path packagePath = createPackage("petstore");
+        try {
+            generator.generateClientsByTag(definitionPath, packagePath.toString(), filter, false, true);
+            Path modulesPath = packagePath.resolve("modules");
+            String petsClient = Files.readString(modulesPath.resolve("pets").resolve(CLIENT_FILE_NAME));
+            String listClient = Files.readString(modulesPath.resolve("list").resolve(CLIENT_FILE_NAME));
+            Assert.assertTrue(petsClient.contains("resource isolated function get pets("));
+            Assert.assertTrue(petsClient.contains("resource isolated function get pets/[string petId]()"));
+            Assert.assertTrue(listClient.contains("resource isolated function get pets("));
+            Assert.assertTrue(listClient.contains("returns common:Pets|error"));
+            Assert.assertTrue(TestUtils.getPackageErrors(packagePath).isEmpty());
+        } catch (BallerinaOpenApiException | FormatterException e) {
+            Assert.fail("Error while generating the client modules. " + e.getMessage());
+        } finally {
+            FileUtils.deleteDirectory(packagePath.toFile());
+        }
+    }
+
+    @Test(description = "Test Ballerina client modules generation for each tag with the API key and OAuth security")
+    public void generateClientsByTagWithAuth() throws IOException {
+        String definitionPath = RES_DIR.resolve("petstore_tags_with_auth.yaml").toString();
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        Path packagePath = createPackage("petstore_auth");
+        try {
+            generator.generateClientsByTag(definitionPath, packagePath.toString(), filter, false, true);
+            Path modulesPath = packagePath.resolve("modules");
+            // Auth configurations are shared by the clients, hence those are generated to the common module
+            String commonTypes = Files.readString(modulesPath.resolve("common").resolve(TYPE_FILE_NAME));
+            Assert.assertTrue(commonTypes.contains("public type ConnectionConfig record"));
+            Assert.assertTrue(commonTypes.contains("public type ClientHttp1Settings record"));
+            Assert.assertTrue(commonTypes.contains("public type ApiKeysConfig record"));
+            Assert.assertTrue(commonTypes.contains("public type Pet record"));
+            for (String module : List.of("pets", "owners")) {
+                String client = Files.readString(modulesPath.resolve(module).resolve(CLIENT_FILE_NAME));
+                Assert.assertTrue(client.contains("import petstore_auth.common;"));
+                Assert.assertTrue(client.contains("common:ConnectionConfig config"));
+                Assert.assertTrue(client.contains("config.http1Settings is common:ClientHttp1Settings"));
+                Assert.assertTrue(client.contains("<common:ApiKeysConfig>config.auth"));
+                Assert.assertTrue(client.contains("resource isolated function get pets("));
+            }
+            String ownersTypes = Files.readString(modulesPath.resolve("owners").resolve(TYPE_FILE_NAME));
+            Assert.assertTrue(ownersTypes.contains("common:Pet[] pets?;"));
+            Assert.assertTrue(TestUtils.getPackageErrors(packagePath).isEmpty());
+        } catch (BallerinaOpenApiException | FormatterException e) {
+            Assert.fail("Error while generating the client modules. " + e.getMessage());
+        } finally {
+            FileUtils.deleteDirectory(packagePath.toFile());
+        }
+    }
+
+    /**
+     * Creates a Ballerina package of the given name in a temporary directory, to generate the client modules into.
+     */
+    private static Path createPackage(String packageName) throws IOException {
+        Path packagePath = Files.createTempDirectory("openapi-split-by-tag");
+        Files.writeString(packagePath.resolve("Ballerina.toml"), "[package]\norg = \"foo\"\n" +
+                "name = \"" + packageName + "\"\nversion = \"0.1.0\"\n");
+        Files.writeString(packagePath.resolve("main.bal"), "public function main() {\n}\n");
+        return packagePath;
+    }
+
     @Test(description = "Test Ballerina client generation with request body")
     public void generateClientwithRequestBody() {
         String definitionPath = RES_DIR.resolve("openapi-client-rb.yaml").toString();
@@ -597,6 +597,55 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         FileUtils.deleteDirectory(testDir);
     }
 
+    @Test(description = "Test the rejection of the '--format' option for an OpenAPI contract input")
+    public void testFormatOptionWithOpenAPIInput() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        String[] args = {"--input", petstoreYaml.toString(), "-o", this.tmpDir.toString(), "--mode", "client",
+                "--format", "json-min"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains(ErrorMessages.FORMAT_OPTION));
+    }
+
+    @Test(description = "Test the rejection of the '--json' option together with the '--format' option")
+    public void testJsonOptionWithFormatOption() throws IOException {
+        Path balFile = resourceDir.resolve(Paths.get("cmd/ballerina-to-openapi/ballerina-file.bal"));
+        String[] args = {"--input", balFile.toString(), "-o", this.tmpDir.toString(), "--json", "--format",
+                "json-min"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("'--json' option cannot be used with the '--format' option."));
+    }
+
+    @Test(description = "Test the rejection of an invalid '--client-compression' option value")
+    public void testInvalidClientCompressionOption() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        String[] args = {"--input", petstoreYaml.toString(), "-o", this.tmpDir.toString(), "--mode", "client",
+                "--client-compression", "gzip"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("'--client-compression' and '--client-keep-alive' options only support " +
+                "`AUTO`, `ALWAYS` or `NEVER` options."));
+    }
+
+    @Test(description = "Test the rejection of a negative '--client-timeout' option value")
+    public void testNegativeClientTimeoutOption() throws IOException {
+        Path petstoreYaml = resourceDir.resolve(Paths.get("petstore.yaml"));
+        String[] args = {"--input", petstoreYaml.toString(), "-o", this.tmpDir.toString(), "--mode", "client",
+                "--client-timeout=-5"};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("'--client-timeout' option only supports non-negative values."));
+    }
+
     @Test(description = "getRelative path")
     public void getRelativePath() {
         OpenApiCmd cmd = new OpenApiCmd();
@@ -18,10 +18,12 @@
 
 package io.ballerina.openapi.generators.auth;
 
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaAuthConfigGenerator;
 import io.ballerina.openapi.generators.common.TestConstants;
+import io.ballerina.openapi.generators.common.TestUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -68,4 +70,23 @@ public class HttpConfigurationExtensionTests {
         expectedConfigRecord = (expectedConfigRecord.trim()).replaceAll("\\s+", "");
         Assert.assertEquals(expectedConfigRecord, generatedConfigRecord);
     }
+
+    @Test(description = "Generate config records with the client configurations given in the extension")
+    public void testGetConfigRecordGenerationForClientConfigurations() throws IOException,
+            BallerinaOpenApiException {
+        BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(
+                false, false);
+        Path definitionPath = RES_DIR.resolve(
+                "scenarios/http_config_extension/petstore_with_client_configurations.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI);
+        String expectedConfigRecords = TestUtils.getStringFromGivenBalFile(RES_DIR.resolve("ballerina"),
+                "connection_config_with_client_configurations.bal");
+        StringBuilder generatedConfigRecords = new StringBuilder();
+        for (TypeDefinitionNode typeDefinitionNode : ballerinaAuthConfigGenerator.getAuthRelatedTypeDefinitionNodes()) {
+            generatedConfigRecords.append(typeDefinitionNode.toString());
+        }
+        Assert.assertTrue(generatedConfigRecords.toString().replaceAll("\\s+", "")
+                .contains(expectedConfigRecords.replaceAll("\\s+", "")));
+    }
 }
@@ -109,7 +109,7 @@ public class FunctionBodyNodeTests {
                         "http:Response response = check self.clientEp->post(resourcePath, request);" +
                         "return response;}"},
                 {"swagger/response_type_order.yaml", "/pet/{petId}",
-                        "{string resourcePath = string `/pet/${getEncodedUri(petId)}`;" +
+                        "{string resourcePath = string `/pet/${petId}`;" +
                         "Pet response = check self.clientEp->get(resourcePath);" +
                         "return response;}"},
                 {"swagger/text_request_payload.yaml", "/pets", "{string resourcePath = string `/pets`;" +
@@ -23,7 +23,12 @@ import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.generators.common.TestUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -33,6 +38,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.openapi.generators.common.TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
 
 /**
  * This tests class for the tests Query parameters in swagger file.
@@ -124,6 +130,26 @@ public class QueryParameterTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "Generate unique encoding map names for the resource methods without valid operation ids")
+    public void genQueryParamEncodingMapForResources() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path definitionPath = RES_DIR.resolve("swagger/queryparam_encoding_map_resource.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, false);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String source = syntaxTree.toSourceCode();
+        Assert.assertTrue(source.contains("map<Encoding> getPetsQueryParamEncoding ="));
+        Assert.assertTrue(source.contains("map<Encoding> getPetStoresStoreIdQueryParamEncoding ="));
+        Assert.assertTrue(source.contains("map<Encoding> getPetStoresStoreIdQueryParamEncoding1 ="));
+        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
     @Test(description = "Generate Client for query parameter has integer values")
     public void testValidIntegerQueryParam() throws IOException, BallerinaOpenApiException {
         Path definitionPath = RES_DIR.resolve("swagger/query_param_with_integer_value.yaml");
@@ -140,4 +166,8 @@ public class QueryParameterTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @AfterClass
+    public void cleanUp() throws IOException {
+        TestUtils.deleteGeneratedFiles();
+    }
 }
@@ -21,7 +21,12 @@ import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.generators.common.TestUtils;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -31,6 +36,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.openapi.generators.common.TestUtils.compareGeneratedSyntaxTreeWithExpectedSyntaxTree;
+import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
 
 /**
  * Test for the resource function generation.
@@ -110,4 +116,45 @@ public class ResourceFunctionTests {
         syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Generate Client which shares the given http:Client")
+    public void generateClientWithSharedConnector() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/reference_path.yaml");
+        Path expectedPath = RESDIR.resolve("ballerina/shared_connector.bal");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withSharedConnector(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+    }
+
+    @Test(description = "Generate Client with the API key and OAuth security which shares the given http:Client")
+    public void generateClientWithSharedConnectorAndAuth() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path definitionPath = RESDIR.resolve("../swagger/combination_of_apikey_and_http_oauth.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withSharedConnector(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String source = syntaxTree.toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(source.contains("ifhttpClientishttp:Client{self.clientEp=httpClient;}else{" +
+                "http:ClienthttpEp=checknew(serviceUrl,httpClientConfig);self.clientEp=httpEp;}"));
+        Assert.assertTrue(source.contains("self.apiKeyConfig=(<ApiKeysConfig>config.auth).cloneReadOnly();"));
+        Assert.assertTrue(source.contains("`config`and`serviceUrl`areignoredexcepttheAPIkeysof`config.auth`"));
+        List<Diagnostic> diagnostics = getDiagnostics(syntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        TestUtils.deleteGeneratedFiles();
+    }
 }
@@ -23,6 +23,8 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -90,4 +92,16 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Colliding operationIds are renamed without taking the name of another operation")
+    public static void testCollidingOperationIds() throws BallerinaOpenApiException {
+        OpenAPI openAPI = new OpenAPI().paths(new io.swagger.v3.oas.models.Paths()
+                .addPathItem("/users", new PathItem().get(new Operation().operationId("getUser")))
+                .addPathItem("/user", new PathItem().get(new Operation().operationId("get-user")))
+                .addPathItem("/user-profile", new PathItem().get(new Operation().operationId("getUser1"))));
+        GeneratorUtils.validateOperationIds(openAPI.getPaths().entrySet());
+        Assert.assertEquals(openAPI.getPaths().get("/users").getGet().getOperationId(), "getUser");
+        Assert.assertEquals(openAPI.getPaths().get("/user").getGet().getOperationId(), "getUser2");
+        Assert.assertEquals(openAPI.getPaths().get("/user-profile").getGet().getOperationId(), "getUser1");
+    }
 }
@@ -46,6 +46,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -139,6 +140,14 @@ public class TestUtils {
         return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
     }
 
+    /**
+     * Returns the error diagnostics of compiling the Ballerina package at the given path, with all its modules.
+     */
+    public static List<Diagnostic> getPackageErrors(Path packagePath) {
+        Project project = ProjectLoader.loadProject(packagePath);
+        return new ArrayList<>(project.currentPackage().getCompilation().diagnosticResult().errors());
+    }
+
     public static OpenAPI getOpenAPI(Path definitionPath) throws IOException, BallerinaOpenApiException {
         String openAPIFileContent = Files.readString(definitionPath);
         SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent);
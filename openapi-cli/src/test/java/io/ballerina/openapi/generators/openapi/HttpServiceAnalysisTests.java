@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.openapi;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.service.HttpServiceAnalysis;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for sharing the service analysis of a compilation between the OpenAPI compiler plugins.
+ */
+public class HttpServiceAnalysisTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/ballerina-to-openapi/").toAbsolutePath();
+
+    @Test(description = "The plugins analysing the same service get the same generated definition")
+    public void testSharedOASResult() {
+        Project project = ProjectLoader.loadProject(RES_DIR.resolve("basic_service.bal"));
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        DocumentId documentId = defaultModule.documentIds().iterator().next();
+        SemanticModel semanticModel = compilation.getSemanticModel(defaultModule.moduleId());
+        ModulePartNode modulePartNode = defaultModule.document(documentId).syntaxTree().rootNode();
+        List<ServiceDeclarationNode> serviceNodes = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                serviceNodes.add((ServiceDeclarationNode) member);
+            }
+        }
+        Assert.assertEquals(serviceNodes.size(), 2);
+
+        // The build extension and the doc-embedding extension request the definitions of the services independently
+        HttpServiceAnalysis buildAnalysis = HttpServiceAnalysis.getInstance(compilation);
+        HttpServiceInfo buildService = buildAnalysis.getService(documentId, serviceNodes.get(0), semanticModel);
+        OASResult buildResult = buildAnalysis.getOASResult(buildService, documentId, project);
+
+        HttpServiceAnalysis docAnalysis = HttpServiceAnalysis.getInstance(compilation);
+        HttpServiceInfo docService = docAnalysis.getService(documentId, serviceNodes.get(0), semanticModel);
+        OASResult docResult = docAnalysis.getOASResult(docService, documentId, project);
+
+        Assert.assertSame(docAnalysis, buildAnalysis);
+        Assert.assertSame(docService, buildService);
+        Assert.assertSame(docResult, buildResult);
+        Assert.assertTrue(buildResult.getOpenAPI().isPresent());
+
+        HttpServiceInfo otherService = buildAnalysis.getService(documentId, serviceNodes.get(1), semanticModel);
+        Assert.assertNotSame(buildAnalysis.getOASResult(otherService, documentId, project), buildResult);
+    }
+}
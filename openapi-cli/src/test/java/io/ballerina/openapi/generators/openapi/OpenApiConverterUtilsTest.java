@@ -19,6 +19,10 @@
 package io.ballerina.openapi.generators.openapi;
 
 import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.converter.model.OASFormat;
+import io.ballerina.openapi.converter.utils.CodegenUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
@@ -26,9 +30,11 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
 
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescapeIdentifier;
 import static io.ballerina.openapi.generators.common.TestUtils.getStringFromGivenBalFile;
@@ -232,6 +238,46 @@ public class OpenApiConverterUtilsTest {
         Assert.assertEquals(unescapeIdentifier("ชื่\\u{E2D}"), "ชื่อ");
     }
 
+    @Test(description = "Generate OpenAPI spec in the minified JSON format")
+    public void testMinifiedJsonFormat() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("basic_service.bal");
+        Path jsonDir = Files.createDirectories(this.tempDir.resolve("json"));
+        new OASContractGenerator().generateOAS3DefinitionsAllService(ballerinaFilePath, jsonDir, null,
+                OASFormat.JSON);
+        new OASContractGenerator().generateOAS3DefinitionsAllService(ballerinaFilePath, this.tempDir, null,
+                OASFormat.JSON_MIN);
+
+        String minifiedJson = Files.readString(this.tempDir.resolve("hello_openapi.json"));
+        Assert.assertFalse(minifiedJson.contains("\n"));
+        Assert.assertEquals(Json.mapper().readTree(minifiedJson),
+                Json.mapper().readTree(jsonDir.resolve("hello_openapi.json").toFile()));
+    }
+
+    @Test(description = "Generate OpenAPI spec in the gzip compressed JSON format")
+    public void testCompressedJsonFormat() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("basic_service.bal");
+        Path jsonDir = Files.createDirectories(this.tempDir.resolve("json"));
+        new OASContractGenerator().generateOAS3DefinitionsAllService(ballerinaFilePath, jsonDir, null,
+                OASFormat.JSON);
+        new OASContractGenerator().generateOAS3DefinitionsAllService(ballerinaFilePath, this.tempDir, null,
+                OASFormat.JSON_GZ);
+
+        Path compressedJson = this.tempDir.resolve("hello_openapi.json.gz");
+        Assert.assertTrue(Files.exists(compressedJson));
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(compressedJson))) {
+            Assert.assertEquals(Json.mapper().readTree(inputStream),
+                    Json.mapper().readTree(jsonDir.resolve("hello_openapi.json").toFile()));
+        }
+    }
+
+    @Test(description = "Serialization failures of the minified JSON are thrown to be reported by the caller",
+            expectedExceptions = IOException.class)
+    public void testMinifiedJsonSerializationFailure() throws IOException {
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.addExtension("x-invalid", new UnserializableValue());
+        CodegenUtils.serializeContract(openAPI, OASFormat.JSON_MIN);
+    }
+
     @AfterMethod
     public void cleanUp() {
         deleteDirectory(this.tempDir);
@@ -243,4 +289,13 @@ public class OpenApiConverterUtilsTest {
         System.setErr(null);
         System.setOut(null);
     }
+
+    /**
+     * Extension value which can not be serialized, as its only property fails to be read.
+     */
+    private static class UnserializableValue {
+        public String getValue() {
+            throw new IllegalStateException("value is not available");
+        }
+    }
 }
@@ -17,7 +17,17 @@
  */
 package io.ballerina.openapi.generators.openapi;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
@@ -28,6 +38,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getStringFromGivenBalFile;
 import static io.ballerina.openapi.generators.openapi.TestUtils.compareWithGeneratedFile;
@@ -343,6 +354,37 @@ public class ResponseTests {
         Assert.assertTrue(generatedYaml.contains(expectedYamlContent));
     }
 
+    @Test(description = "Resources sharing a return type get independent copies of the derived responses")
+    public void testResponsesOfSharedReturnType() {
+        Path ballerinaFilePath = RES_DIR.resolve("response/shared_return_type.bal");
+        Project project = ProjectLoader.loadProject(ballerinaFilePath);
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        Document document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(defaultModule.moduleId());
+        List<OASResult> oasResults = ServiceToOpenAPIConverterUtils.generateOAS3Definition(project,
+                document.syntaxTree(), semanticModel, null, false, ballerinaFilePath);
+        Assert.assertTrue(oasResults.get(0).getOpenAPI().isPresent());
+        OpenAPI openAPI = oasResults.get(0).getOpenAPI().get();
+
+        ApiResponse petsResponse = openAPI.getPaths().get("/pets").getGet().getResponses().get("200");
+        ApiResponse animalsResponse = openAPI.getPaths().get("/animals").getGet().getResponses().get("200");
+        Assert.assertNotSame(petsResponse, animalsResponse);
+        Assert.assertEquals(petsResponse, animalsResponse);
+        MediaType petsMediaType = petsResponse.getContent().get("application/json");
+        MediaType animalsMediaType = animalsResponse.getContent().get("application/json");
+        Assert.assertNotSame(petsMediaType, animalsMediaType);
+        Assert.assertNotSame(petsMediaType.getSchema(), animalsMediaType.getSchema());
+
+        // Changing the responses of one operation must not change the responses of the other one
+        petsResponse.setDescription("Pets");
+        petsMediaType.setExample("[]");
+        petsMediaType.getSchema().addExtension("x-pets", true);
+        Assert.assertEquals(animalsResponse.getDescription(), "Ok");
+        Assert.assertNull(animalsMediaType.getExample());
+        Assert.assertNull(animalsMediaType.getSchema().getExtensions());
+    }
+
     @AfterMethod
     public void cleanUp() {
         TestUtils.deleteDirectory(this.tempDir);
@@ -18,9 +18,14 @@
 package io.ballerina.openapi.generators.schema;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.ConstraintAnalyzer;
+import io.ballerina.openapi.core.model.ConstraintMode;
 import io.ballerina.openapi.generators.common.TestUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -29,14 +34,17 @@ import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -216,6 +224,72 @@ public class ConstraintTests {
         assertFalse(hasErrors);
     }
 
+    @Test(description = "Tests the constraints generated in the given constraint mode",
+            dataProvider = "constraintModeProvider")
+    public void testConstraintMode(String constraintMode, boolean isRequestNestedConstrained,
+                                   boolean isResponseConstrained, int constrainedFieldCount)
+            throws IOException, BallerinaOpenApiException {
+        assertConstraintMode("swagger/constraint/constraint_mode.yaml", constraintMode, isRequestNestedConstrained,
+                isResponseConstrained, constrainedFieldCount);
+    }
+
+    @Test(description = "Tests the constraint mode of the schemas renamed to their valid names",
+            dataProvider = "constraintModeProvider")
+    public void testConstraintModeForRenamedSchemas(String constraintMode, boolean isRequestNestedConstrained,
+                                                    boolean isResponseConstrained, int constrainedFieldCount)
+            throws IOException, BallerinaOpenApiException {
+        assertConstraintMode("swagger/constraint/constraint_mode_schema_names.yaml", constraintMode,
+                isRequestNestedConstrained, isResponseConstrained, constrainedFieldCount);
+    }
+
+    private void assertConstraintMode(String definition, String constraintMode, boolean isRequestNestedConstrained,
+                                      boolean isResponseConstrained, int constrainedFieldCount)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(RES_DIR.resolve(definition), true);
+        openAPI.addExtension(GeneratorConstants.X_BALLERINA_CONSTRAINT_MODE, constraintMode);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI);
+        String source = ballerinaSchemaGenerator.generateSyntaxTree().toSourceCode();
+        assertEquals(source.contains("maxLength"), !constraintMode.equals("none"));
+        assertEquals(source.contains("minLength"), isRequestNestedConstrained);
+        assertEquals(source.contains("minValue"), isResponseConstrained);
+
+        ConstraintAnalyzer constraintAnalyzer = new ConstraintAnalyzer(openAPI,
+                ConstraintMode.fromValue(constraintMode).orElseThrow());
+        assertEquals(constraintAnalyzer.getConstrainedFieldCounts().get("addPet").intValue(),
+                constrainedFieldCount);
+    }
+
+    @DataProvider(name = "constraintModeProvider")
+    public Object[][] constraintModeProvider() {
+        return new Object[][]{
+                {"full", true, true, 3},
+                {"top-level", false, true, 2},
+                {"request-only", true, false, 2},
+                {"none", false, false, 0}
+        };
+    }
+
+    @Test(description = "Tests the constraints of the inline response payloads in the given constraint mode",
+            dataProvider = "constraintModeProvider")
+    public void testConstraintModeForInlineResponse(String constraintMode, boolean isRequestNestedConstrained,
+                                                    boolean isResponseConstrained, int constrainedFieldCount)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
+                RES_DIR.resolve("swagger/constraint/constraint_mode_inline_payloads.yaml"), true);
+        openAPI.addExtension(GeneratorConstants.X_BALLERINA_CONSTRAINT_MODE, constraintMode);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI);
+        ballerinaSchemaGenerator.generateSyntaxTree();
+        List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(openAPI,
+                ballerinaSchemaGenerator, typeDefinitionNodes);
+        functionReturnType.getReturnType(openAPI.getPaths().get("/reports").getPost(), true);
+        StringBuilder source = new StringBuilder();
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
+            source.append(typeDefinitionNode.toSourceCode());
+        }
+        assertEquals(source.toString().contains("minValue"), isResponseConstrained);
+    }
+
     @AfterMethod
     private void deleteGeneratedFiles() {
         try {
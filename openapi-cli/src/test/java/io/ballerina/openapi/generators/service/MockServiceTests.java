@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.service;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.CmdUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * All the tests related to the {@code io.ballerina.openapi.generators.service.MockResponseGenerator} util.
+ */
+public class MockServiceTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate the mock service returning the examples and the synthesized responses")
+    public void generateMockService() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("generators/service/swagger/mock/mock_service.yaml");
+        OpenAPI openAPI = CmdUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withMockService(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        SyntaxTree syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("mock/mock_responses.bal", syntaxTree);
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("mock/mock_resources.bal", syntaxTree);
+    }
+
+    @Test(description = "Regenerating the mock service does not duplicate the mock responses")
+    public void regenerateMockService() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("generators/service/swagger/mock/mock_service.yaml");
+        OpenAPI openAPI = CmdUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withMockService(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        String firstGeneration = ballerinaServiceGenerator.generateSyntaxTree().toSourceCode();
+        SyntaxTree syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        Assert.assertEquals(syntaxTree.toSourceCode(), firstGeneration);
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("mock/mock_responses.bal", syntaxTree);
+    }
+}
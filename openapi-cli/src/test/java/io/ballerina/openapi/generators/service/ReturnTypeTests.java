@@ -19,19 +19,23 @@
 package io.ballerina.openapi.generators.service;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * All the tests related to the {@code io.ballerina.openapi.generators.service.RequestBodyGenerator} util.
@@ -470,4 +474,23 @@ public class ReturnTypeTests {
         CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
                 "response/multiline_return_description.bal", syntaxTree);
     }
+
+    @Test(description = "Test for the inline response records of the operations on the same path")
+    public void testForInlineResponsesOnSamePath() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/inline_responses_on_same_path.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                "response/inline_responses_on_same_path.bal", syntaxTree);
+        Set<String> recordNames = new HashSet<>();
+        for (TypeDefinitionNode typeInclusionRecord : ballerinaServiceGenerator.getTypeInclusionRecords()) {
+            recordNames.add(typeInclusionRecord.typeName().text());
+        }
+        Assert.assertEquals(recordNames, Set.of("PetsResponse", "PetsResponse_1"));
+    }
 }
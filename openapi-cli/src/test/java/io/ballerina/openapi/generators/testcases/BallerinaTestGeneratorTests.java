@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaBenchmarkGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
@@ -61,6 +62,7 @@ public class BallerinaTestGeneratorTests {
     private static final Path schemaPath = RES_DIR.resolve("ballerina_project/types.bal");
     private static final Path testPath = RES_DIR.resolve("ballerina_project/tests/test.bal");
     private static final Path configPath = RES_DIR.resolve("ballerina_project/tests/Config.toml");
+    private static final Path benchmarkPath = RES_DIR.resolve("ballerina_project/tests/benchmark.bal");
 
     List<String> list1 = new ArrayList<>();
     List<String> list2 = new ArrayList<>();
@@ -97,6 +99,46 @@ public class BallerinaTestGeneratorTests {
         Assert.assertTrue(diagnostics.isEmpty());
     }
 
+    @Test(description = "Generate the benchmark harness of the client operations", dataProvider = "benchmarkProvider")
+    public void generateBenchmarkHarness(String yamlFile, boolean isResource, List<String> operations,
+                                         String expectedContent)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        Files.createDirectories(Paths.get(PROJECT_DIR + OAS_PATH_SEPARATOR + TEST_DIR));
+        Path definitionPath = RES_DIR.resolve("sample_yamls/" + yamlFile);
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, !isResource);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(new ArrayList<>(), operations))
+                .withOpenAPI(openAPI)
+                .withResourceMode(isResource).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree syntaxTreeClient = ballerinaClientGenerator.generateSyntaxTree();
+        List<TypeDefinitionNode> preGeneratedTypeDefinitionNodes = new LinkedList<>();
+        preGeneratedTypeDefinitionNodes.addAll(ballerinaClientGenerator.
+                getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
+        preGeneratedTypeDefinitionNodes.addAll(ballerinaClientGenerator.getTypeDefinitionNodeList());
+        BallerinaTypesGenerator schemaGenerator = new BallerinaTypesGenerator(
+                openAPI, false, preGeneratedTypeDefinitionNodes);
+        BallerinaBenchmarkGenerator benchmarkGenerator = new BallerinaBenchmarkGenerator(ballerinaClientGenerator,
+                syntaxTreeClient);
+        SyntaxTree syntaxTreeBenchmark = benchmarkGenerator.generateSyntaxTree();
+        SyntaxTree syntaxTreeSchema = schemaGenerator.generateSyntaxTree();
+        SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
+        Assert.assertFalse(syntaxTreeBenchmark.hasDiagnostics());
+        Assert.assertTrue(syntaxTreeBenchmark.toSourceCode().contains(expectedContent));
+        TestUtils.writeFile(benchmarkPath, Formatter.format(syntaxTreeBenchmark).toString());
+        List<Diagnostic> diagnostics = getDiagnostics(syntaxTreeClient, syntaxTreeSchema, utilSyntaxTree);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    public List<Diagnostic> getDiagnostics(SyntaxTree clientSyntaxTree, SyntaxTree schemaSyntaxTree,
+                                           SyntaxTree utilSyntaxTree) throws FormatterException, IOException {
+        TestUtils.writeFile(clientPath, Formatter.format(clientSyntaxTree).toString());
+        TestUtils.writeFile(utilPath, Formatter.format(utilSyntaxTree).toString());
+        TestUtils.writeFile(schemaPath, Formatter.format(schemaSyntaxTree).toString());
+        SemanticModel semanticModel = TestUtils.getSemanticModel(clientPath);
+        return semanticModel.diagnostics();
+    }
+
     public List<Diagnostic> getDiagnostics(SyntaxTree clientSyntaxTree, SyntaxTree testSyntaxTree,
                                            SyntaxTree schemaSyntaxTree, String configContent, SyntaxTree utilSyntaxTree)
             throws FormatterException, IOException {
@@ -117,6 +159,7 @@ public class BallerinaTestGeneratorTests {
             Files.deleteIfExists(utilPath);
             Files.deleteIfExists(testPath);
             Files.deleteIfExists(configPath);
+            Files.deleteIfExists(benchmarkPath);
         } catch (IOException ignored) {
         }
     }
@@ -134,4 +177,20 @@ public class BallerinaTestGeneratorTests {
                 "oauth2_password.yaml"
         };
     }
+
+    @DataProvider(name = "benchmarkProvider")
+    public Object[][] benchmarkProvider() {
+        return new Object[][]{
+                {"no_auth.yaml", false, List.of(), "_ = check benchmarkClient->listPets();"},
+                {"no_auth.yaml", true, List.of(), "_ = check benchmarkClient->/pets.get();"},
+                {"no_auth.yaml", true, List.of(),
+                        "runBenchmarkOperation(\"getPetsPetId\", benchmarkClient, getPetsPetIdOperation)"},
+                {"no_auth.yaml", false, List.of("showPetById"),
+                        "runBenchmarkOperation(\"showPetById\", benchmarkClient, showPetByIdOperation)"},
+                {"basic_auth.yaml", false, List.of(), "benchmarkClient->getAccountById(\"string\""},
+                {"query_api_key.yaml", false, List.of(), "apiKeyConfig = benchmarkApiKeyConfig"},
+                {"operation_schema.yaml", false, List.of(),
+                        "runBenchmarkOperation(\"listOperations\", benchmarkClient, listOperationsOperation)"}
+        };
+    }
 }
@@ -0,0 +1,16 @@
+import ballerina/http;
+
+public type Pet record {
+    int id;
+    string name;
+};
+
+service /payloadV on new http:Listener(9090) {
+    resource function get pets() returns Pet[] {
+        return [];
+    }
+
+    resource function get animals() returns Pet[] {
+        return [];
+    }
+}
@@ -74,8 +74,7 @@ public isolated client class Client {
     remote isolated function findPetsByStatus(("available"|"pending"|"sold")[] status) returns Pet[]|error {
         string resourcePath = string `/pet/findByStatus`;
         map<anydata> queryParam = {"status": status};
-        map<Encoding> queryParamEncoding = {"status": {style: FORM, explode: true}};
-        resourcePath = resourcePath + check getPathForQueryParam(queryParam, queryParamEncoding);
+        resourcePath = resourcePath + check getPathForQueryParam(queryParam, findPetsByStatusQueryParamEncoding);
         Pet[] response = check self.clientEp->get(resourcePath);
         return response;
     }
@@ -89,8 +88,7 @@ public isolated client class Client {
     remote isolated function findPetsByTags(string[] tags) returns Pet[]|error {
         string resourcePath = string `/pet/findByTags`;
         map<anydata> queryParam = {"tags": tags};
-        map<Encoding> queryParamEncoding = {"tags": {style: FORM, explode: true}};
-        resourcePath = resourcePath + check getPathForQueryParam(queryParam, queryParamEncoding);
+        resourcePath = resourcePath + check getPathForQueryParam(queryParam, findPetsByTagsQueryParamEncoding);
         Pet[] response = check self.clientEp->get(resourcePath);
         return response;
     }
@@ -99,7 +97,7 @@ public isolated client class Client {
     # + petId - ID of pet to return
     # + return - successful operation
     remote isolated function getPetById(int petId) returns Pet|error {
-        string resourcePath = string `/pet/${getEncodedUri(petId)}`;
+        string resourcePath = string `/pet/${petId}`;
         map<any> headerValues = {};
         if self.apiKeyConfig is ApiKeysConfig {
             headerValues["api_key"] = self.apiKeyConfig?.api_key;
@@ -113,7 +111,7 @@ public isolated client class Client {
     # + petId - ID of pet that needs to be updated
     # + return - Invalid input
     remote isolated function updatePetWithForm(int petId, Pet_petId_body payload) returns http:Response|error {
-        string resourcePath = string `/pet/${getEncodedUri(petId)}`;
+        string resourcePath = string `/pet/${petId}`;
         http:Request request = new;
         string encodedRequestBody = createFormURLEncodedRequestBody(payload);
         request.setPayload(encodedRequestBody, "application/x-www-form-urlencoded");
@@ -125,7 +123,7 @@ public isolated client class Client {
     # + petId - Pet id to delete
     # + return - Invalid ID supplied
     remote isolated function deletePet(int petId, string? api_key = ()) returns http:Response|error {
-        string resourcePath = string `/pet/${getEncodedUri(petId)}`;
+        string resourcePath = string `/pet/${petId}`;
         map<any> headerValues = {"api_key": api_key};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Response response = check self.clientEp->delete(resourcePath, headers = httpHeaders);
@@ -136,7 +134,7 @@ public isolated client class Client {
     # + petId - ID of pet to update
     # + return - successful operation
     remote isolated function uploadFile(int petId, PetId_uploadImage_body payload) returns ApiResponse|error {
-        string resourcePath = string `/pet/${getEncodedUri(petId)}/uploadImage`;
+        string resourcePath = string `/pet/${petId}/uploadImage`;
         http:Request request = new;
         mime:Entity[] bodyParts = check createBodyParts(payload);
         request.setBodyParts(bodyParts);
@@ -171,7 +169,7 @@ public isolated client class Client {
     # + orderId - ID of pet that needs to be fetched
     # + return - successful operation
     remote isolated function getOrderById(int orderId) returns Order|error {
-        string resourcePath = string `/store/order/${getEncodedUri(orderId)}`;
+        string resourcePath = string `/store/order/${orderId}`;
         Order response = check self.clientEp->get(resourcePath);
         return response;
     }
@@ -180,7 +178,7 @@ public isolated client class Client {
     # + orderId - ID of the order that needs to be deleted
     # + return - Invalid ID supplied
     remote isolated function deleteOrder(int orderId) returns http:Response|error {
-        string resourcePath = string `/store/order/${getEncodedUri(orderId)}`;
+        string resourcePath = string `/store/order/${orderId}`;
         http:Response response = check self.clientEp-> delete(resourcePath);
         return response;
     }
@@ -264,3 +262,7 @@ public isolated client class Client {
         return response;
     }
 }
+
+final readonly & map<Encoding> findPetsByStatusQueryParamEncoding = {"status": {style: FORM, explode: true}};
+
+final readonly & map<Encoding> findPetsByTagsQueryParamEncoding = {"tags": {style: FORM, explode: true}};
@@ -41,7 +41,7 @@ public isolated client class Client {
     # + payloadId - payload id value
     # + return - Ok
     remote isolated function operationId01(int:Signed32 id, int payloadId) returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(id)}/payload/${getEncodedUri(payloadId)}`;
+        string resourcePath = string `/v1/${id}/payload/${payloadId}`;
         string response = check self.clientEp-> get(resourcePath);
         return response;
     }
@@ -31,13 +31,13 @@ public isolated client class Client {
         return response;
     }
     remote isolated function deletepetsBypetId(int petId) returns http:Response | error {
-        string resourcePath = string `/pets/${getEncodedUri(petId)}`;
+        string resourcePath = string `/pets/${petId}`;
         http:Request request = new;
         http:Response  response = check self.clientEp-> delete(resourcePath, request);
         return response;
     }
     remote isolated function  Image(int petId) returns http:Response | error {
-        string resourcePath = string `/pets/${getEncodedUri(petId)}/Image`;
+        string resourcePath = string `/pets/${petId}/Image`;
         http:Response  response = check self.clientEp-> get(resourcePath);
         return response;
     }
@@ -52,7 +52,7 @@ public isolated client class Client {
         return response;
     }
     remote isolated function  ImageByimageId(int petId, string imageId) returns http:Response | error {
-        string resourcePath = string `/pets/${getEncodedUri(petId)}/Image/${getEncodedUri(imageId)}`;
+        string resourcePath = string `/pets/${petId}/Image/${getEncodedUri(imageId)}`;
         http:Response  response = check self.clientEp-> get(resourcePath);
         return response;
     }
@@ -55,11 +55,12 @@ public isolated client class Client {
     remote isolated function listMeetings("scheduled"|"live"|"upcoming"? 'type = (), ("available"|"pending"?)[]? status = (), "UTC"|"LOCAL"|"OFFSET"|"EPOCH"|"LEET"? xDateFormat = (), RoomNo location = "R5", "json"|"jsonp"|"msgpack"|"html"? format = ()) returns MeetingList|error {
         string resourcePath = string `/users/meetings`;
         map<anydata> queryParam = {"type": 'type, "status": status, "location": location, "format": format};
-        map<Encoding> queryParamEncoding = {"status": {style: FORM, explode: true}};
-        resourcePath = resourcePath + check getPathForQueryParam(queryParam, queryParamEncoding);
+        resourcePath = resourcePath + check getPathForQueryParam(queryParam, listMeetingsQueryParamEncoding);
         map<any> headerValues = {"X-Date-Format": xDateFormat};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         MeetingList response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
 }
+
+final readonly & map<Encoding> listMeetingsQueryParamEncoding = {"status": {style: FORM, explode: true}};
@@ -39,7 +39,7 @@ public isolated client class Client {
     # + id - id value
     # + return - Ok
     remote isolated function operationId03(Id id) returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(id)}`;
+        string resourcePath = string `/v1/${id}`;
         string response = check self.clientEp-> get(resourcePath);
         return response;
     }
@@ -39,7 +39,7 @@ public isolated client class Client {
     # + versionName - Version Name
     # + return - Ok
     remote isolated function operationId04(int version, string versionName) returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(version)}/v2/${getEncodedUri(versionName)}`;
+        string resourcePath = string `/v1/${version}/v2/${getEncodedUri(versionName)}`;
         string response = check self.clientEp-> get(resourcePath);
         return response;
     }
@@ -48,7 +48,7 @@ public isolated client class Client {
     # + versionLimit - Version Limit
     # + return - Ok
     remote isolated function operationId05(int versionId, int versionLimit) returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(versionId)}/v2/${getEncodedUri(versionLimit)}`;
+        string resourcePath = string `/v1/${versionId}/v2/${versionLimit}`;
         string response = check self.clientEp-> get(resourcePath);
         return response;
     }
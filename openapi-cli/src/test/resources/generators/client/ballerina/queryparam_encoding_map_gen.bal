@@ -44,9 +44,10 @@ public isolated client class Client {
     remote isolated function listInvoices("charge_automatically"|"send_invoice"? collection_method = (), Created? created = (), Due_date? due_date = (), string[]? subscriptions = ()) returns json|error {
         string resourcePath = string `/v1/invoices`;
         map<anydata> queryParam = {"collection_method": collection_method, "created": created, "due_date": due_date, "subscriptions": subscriptions};
-        map<Encoding> queryParamEncoding = {"created": {style: DEEPOBJECT, explode: true}, "due_date": {style: DEEPOBJECT, explode: true}, "subscriptions": {style: FORM, explode: true}};
-        resourcePath = resourcePath + check getPathForQueryParam(queryParam, queryParamEncoding);
+        resourcePath = resourcePath + check getPathForQueryParam(queryParam, listInvoicesQueryParamEncoding);
         json response = check self.clientEp->get(resourcePath);
         return response;
     }
 }
+
+final readonly & map<Encoding> listInvoicesQueryParamEncoding = {"created": {style: DEEPOBJECT, explode: true}, "due_date": {style: DEEPOBJECT, explode: true}, "subscriptions": {style: FORM, explode: true}};
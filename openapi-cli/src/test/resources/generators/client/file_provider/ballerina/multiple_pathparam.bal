@@ -40,7 +40,7 @@ public isolated client class Client {
     # + name - test
     # + return - Ok
     remote isolated function pathParameter(int version, string name) returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(version)}/v2/${getEncodedUri(name)}`;
+        string resourcePath = string `/v1/${version}/v2/${getEncodedUri(name)}`;
         string response = check self.clientEp->get(resourcePath);
         return response;
     }
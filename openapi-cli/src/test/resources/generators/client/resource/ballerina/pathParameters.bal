@@ -55,28 +55,28 @@ public isolated client class Client {
     # + id - id value
     # + return - Ok
     resource isolated function get v1/[int id]() returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(id)}`;
+        string resourcePath = string `/v1/${id}`;
         string response = check self.clientEp->get(resourcePath);
         return response;
     }
     #
     # + return - Ok
     resource isolated function get v1/[int version]/v2/[string name]() returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(version)}/v2/${getEncodedUri(name)}`;
+        string resourcePath = string `/v1/${version}/v2/${getEncodedUri(name)}`;
         string response = check self.clientEp->get(resourcePath);
         return response;
     }
     #
     # + return - Ok
     resource isolated function get v1/[int version]/v2/[int 'limit]() returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(version)}/v2/${getEncodedUri('limit)}`;
+        string resourcePath = string `/v1/${version}/v2/${'limit}`;
         string response = check self.clientEp->get(resourcePath);
         return response;
     }
     #
     # + return - Ok
     resource isolated function get v1/[int age]/v2/[string name]() returns string|error {
-        string resourcePath = string `/v1/${getEncodedUri(age)}/v2/${getEncodedUri(name)}`;
+        string resourcePath = string `/v1/${age}/v2/${getEncodedUri(name)}`;
         string response = check self.clientEp->get(resourcePath);
         return response;
     }
@@ -0,0 +1,51 @@
+import ballerina/http;
+
+public isolated client class Client {
+    final http:Client clientEp;
+    # Gets invoked to initialize the `connector`.
+    #
+    # + config - The configurations to be used when initializing the `connector`
+    # + serviceUrl - URL of the target service
+    # + httpClient - The `http:Client` to be shared with the other clients of the service, instead of creating a new connection pool. When it is given, `config` and `serviceUrl` are ignored
+    # + return - An error if connector initialization failed
+    public isolated function init(ConnectionConfig config =  {}, string serviceUrl = "http://localhost", http:Client? httpClient = ()) returns error? {
+        http:ClientConfiguration httpClientConfig = {httpVersion: config.httpVersion, timeout: config.timeout, forwarded: config.forwarded, poolConfig: config.poolConfig, compression: config.compression, circuitBreaker: config.circuitBreaker, retryConfig: config.retryConfig, validation: config.validation};
+        do {
+            if config.http1Settings is ClientHttp1Settings {
+                ClientHttp1Settings settings = check config.http1Settings.ensureType(ClientHttp1Settings);
+                httpClientConfig.http1Settings = {...settings};
+            }
+            if config.http2Settings is http:ClientHttp2Settings {
+                httpClientConfig.http2Settings = check config.http2Settings.ensureType(http:ClientHttp2Settings);
+            }
+            if config.cache is http:CacheConfig {
+                httpClientConfig.cache = check config.cache.ensureType(http:CacheConfig);
+            }
+            if config.responseLimits is http:ResponseLimitConfigs {
+                httpClientConfig.responseLimits = check config.responseLimits.ensureType(http:ResponseLimitConfigs);
+            }
+            if config.secureSocket is http:ClientSecureSocket {
+                httpClientConfig.secureSocket = check config.secureSocket.ensureType(http:ClientSecureSocket);
+            }
+            if config.proxy is http:ProxyConfig {
+                httpClientConfig.proxy = check config.proxy.ensureType(http:ProxyConfig);
+            }
+        }
+        if httpClient is http:Client {
+            self.clientEp = httpClient;
+        } else {
+            http:Client httpEp = check new (serviceUrl, httpClientConfig);
+            self.clientEp = httpEp;
+        }
+        return;
+    }
+    #
+    # + id - Id of the point
+    # + return - Accepted
+    resource isolated function post pet/[Param id]() returns http:Response|error {
+        string resourcePath = string `/pet/${getEncodedUri(id)}`;
+        http:Request request = new;
+        http:Response response = check self.clientEp-> post(resourcePath, request);
+        return response;
+    }
+}
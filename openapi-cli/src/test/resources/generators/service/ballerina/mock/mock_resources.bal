@@ -0,0 +1,3 @@
+    resource function get pets() returns http:Ok {
+        return listPetsResponse;
+    }
@@ -0,0 +1,3 @@
+final readonly & http:Ok listPetsResponse = {mediaType: "application/json", body: "[{\"id\":1,\"name\":\"Tom\"}]".toBytes().cloneReadOnly()};
+final readonly & http:Created createPetResponse = {};
+final readonly & http:Ok showPetByIdResponse = {mediaType: "application/json", body: "{\"id\":0,\"name\":\"Tom\"}".toBytes().cloneReadOnly()};
@@ -0,0 +1,3 @@
+    resource function get pets() returns @http:Cache {mustRevalidate: false, isPrivate: true, maxAge: 60,
+        setLastModified: false} http:Ok {
+    }
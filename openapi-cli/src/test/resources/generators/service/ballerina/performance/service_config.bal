@@ -0,0 +1,5 @@
+listener http:Listener ep0 = new (443, config = {host: "petstore.swagger.io",
+    requestLimits: {maxUriLength: 4096, maxEntityBodySize: 1048576}});
+
+@http:ServiceConfig {compression: {enable: http:COMPRESSION_AUTO, contentTypes: ["text/plain"]}}
+service /v1 on ep0 {
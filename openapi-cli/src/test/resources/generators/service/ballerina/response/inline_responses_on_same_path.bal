@@ -0,0 +1,16 @@
+import ballerina/http;
+
+listener http:Listener ep0 = new (80, config = {host: "petstore.openapi.io"});
+
+service /v1 on ep0 {
+    # List all pets.
+    #
+    # + return - OK
+    resource function get pets() returns PetsResponse {
+    }
+    # Update a pet.
+    #
+    # + return - OK
+    resource function put pets() returns PetsResponse_1 {
+    }
+}
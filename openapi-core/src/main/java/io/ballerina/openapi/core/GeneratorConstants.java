@@ -149,6 +149,7 @@ public class GeneratorConstants {
     public static final String AUTH = "auth";
     public static final String AUTH_CONFIG = "authConfig";
     public static final String HTTP_CLIENT_CONFIG = "httpClientConfig";
+    public static final String SHARED_HTTP_CLIENT = "httpClient";
     public static final String CLIENT_HTTP1_SETTINGS = "ClientHttp1Settings";
     public static final String CLIENT_HTTP1_SETTINGS_FIELD = "http1Settings";
     public static final String HTTP2_SETTINGS = "http:ClientHttp2Settings";
@@ -205,6 +206,9 @@ public class GeneratorConstants {
     public static final String X_BALLERINA_DISPLAY = "x-ballerina-display";
     public static final String X_BALLERINA_DEPRECATED_REASON = "x-ballerina-deprecated-reason";
     public static final String X_BALLERINA_HTTP_CONFIGURATIONS = "x-ballerina-http-configurations";
+    public static final String X_BALLERINA_SERVICE_CONFIGURATIONS = "x-ballerina-service-configurations";
+    public static final String X_BALLERINA_CACHE = "x-ballerina-cache";
+    public static final String X_BALLERINA_CONSTRAINT_MODE = "x-ballerina-constraint-mode";
 
     //Service related
     public static final String HOST = "host";
@@ -377,6 +381,9 @@ public class GeneratorConstants {
     public static final String ANYDATA = "anydata";
     public static final String RESPONSE_RECORD_NAME = "Response";
     public static final String HTTP_VERIONS_EXT = "httpVersion";
+    public static final String TIMEOUT_FIELD = "timeout";
+    public static final String COMPRESSION_FIELD = "compression";
+    public static final String POOL_CONFIG_FIELD = "poolConfig";
     public static final String SERVICE_TYPE_NAME = "OASServiceType";
     public static final String DEFAULT_RETURN_COMMENT = "return value description";
     public static final String DEFAULT_FUNC_COMMENT = "Description";
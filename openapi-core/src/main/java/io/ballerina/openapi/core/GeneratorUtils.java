@@ -78,6 +78,7 @@ import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 import io.swagger.v3.parser.core.models.ParseOptions;
@@ -178,6 +179,7 @@ public class GeneratorUtils {
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
     public static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
     public static final MinutiaeList SINGLE_END_OF_LINE_MINUTIAE = getEndOfLineMinutiae();
+    public static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
     private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
     private static final PrintStream OUT_STREAM = System.err;
 
@@ -354,14 +356,7 @@ public class GeneratorUtils {
      * @return - escaped string
      */
     public static String escapeIdentifier(String identifier) {
-
-        if (identifier.matches("\\b[0-9]*\\b")) {
-            return "'" + identifier;
-        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.contains(identifier)) {
-            identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-            return "'" + identifier;
-        }
-        return identifier;
+        return IdentifierNormalizer.escapeIdentifier(identifier);
     }
 
     /**
@@ -371,27 +366,7 @@ public class GeneratorUtils {
      * @return string with new generated name
      */
     public static String getValidName(String identifier, boolean isSchema) {
-        //For the flatten enable we need to remove first Part of valid name check
-        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
-            StringBuilder validName = new StringBuilder();
-            for (String part : split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
-                                part.substring(1).toLowerCase(Locale.ENGLISH);
-                    }
-                    validName.append(part);
-                }
-            }
-            identifier = validName.toString();
-        }
-        if (isSchema) {
-            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
-        } else {
-            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
-        }
+        return IdentifierNormalizer.getValidName(identifier, isSchema);
     }
 
     /**
@@ -441,6 +416,85 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Returns the component schema of the given schema reference, or null if the reference is not a component schema
+     * reference of the given OpenAPI definition.
+     */
+    public static Schema<?> resolveSchemaReference(OpenAPI openAPI, String reference) {
+        if (!reference.startsWith(SCHEMA_REF_PREFIX) || openAPI.getComponents() == null ||
+                openAPI.getComponents().getSchemas() == null) {
+            return null;
+        }
+        return openAPI.getComponents().getSchemas().get(getReferencedSchemaName(openAPI, reference));
+    }
+
+    /**
+     * Returns the name of the component schema of the given schema reference. The component schemas are renamed to
+     * their valid names when the definition is normalized, hence the valid name of the reference is looked up before
+     * the name given in the reference, as the referenced types are resolved.
+     */
+    public static String getReferencedSchemaName(OpenAPI openAPI, String reference) {
+        String schemaName = reference.startsWith(SCHEMA_REF_PREFIX) ? reference.substring(SCHEMA_REF_PREFIX.length()) :
+                reference.substring(reference.lastIndexOf('/') + 1);
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            String validName = getValidName(schemaName, true);
+            if (openAPI.getComponents().getSchemas().containsKey(validName)) {
+                return validName;
+            }
+        }
+        return schemaName;
+    }
+
+    /**
+     * Returns the component response of the given response reference, or the given response itself if it is not a
+     * reference.
+     */
+    public static ApiResponse resolveResponseReference(OpenAPI openAPI, ApiResponse response) {
+        if (response.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getResponses() != null) {
+            String name = response.get$ref().substring(response.get$ref().lastIndexOf('/') + 1);
+            ApiResponse resolvedResponse = openAPI.getComponents().getResponses().get(name);
+            if (resolvedResponse != null) {
+                return resolvedResponse;
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Returns the Ballerina string literal of the given value.
+     */
+    public static String toStringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        literal.append("\\u{").append(Integer.toHexString(character)).append('}');
+                    } else {
+                        literal.append(character);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
     public static boolean hasTags(List<String> tags, List<String> filterTags) {
 
         return !Collections.disjoint(filterTags, tags);
@@ -742,7 +796,10 @@ public class GeneratorUtils {
         return isConstraintExists(value);
     }
 
-    private static boolean isConstraintExists(Schema<?> propertyValue) {
+    /**
+     * This util is to check if the given schema itself has constraints, without checking its properties or items.
+     */
+    public static boolean isConstraintExists(Schema<?> propertyValue) {
 
         return propertyValue.getMaximum() != null ||
                 propertyValue.getMinimum() != null ||
@@ -797,18 +854,32 @@ public class GeneratorUtils {
      */
     public static void validateOperationIds(Set<Map.Entry<String, PathItem>> paths) throws BallerinaOpenApiException {
         List<String> errorList = new ArrayList<>();
+        IdentifierNormalizer operationNames = new IdentifierNormalizer();
+        List<Operation> operations = new ArrayList<>();
+        List<String> names = new ArrayList<>();
         for (Map.Entry<String, PathItem> entry : paths) {
             for (Map.Entry<PathItem.HttpMethod, Operation> operation :
                     entry.getValue().readOperationsMap().entrySet()) {
                 if (operation.getValue().getOperationId() != null) {
-                    String operationId = getValidName(operation.getValue().getOperationId(), false);
-                    operation.getValue().setOperationId(operationId);
+                    operations.add(operation.getValue());
+                    names.add(getValidName(operation.getValue().getOperationId(), false));
                 } else {
                     errorList.add(String.format("OperationId is missing in the resource path: %s(%s)", entry.getKey(),
                             operation.getKey()));
                 }
             }
         }
+        // distinct operationIds which are normalized to the same name are resolved in the order of the paths, without
+        // taking the name of any other operation
+        operationNames.reserveNames(names);
+        for (int i = 0; i < operations.size(); i++) {
+            String operationId = operationNames.getUniqueName(names.get(i));
+            if (!operationId.equals(names.get(i))) {
+                OUT_STREAM.printf("WARNING: the operationId `%s` is renamed to `%s`, as its name collides with the " +
+                        "name of another operation.%n", operations.get(i).getOperationId(), operationId);
+            }
+            operations.get(i).setOperationId(operationId);
+        }
         if (!errorList.isEmpty()) {
             throw new BallerinaOpenApiException(
                     "OpenAPI definition has errors: " + LINE_SEPARATOR + String.join(LINE_SEPARATOR, errorList));
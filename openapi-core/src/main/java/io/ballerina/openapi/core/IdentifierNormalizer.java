@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * This class normalizes the OpenAPI names to Ballerina identifiers.
+ * <p>
+ * The patterns are compiled once and the keywords are kept in a hash set. An instance of this class is a scope of a
+ * normalization, e.g. the operations of a definition. It resolves the distinct names which are normalized to the same
+ * identifier without colliding with any name of the scope.
+ *
+ * @since 1.7.0
+ */
+public class IdentifierNormalizer {
+
+    private static final Pattern ESCAPE_PATTERN = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN);
+    private static final Pattern NUMERIC_PATTERN = Pattern.compile("\\b[0-9]*\\b");
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b");
+    private static final Set<String> KEYWORDS = Set.copyOf(SyntaxInfo.keywords());
+
+    private final Set<String> reservedNames = new HashSet<>();
+    private final Set<String> usedNames = new HashSet<>();
+
+    /**
+     * This method will escape special characters used in method names and identifiers.
+     *
+     * @param identifier - identifier or method name
+     * @return - escaped string
+     */
+    public static String escapeIdentifier(String identifier) {
+        return escape(identifier);
+    }
+
+    /**
+     * Generate a valid name by removing special characters.
+     *
+     * @param identifier input function name, record name or operation Id
+     * @param isSchema   whether the name is a type name
+     * @return string with new generated name
+     */
+    public static String getValidName(String identifier, boolean isSchema) {
+        return toValidName(identifier, isSchema);
+    }
+
+    /**
+     * Reserves the given names in this scope, so that the numeric suffixes given to the colliding names do not produce
+     * any of them.
+     *
+     * @param names normalized names which are resolved in this scope
+     */
+    public void reserveNames(Collection<String> names) {
+        reservedNames.addAll(names);
+    }
+
+    /**
+     * Returns the given name if it is not already used in this scope, otherwise the name with the smallest numeric
+     * suffix which is neither used nor reserved. Hence, the names are resolved in the order they are given.
+     *
+     * @param name normalized name
+     * @return name which is unique within this scope
+     */
+    public String getUniqueName(String name) {
+        String uniqueName = name;
+        int suffix = 1;
+        while (usedNames.contains(uniqueName) || (!uniqueName.equals(name) && reservedNames.contains(uniqueName))) {
+            uniqueName = name + suffix++;
+        }
+        usedNames.add(uniqueName);
+        return uniqueName;
+    }
+
+    private static String escape(String identifier) {
+
+        if (NUMERIC_PATTERN.matcher(identifier).matches()) {
+            return "'" + identifier;
+        } else if (!IDENTIFIER_PATTERN.matcher(identifier).matches() || KEYWORDS.contains(identifier)) {
+            return "'" + ESCAPE_PATTERN.matcher(identifier).replaceAll("\\\\$1");
+        }
+        return identifier;
+    }
+
+    private static String toValidName(String identifier, boolean isSchema) {
+        //For the flatten enable we need to remove first Part of valid name check
+        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
+        if (!NUMERIC_PATTERN.matcher(identifier).matches()) {
+            String[] split = ESCAPE_PATTERN.split(identifier);
+            StringBuilder validName = new StringBuilder();
+            for (String part : split) {
+                if (!part.isBlank()) {
+                    if (split.length > 1) {
+                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                                part.substring(1).toLowerCase(Locale.ENGLISH);
+                    }
+                    validName.append(part);
+                }
+            }
+            identifier = validName.toString();
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        } else {
+            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+        }
+    }
+}
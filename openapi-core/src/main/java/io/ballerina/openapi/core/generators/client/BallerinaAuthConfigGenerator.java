@@ -67,6 +67,7 @@ import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -78,6 +79,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -168,6 +170,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.CHUNKING;
 import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_CRED;
 import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_HTTP1_SETTINGS;
 import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_HTTP1_SETTINGS_FIELD;
+import static io.ballerina.openapi.core.GeneratorConstants.COMPRESSION_FIELD;
 import static io.ballerina.openapi.core.GeneratorConstants.CONFIG;
 import static io.ballerina.openapi.core.GeneratorConstants.CONNECTION_CONFIG;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_HTTP_VERSION;
@@ -182,6 +185,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.HTTP_VERSION_MAP;
 import static io.ballerina.openapi.core.GeneratorConstants.KEEP_ALIVE;
 import static io.ballerina.openapi.core.GeneratorConstants.OAUTH2;
 import static io.ballerina.openapi.core.GeneratorConstants.PASSWORD;
+import static io.ballerina.openapi.core.GeneratorConstants.POOL_CONFIG_FIELD;
 import static io.ballerina.openapi.core.GeneratorConstants.PROXY;
 import static io.ballerina.openapi.core.GeneratorConstants.PROXY_CONFIG;
 import static io.ballerina.openapi.core.GeneratorConstants.REFRESH_TOKEN;
@@ -193,6 +197,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.SELF;
 import static io.ballerina.openapi.core.GeneratorConstants.SETTINGS;
 import static io.ballerina.openapi.core.GeneratorConstants.SSL_FIELD_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.STRING;
+import static io.ballerina.openapi.core.GeneratorConstants.TIMEOUT_FIELD;
 import static io.ballerina.openapi.core.GeneratorConstants.VALIDATION;
 import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_HTTP_CONFIGURATIONS;
 import static io.ballerina.openapi.core.GeneratorUtils.escapeIdentifier;
@@ -205,6 +210,25 @@ import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
  */
 public class BallerinaAuthConfigGenerator {
 
+    private static final String DEFAULT_TIMEOUT = "60";
+    private static final Set<String> HTTP_OPTION_VALUES = Set.of("AUTO", "ALWAYS", "NEVER");
+    private static final Map<String, Function<Object, String>> POOL_CONFIG_FIELDS = new LinkedHashMap<>();
+    private static final Map<String, Function<Object, String>> HTTP2_SETTINGS_FIELDS = new LinkedHashMap<>();
+    private static final Map<String, Function<Object, String>> CACHE_CONFIG_FIELDS = new LinkedHashMap<>();
+
+    static {
+        POOL_CONFIG_FIELDS.put("maxActiveConnections", BallerinaAuthConfigGenerator::getIntValue);
+        POOL_CONFIG_FIELDS.put("maxIdleConnections", BallerinaAuthConfigGenerator::getIntValue);
+        POOL_CONFIG_FIELDS.put("waitTime", BallerinaAuthConfigGenerator::getDecimalValue);
+        POOL_CONFIG_FIELDS.put("maxActiveStreamsPerConnection", BallerinaAuthConfigGenerator::getIntValue);
+        HTTP2_SETTINGS_FIELDS.put("http2PriorKnowledge", BallerinaAuthConfigGenerator::getBooleanValue);
+        HTTP2_SETTINGS_FIELDS.put("http2InitialWindowSize", BallerinaAuthConfigGenerator::getIntValue);
+        CACHE_CONFIG_FIELDS.put("enabled", BallerinaAuthConfigGenerator::getBooleanValue);
+        CACHE_CONFIG_FIELDS.put("isShared", BallerinaAuthConfigGenerator::getBooleanValue);
+        CACHE_CONFIG_FIELDS.put("capacity", BallerinaAuthConfigGenerator::getIntValue);
+        CACHE_CONFIG_FIELDS.put("evictionFactor", BallerinaAuthConfigGenerator::getDecimalValue);
+    }
+
     private final Map<String, String> headerApiKeyNameList = new HashMap<>();
     private final Map<String, String> queryApiKeyNameList = new HashMap<>();
     private final List<Node> apiKeysConfigRecordFields = new ArrayList<>();
@@ -214,6 +238,12 @@ public class BallerinaAuthConfigGenerator {
     private String passwordGrantTokenUrl;
     private String refreshTokenUrl;
     private String httpVersion = HTTP_VERSION_MAP.get(DEFAULT_HTTP_VERSION);
+    private String timeout = DEFAULT_TIMEOUT;
+    private String compression = "http:COMPRESSION_AUTO";
+    private String keepAlive = "http:KEEPALIVE_AUTO";
+    private String poolConfig;
+    private String http2Settings;
+    private String cacheConfig;
     private final Set<String> authTypes = new LinkedHashSet<>();
 
     private List<TypeDefinitionNode> authRelatedTypeDefinitionNodes = new ArrayList<>();
@@ -274,6 +304,110 @@ public class BallerinaAuthConfigGenerator {
         return authRelatedTypeDefinitionNodes;
     }
 
+    /**
+     * Set the default values of the `ConnectionConfig` record fields given in the `x-ballerina-http-configurations`
+     * extension. Invalid values are ignored and the fields are generated with the default values of the HTTP module.
+     * <pre>
+     *     x-ballerina-http-configurations:
+     *       httpVersion: "2.0"
+     *       timeout: 30
+     *       compression: ALWAYS
+     *       keepAlive: NEVER
+     *       poolConfig:
+     *         maxActiveConnections: 200
+     *         maxIdleConnections: 50
+     *       http2Settings:
+     *         http2PriorKnowledge: true
+     *       cache:
+     *         enabled: false
+     * </pre>
+     *
+     * @param extFields fields of the `x-ballerina-http-configurations` extension
+     */
+    private void setHttpConfigurations(Map<?, ?> extFields) {
+        Object httpVersionValue = extFields.get(HTTP_VERIONS_EXT);
+        if (httpVersionValue != null && HTTP_VERSION_MAP.containsKey(httpVersionValue.toString())) {
+            this.httpVersion = HTTP_VERSION_MAP.get(httpVersionValue.toString());
+        }
+        String timeoutValue = getDecimalValue(extFields.get(TIMEOUT_FIELD));
+        if (timeoutValue != null) {
+            this.timeout = timeoutValue;
+        }
+        String compressionValue = getEnumValue(extFields.get(COMPRESSION_FIELD), "http:COMPRESSION_");
+        if (compressionValue != null) {
+            this.compression = compressionValue;
+        }
+        String keepAliveValue = getEnumValue(extFields.get(KEEP_ALIVE), "http:KEEPALIVE_");
+        if (keepAliveValue != null) {
+            this.keepAlive = keepAliveValue;
+        }
+        this.poolConfig = getMappingValue(extFields.get(POOL_CONFIG_FIELD), POOL_CONFIG_FIELDS);
+        this.http2Settings = getMappingValue(extFields.get(HTTP2_SETTINGS_FIELD), HTTP2_SETTINGS_FIELDS);
+        this.cacheConfig = getMappingValue(extFields.get(CACHE_CONFIG_FIELD), CACHE_CONFIG_FIELDS);
+    }
+
+    /**
+     * Returns the source of the given mapping with only the fields of the valid values, or null if there is no such
+     * field.
+     */
+    private static String getMappingValue(Object value, Map<String, Function<Object, String>> fieldValueMappers) {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        Map<?, ?> mapping = (Map<?, ?>) value;
+        for (Map.Entry<String, Function<Object, String>> fieldValueMapper : fieldValueMappers.entrySet()) {
+            String fieldValue = fieldValueMapper.getValue().apply(mapping.get(fieldValueMapper.getKey()));
+            if (fieldValue != null) {
+                fields.add(fieldValueMapper.getKey() + ": " + fieldValue);
+            }
+        }
+        return fields.isEmpty() ? null : "{" + String.join(", ", fields) + "}";
+    }
+
+    private static String getDecimalValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            BigDecimal decimal = new BigDecimal(value.toString().trim());
+            return decimal.signum() < 0 ? null : decimal.toPlainString();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String getIntValue(Object value) {
+        String decimal = getDecimalValue(value);
+        if (decimal == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(decimal).toBigIntegerExact().toString();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static String getBooleanValue(Object value) {
+        if (value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof String && ("true".equalsIgnoreCase((String) value) ||
+                "false".equalsIgnoreCase((String) value))) {
+            return ((String) value).toLowerCase(Locale.ENGLISH);
+        }
+        return null;
+    }
+
+    private static String getEnumValue(Object value, String constantPrefix) {
+        if (value == null) {
+            return null;
+        }
+        String name = value.toString().trim().toUpperCase(Locale.ENGLISH);
+        return HTTP_OPTION_VALUES.contains(name) ? constantPrefix + name : null;
+    }
+
     /**
      * Add authentication related records.
      *
@@ -294,15 +428,8 @@ public class BallerinaAuthConfigGenerator {
             //  No diagnosics available at this level to send a warning.
             //  Currently ignore the values and gen with default.
             if (openAPI.getExtensions() != null &&
-                    openAPI.getExtensions().containsKey(X_BALLERINA_HTTP_CONFIGURATIONS)) {
-                LinkedHashMap<String, String> extFields =
-                        (LinkedHashMap<String, String>) openAPI.getExtensions().get(X_BALLERINA_HTTP_CONFIGURATIONS);
-                if (extFields.containsKey(HTTP_VERIONS_EXT)) {
-                    String httpVersion = extFields.get(HTTP_VERIONS_EXT);
-                    if (httpVersion != null && HTTP_VERSION_MAP.containsKey(httpVersion)) {
-                        this.httpVersion = HTTP_VERSION_MAP.get(httpVersion);
-                    }
-                }
+                    openAPI.getExtensions().get(X_BALLERINA_HTTP_CONFIGURATIONS) instanceof Map) {
+                setHttpConfigurations((Map<?, ?>) openAPI.getExtensions().get(X_BALLERINA_HTTP_CONFIGURATIONS));
             }
 
             // generate related records
@@ -1222,17 +1349,15 @@ public class BallerinaAuthConfigGenerator {
         TypeDescriptorNode http2SettingsFieldType =
                 createSimpleNameReferenceNode(createIdentifierToken("http:ClientHttp2Settings"));
         IdentifierToken http2SettingsFieldName = createIdentifierToken("http2Settings");
-        RecordFieldNode http2SettingsFieldNode = NodeFactory.createRecordFieldNode(
-                http2SettingsMetadata, null, http2SettingsFieldType, http2SettingsFieldName,
-                questionMarkToken, semicolonToken);
-        recordFieldNodes.add(http2SettingsFieldNode);
+        recordFieldNodes.add(getOptionalRecordFieldNode(http2SettingsMetadata, http2SettingsFieldType,
+                http2SettingsFieldName, this.http2Settings));
 
         // add timeout field
         MetadataNode timeoutMetadata = getMetadataNode(
                 "The maximum time to wait (in seconds) for a response before closing the connection");
         IdentifierToken timeoutFieldName = createIdentifierToken("timeout");
         TypeDescriptorNode timeoutFieldType = createSimpleNameReferenceNode(createToken(DECIMAL_KEYWORD));
-        ExpressionNode decimalLiteralNode = createRequiredExpressionNode(createIdentifierToken("60"));
+        ExpressionNode decimalLiteralNode = createRequiredExpressionNode(createIdentifierToken(this.timeout));
         RecordFieldWithDefaultValueNode timeoutFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 timeoutMetadata, null, timeoutFieldType, timeoutFieldName,
                 equalToken, decimalLiteralNode, semicolonToken);
@@ -1254,20 +1379,16 @@ public class BallerinaAuthConfigGenerator {
         IdentifierToken poolConfigFieldName = AbstractNodeFactory.createIdentifierToken("poolConfig");
         TypeDescriptorNode poolConfigFieldType = createSimpleNameReferenceNode(
                 createIdentifierToken("http:PoolConfiguration"));
-        RecordFieldNode poolConfigFieldNode = NodeFactory.createRecordFieldNode(
-                poolConfigMetaData, null, poolConfigFieldType, poolConfigFieldName,
-                questionMarkToken, semicolonToken);
-        recordFieldNodes.add(poolConfigFieldNode);
+        recordFieldNodes.add(getOptionalRecordFieldNode(poolConfigMetaData, poolConfigFieldType,
+                poolConfigFieldName, this.poolConfig));
 
         // add cache field
         MetadataNode cachMetadata = getMetadataNode("HTTP caching related configurations");
         IdentifierToken cacheFieldName = createIdentifierToken("cache");
         TypeDescriptorNode cacheFieldType =
                 createSimpleNameReferenceNode(createIdentifierToken("http:CacheConfig"));
-        RecordFieldNode cachFieldNode = NodeFactory.createRecordFieldNode(
-                cachMetadata, null, cacheFieldType, cacheFieldName,
-                questionMarkToken, semicolonToken);
-        recordFieldNodes.add(cachFieldNode);
+        recordFieldNodes.add(getOptionalRecordFieldNode(cachMetadata, cacheFieldType, cacheFieldName,
+                this.cacheConfig));
 
         // add compression field
         MetadataNode compressionMetadata = getMetadataNode(
@@ -1276,7 +1397,7 @@ public class BallerinaAuthConfigGenerator {
         TypeDescriptorNode compressionFieldType = createSimpleNameReferenceNode(
                 createIdentifierToken("http:Compression"));
         ExpressionNode compressionDefaultValue = createRequiredExpressionNode(
-                createIdentifierToken("http:COMPRESSION_AUTO"));
+                createIdentifierToken(this.compression));
         RecordFieldWithDefaultValueNode compressionFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 compressionMetadata, null, compressionFieldType, compressionFieldName,
                 equalToken, compressionDefaultValue, semicolonToken);
@@ -1518,6 +1639,20 @@ public class BallerinaAuthConfigGenerator {
                 , annotateReference, annotValue);
     }
 
+    /**
+     * Generate an optional record field, or a record field with the given default value if the value is available.
+     */
+    private static Node getOptionalRecordFieldNode(MetadataNode metadata, TypeDescriptorNode fieldType,
+                                                   IdentifierToken fieldName, String defaultValue) {
+        if (defaultValue == null) {
+            return NodeFactory.createRecordFieldNode(metadata, null, fieldType, fieldName,
+                    createToken(QUESTION_MARK_TOKEN), createToken(SEMICOLON_TOKEN));
+        }
+        return NodeFactory.createRecordFieldWithDefaultValueNode(metadata, null, fieldType, fieldName,
+                createToken(EQUAL_TOKEN), createRequiredExpressionNode(createIdentifierToken(defaultValue)),
+                createToken(SEMICOLON_TOKEN));
+    }
+
     private List<Node> getClientHttp1SettingsRecordFields() {
         List<Node> recordFieldNodes = new ArrayList<>();
         Token semicolonToken = createToken(SEMICOLON_TOKEN);
@@ -1528,7 +1663,7 @@ public class BallerinaAuthConfigGenerator {
         TypeDescriptorNode keepAliveFieldType = createSimpleNameReferenceNode(
                 createIdentifierToken("http:KeepAlive"));
         ExpressionNode keepAliveDefaultValue = createRequiredExpressionNode(
-                createIdentifierToken("http:KEEPALIVE_AUTO"));
+                createIdentifierToken(this.keepAlive));
         RecordFieldWithDefaultValueNode keepAliveRecordField = createRecordFieldWithDefaultValueNode(
                 keepAliveMetadataNode, null, keepAliveFieldType, keepAliveFieldName,
                 createToken(EQUAL_TOKEN), keepAliveDefaultValue, semicolonToken);
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.tools.text.TextDocuments;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+
+/**
+ * This {@code BallerinaBenchmarkGenerator} generates a benchmark harness for the generated client. The harness
+ * invokes each client operation by concurrent workers for a configurable duration against the configured service
+ * URL, e.g. a mock service, and writes the request count, error count, throughput and latency percentiles of each
+ * operation to a JSON report.
+ * <pre>
+ *     isolated function getPetsOperation(Client benchmarkClient) returns error? {
+ *         _ = check benchmarkClient->/pets.get();
+ *     }
+ *
+ *     &#64;test:Config {groups: ["benchmark"]}
+ *     function benchmarkOperations() returns error? {
+ *         ...
+ *         BenchmarkReport[] reports = [];
+ *         reports.push(runBenchmarkOperation("getPets", benchmarkClient, getPetsOperation));
+ *         check writeBenchmarkReport(reports);
+ *     }
+ * </pre>
+ * The operations are named by the remote methods, or by the accessors and the paths of the resource methods.
+ * Operations with required parameters of the types which can not be given a placeholder value, e.g. records, are
+ * not included in the harness.
+ *
+ * @since 1.7.0
+ */
+public class BallerinaBenchmarkGenerator {
+    private static final String BENCHMARK_TEMPLATE = "templates/benchmark_openapi.bal";
+    private static final String DEFAULT_SERVICE_URL = "http://localhost:9090";
+    private static final String BENCHMARK_CLIENT = "benchmarkClient";
+    private static final String OPERATION_SUFFIX = "Operation";
+
+    private final BallerinaClientGenerator ballerinaClientGenerator;
+    private final SyntaxTree clientSyntaxTree;
+
+    public BallerinaBenchmarkGenerator(BallerinaClientGenerator ballerinaClientGenerator,
+                                       SyntaxTree clientSyntaxTree) {
+        this.ballerinaClientGenerator = ballerinaClientGenerator;
+        this.clientSyntaxTree = clientSyntaxTree;
+    }
+
+    /**
+     * Generate benchmark.bal file syntax tree.
+     *
+     * @return {@link SyntaxTree}
+     * @throws IOException Throws exception when the benchmark template is not found
+     */
+    public SyntaxTree generateSyntaxTree() throws IOException {
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream(BENCHMARK_TEMPLATE);
+        if (inputStream == null) {
+            throw new IOException("Failed to find the benchmark template: " + BENCHMARK_TEMPLATE);
+        }
+        SyntaxTree templateSyntaxTree = SyntaxTree.from(TextDocuments.from(
+                IOUtils.toString(inputStream, StandardCharsets.UTF_8)));
+        ModulePartNode templateNode = templateSyntaxTree.rootNode();
+
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>(getClientConfigurableNodes());
+        templateNode.members().forEach(members::add);
+        List<String> operationNames = new ArrayList<>();
+        members.addAll(getOperationFunctionNodes(operationNames));
+        members.add(getBenchmarkFunctionNode(operationNames));
+        ModulePartNode modulePartNode = templateNode.modify().withMembers(createNodeList(members)).apply();
+        return templateSyntaxTree.modifyWith(modulePartNode);
+    }
+
+    /**
+     * Generate the configurable variables to initialize the client.
+     * <pre>
+     *     configurable string benchmarkServiceUrl = "https://petstore.swagger.io/v1";
+     *     configurable ConnectionConfig & readonly benchmarkConfig = {};
+     * </pre>
+     */
+    private List<ModuleMemberDeclarationNode> getClientConfigurableNodes() {
+        BallerinaAuthConfigGenerator authConfigGenerator = ballerinaClientGenerator.getBallerinaAuthConfigGenerator();
+        String serverUrl = ballerinaClientGenerator.getServerUrl();
+        List<ModuleMemberDeclarationNode> configurableNodes = new ArrayList<>();
+        configurableNodes.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                "configurable string benchmarkServiceUrl = \"%s\";",
+                serverUrl == null || serverUrl.equals("/") ? DEFAULT_SERVICE_URL : serverUrl)));
+        // The authentication details do not have default values, hence they are read from the Config.toml
+        configurableNodes.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                "configurable %s & readonly benchmarkConfig = %s;", GeneratorConstants.CONNECTION_CONFIG,
+                authConfigGenerator.isHttpOROAuth() ? "?" : "{}")));
+        if (isApiKeyClient()) {
+            configurableNodes.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                    "configurable %s & readonly benchmarkApiKeyConfig = ?;", GeneratorConstants.API_KEYS_CONFIG)));
+        }
+        return configurableNodes;
+    }
+
+    /**
+     * Generate a function invoking each client operation with the placeholder values of its required parameters.
+     *
+     * @param operationNames Names of the operations included in the harness
+     */
+    private List<ModuleMemberDeclarationNode> getOperationFunctionNodes(List<String> operationNames) {
+        List<ModuleMemberDeclarationNode> functionNodes = new ArrayList<>();
+        for (FunctionDefinitionNode function : getClientMethods()) {
+            String functionName = function.functionName().text().trim();
+            boolean isResource = hasQualifier(function, SyntaxKind.RESOURCE_KEYWORD);
+            Optional<String> arguments = getArguments(function.functionSignature());
+            Optional<String> resourcePath = isResource ? getResourcePath(function.relativeResourcePath()) :
+                    Optional.of("");
+            if (arguments.isEmpty() || resourcePath.isEmpty()) {
+                continue;
+            }
+            String baseName = getOperationName(function, isResource);
+            String operationName = baseName;
+            for (int count = 1; operationNames.contains(operationName); count++) {
+                operationName = baseName + count;
+            }
+            String action = isResource ?
+                    String.format("%s->/%s.%s(%s)", BENCHMARK_CLIENT, resourcePath.get(), functionName,
+                            arguments.get()) :
+                    String.format("%s->%s(%s)", BENCHMARK_CLIENT, functionName, arguments.get());
+            boolean returnsNil = function.functionSignature().returnTypeDesc().isPresent() &&
+                    function.functionSignature().returnTypeDesc().get().type().toSourceCode().trim()
+                            .equals("error?");
+            functionNodes.add(NodeParser.parseModuleMemberDeclaration(String.format(
+                    "isolated function %s%s(Client %s) returns error? { %scheck %s; }", operationName,
+                    OPERATION_SUFFIX, BENCHMARK_CLIENT, returnsNil ? "" : "_ = ", action)));
+            operationNames.add(operationName);
+        }
+        return functionNodes;
+    }
+
+    /**
+     * Returns the name of the operation of the given client method, which is the name of a remote method, or the
+     * accessor and the path segments of a resource method, e.g. `getPetsPetId` of
+     * `resource isolated function get pets/[string petId]()`.
+     */
+    private static String getOperationName(FunctionDefinitionNode function, boolean isResource) {
+        String functionName = unescape(function.functionName().text().trim());
+        if (!isResource) {
+            return functionName;
+        }
+        StringBuilder operationName = new StringBuilder(functionName);
+        for (Node node : function.relativeResourcePath()) {
+            String segment = null;
+            if (node.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
+                segment = ((ResourcePathParameterNode) node).paramName().map(Token::text).orElse(null);
+            } else if (node.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+                segment = ((Token) node).text();
+            }
+            if (segment != null && !unescape(segment.trim()).isBlank()) {
+                operationName.append(GeneratorUtils.getValidName(unescape(segment.trim()), true));
+            }
+        }
+        return operationName.toString();
+    }
+
+    private static String unescape(String identifier) {
+        return identifier.startsWith("'") ? identifier.substring(1) : identifier;
+    }
+
+    /**
+     * Generate the test function which runs the benchmark of the operations and writes the report.
+     * <pre>
+     *     &#64;test:Config {groups: ["benchmark"]}
+     *     function benchmarkOperations() returns error? {
+     *         if !benchmarkEnabled {
+     *             return;
+     *         }
+     *         Client benchmarkClient = check new (config = benchmarkConfig, serviceUrl = benchmarkServiceUrl);
+     *         BenchmarkReport[] reports = [];
+     *         reports.push(runBenchmarkOperation("listPets", benchmarkClient, listPetsOperation));
+     *         check writeBenchmarkReport(reports);
+     *     }
+     * </pre>
+     */
+    private ModuleMemberDeclarationNode getBenchmarkFunctionNode(List<String> operationNames) {
+        StringBuilder function = new StringBuilder("@test:Config {groups: [\"benchmark\"]}\n" +
+                "function benchmarkOperations() returns error? {\n" +
+                "    if !benchmarkEnabled {\n" +
+                "        return;\n" +
+                "    }\n");
+        function.append(String.format("    Client %s = check new (%sconfig = benchmarkConfig, %s = " +
+                        "benchmarkServiceUrl);\n", BENCHMARK_CLIENT,
+                isApiKeyClient() ? GeneratorConstants.API_KEY_CONFIG_PARAM + " = benchmarkApiKeyConfig, " : "",
+                GeneratorConstants.SERVICE_URL));
+        function.append("    BenchmarkReport[] reports = [];\n");
+        for (String operationName : operationNames) {
+            function.append(String.format("    reports.push(runBenchmarkOperation(\"%s\", %s, %s%s));\n", operationName,
+                    BENCHMARK_CLIENT, operationName, OPERATION_SUFFIX));
+        }
+        function.append("    check writeBenchmarkReport(reports);\n}");
+        return NodeParser.parseModuleMemberDeclaration(function.toString());
+    }
+
+    private boolean isApiKeyClient() {
+        BallerinaAuthConfigGenerator authConfigGenerator = ballerinaClientGenerator.getBallerinaAuthConfigGenerator();
+        return authConfigGenerator.isApiKey() && !authConfigGenerator.isHttpOROAuth();
+    }
+
+    /**
+     * Returns the remote and resource methods of the generated client class.
+     */
+    private List<FunctionDefinitionNode> getClientMethods() {
+        List<FunctionDefinitionNode> methods = new ArrayList<>();
+        ModulePartNode modulePartNode = clientSyntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (!(member instanceof ClassDefinitionNode)) {
+                continue;
+            }
+            for (Node classMember : ((ClassDefinitionNode) member).members()) {
+                if (classMember instanceof FunctionDefinitionNode &&
+                        (hasQualifier((FunctionDefinitionNode) classMember, SyntaxKind.REMOTE_KEYWORD) ||
+                                hasQualifier((FunctionDefinitionNode) classMember, SyntaxKind.RESOURCE_KEYWORD))) {
+                    methods.add((FunctionDefinitionNode) classMember);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static boolean hasQualifier(FunctionDefinitionNode function, SyntaxKind qualifier) {
+        for (Token token : function.qualifierList()) {
+            if (token.kind() == qualifier) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the arguments of the required parameters, or empty if a required parameter can not be given a
+     * placeholder value. The defaultable parameters are not given.
+     */
+    private static Optional<String> getArguments(FunctionSignatureNode functionSignature) {
+        List<String> arguments = new ArrayList<>();
+        for (ParameterNode parameter : functionSignature.parameters()) {
+            if (parameter instanceof DefaultableParameterNode) {
+                continue;
+            }
+            if (!(parameter instanceof RequiredParameterNode)) {
+                return Optional.empty();
+            }
+            Optional<String> value = getPlaceholderValue(
+                    ((RequiredParameterNode) parameter).typeName().toSourceCode().trim());
+            if (value.isEmpty()) {
+                return Optional.empty();
+            }
+            arguments.add(value.get());
+        }
+        return Optional.of(String.join(", ", arguments));
+    }
+
+    /**
+     * Returns the resource access path of the given resource method with the placeholder values of the path
+     * parameters, e.g. `pets/["string"]`.
+     */
+    private static Optional<String> getResourcePath(NodeList<Node> relativeResourcePath) {
+        List<String> segments = new ArrayList<>();
+        for (Node node : relativeResourcePath) {
+            if (node.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
+                Optional<String> value = getPlaceholderValue(
+                        ((ResourcePathParameterNode) node).typeDescriptor().toSourceCode().trim());
+                if (value.isEmpty()) {
+                    return Optional.empty();
+                }
+                segments.add("[" + value.get() + "]");
+            } else if (node.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+                segments.add(((Token) node).text());
+            }
+        }
+        return Optional.of(segments.isEmpty() ? "." : String.join("/", segments));
+    }
+
+    private static Optional<String> getPlaceholderValue(String type) {
+        if (type.endsWith("?")) {
+            return Optional.of("()");
+        } else if (type.endsWith("[]")) {
+            return Optional.of("[]");
+        } else if (type.startsWith("map<") || type.equals("json") || type.equals("anydata")) {
+            return Optional.of("{}");
+        }
+        switch (type) {
+            case GeneratorConstants.STRING:
+                return Optional.of("\"string\"");
+            case "int":
+            case "decimal":
+                return Optional.of("0");
+            case GeneratorConstants.FLOAT:
+                return Optional.of("0.0");
+            case GeneratorConstants.BOOLEAN:
+                return Optional.of("true");
+            default:
+                return Optional.empty();
+        }
+    }
+}
@@ -20,12 +20,17 @@ package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
+import io.ballerina.compiler.syntax.tree.BlockStatementNode;
+import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -33,6 +38,7 @@ import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.ObjectFieldNode;
@@ -79,11 +85,17 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeLi
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createAssignmentStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createClassDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createElseBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationLineNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
@@ -94,17 +106,22 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameR
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeTestExpressionNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLASS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLIENT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ELSE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IF_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
@@ -118,6 +135,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_API_KEY_DESC;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP;
 import static io.ballerina.openapi.core.GeneratorConstants.SELF;
+import static io.ballerina.openapi.core.GeneratorConstants.SHARED_HTTP_CLIENT;
 import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_INIT_DESCRIPTION;
 
 /**
@@ -138,6 +156,8 @@ public class BallerinaClientGenerator {
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final boolean sharedConnector;
+    private final List<ModuleVariableDeclarationNode> moduleVariableDeclarationNodes;
 
     /**
      * Returns a list of type definition nodes.
@@ -192,6 +212,8 @@ public class BallerinaClientGenerator {
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
+        this.sharedConnector = oasClientConfig.isSharedConnector();
+        this.moduleVariableDeclarationNodes = new ArrayList<>();
     }
 
     /**
@@ -212,6 +234,8 @@ public class BallerinaClientGenerator {
 
         // Add class definition node to module member nodes
         nodes.add(getClassDefinitionNode());
+        // Add the constants of the client methods, e.g. query parameter encoding maps, as module level variables
+        nodes.addAll(moduleVariableDeclarationNodes);
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
         ModulePartNode modulePartNode =
@@ -313,6 +337,18 @@ public class BallerinaClientGenerator {
      *         self.clientEp = httpEp;
      *   }
      * </pre>
+     * -- Scenario 4: init function of a client sharing the given connector, e.g. among the clients of the tags
+     * <pre>
+     *   public isolated function init(ConnectionConfig config =  {},
+     *      string serviceUrl = "base-url", http:Client? httpClient = ()) returns error? {
+     *         if httpClient is http:Client {
+     *             self.clientEp = httpClient;
+     *         } else {
+     *             http:Client httpEp = check new (serviceUrl, httpClientConfig);
+     *             self.clientEp = httpEp;
+     *         }
+     *   }
+     * </pre>
      *
      * @return {@link FunctionDefinitionNode}   Class init function
      * @throws BallerinaOpenApiException When invalid server URL is provided
@@ -344,16 +380,15 @@ public class BallerinaClientGenerator {
         if (ballerinaAuthConfigGenerator.isApiKey() && ballerinaAuthConfigGenerator.isHttpOROAuth()) {
             assignmentNodes.add(ballerinaAuthConfigGenerator.handleInitForMixOfApiKeyAndHTTPOrOAuth());
         }
-        // create initialization statement of http:Client class instance
-        assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode());
-        // create {@code self.clientEp = httpEp;} assignment node
-        FieldAccessExpressionNode varRef = createFieldAccessExpressionNode(
-                createSimpleNameReferenceNode(createIdentifierToken(SELF)), createToken(DOT_TOKEN),
-                createSimpleNameReferenceNode(createIdentifierToken("clientEp")));
-        SimpleNameReferenceNode expr = createSimpleNameReferenceNode(createIdentifierToken("httpEp"));
-        AssignmentStatementNode httpClientAssignmentStatementNode = createAssignmentStatementNode(varRef,
-                createToken(EQUAL_TOKEN), expr, createToken(SEMICOLON_TOKEN));
-        assignmentNodes.add(httpClientAssignmentStatementNode);
+        if (sharedConnector) {
+            // use the given connector, so that the clients sharing it reuse its connection pool
+            assignmentNodes.add(getSharedClientInitializationNode());
+        } else {
+            // create initialization statement of http:Client class instance
+            assignmentNodes.add(ballerinaAuthConfigGenerator.getClientInitializationNode());
+            // create {@code self.clientEp = httpEp;} assignment node
+            assignmentNodes.add(getClientEpAssignmentNode("httpEp"));
+        }
 
 
         // Get API key assignment node if authentication mechanism type is only `apiKey`
@@ -374,6 +409,47 @@ public class BallerinaClientGenerator {
                 null, statementList, createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Create the initialization statement of a client sharing the given connector.
+     * <pre>
+     *     if httpClient is http:Client {
+     *         self.clientEp = httpClient;
+     *     } else {
+     *         http:Client httpEp = check new (serviceUrl, httpClientConfig);
+     *         self.clientEp = httpEp;
+     *     }
+     * </pre>
+     *
+     * @return {@link IfElseStatementNode}
+     */
+    private IfElseStatementNode getSharedClientInitializationNode() {
+
+        BuiltinSimpleNameReferenceNode httpClientType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(HTTP + COLON_TOKEN.stringValue() + GeneratorConstants.CLIENT_CLASS));
+        ExpressionNode condition = createTypeTestExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(SHARED_HTTP_CLIENT)), createToken(IS_KEYWORD),
+                httpClientType);
+        BlockStatementNode ifBody = createBlockStatementNode(createToken(OPEN_BRACE_TOKEN),
+                createNodeList(getClientEpAssignmentNode(SHARED_HTTP_CLIENT)), createToken(CLOSE_BRACE_TOKEN));
+        BlockStatementNode elseBody = createBlockStatementNode(createToken(OPEN_BRACE_TOKEN),
+                createNodeList(ballerinaAuthConfigGenerator.getClientInitializationNode(),
+                        getClientEpAssignmentNode("httpEp")), createToken(CLOSE_BRACE_TOKEN));
+        return createIfElseStatementNode(createToken(IF_KEYWORD), condition, ifBody,
+                createElseBlockNode(createToken(ELSE_KEYWORD), elseBody));
+    }
+
+    /**
+     * Create the {@code self.clientEp = <connector>;} assignment node of the given connector variable.
+     */
+    private static AssignmentStatementNode getClientEpAssignmentNode(String connector) {
+
+        FieldAccessExpressionNode varRef = createFieldAccessExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(SELF)), createToken(DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(GeneratorConstants.CLIENT_EP)));
+        SimpleNameReferenceNode expr = createSimpleNameReferenceNode(createIdentifierToken(connector));
+        return createAssignmentStatementNode(varRef, createToken(EQUAL_TOKEN), expr, createToken(SEMICOLON_TOKEN));
+    }
+
     /**
      * Create function signature node of client init function.
      *
@@ -383,8 +459,18 @@ public class BallerinaClientGenerator {
     private FunctionSignatureNode getInitFunctionSignatureNode() throws BallerinaOpenApiException {
 
         serverURL = getServerURL(openAPI.getServers());
-        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
-                ballerinaAuthConfigGenerator.getConfigParamForClassInit(serverURL));
+        List<Node> parameters = new ArrayList<>(ballerinaAuthConfigGenerator.getConfigParamForClassInit(serverURL));
+        if (sharedConnector) {
+            // http:Client? httpClient = ()
+            BuiltinSimpleNameReferenceNode httpClientType = createBuiltinSimpleNameReferenceNode(null,
+                    createIdentifierToken("http:Client?"));
+            DefaultableParameterNode httpClientParam = createDefaultableParameterNode(createEmptyNodeList(),
+                    httpClientType, createIdentifierToken(SHARED_HTTP_CLIENT), createToken(EQUAL_TOKEN),
+                    createBasicLiteralNode(null, createIdentifierToken("()")));
+            parameters.add(createToken(COMMA_TOKEN));
+            parameters.add(httpClientParam);
+        }
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(parameters);
         OptionalTypeDescriptorNode returnType = createOptionalTypeDescriptorNode(createToken(ERROR_KEYWORD),
                 createToken(QUESTION_MARK_TOKEN));
         ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
@@ -425,6 +511,19 @@ public class BallerinaClientGenerator {
         MarkdownParameterDocumentationLineNode serviceUrlAPI = DocCommentsGenerator.createAPIParamDoc("serviceUrl",
                 "URL of the target service");
         docs.add(serviceUrlAPI);
+        if (sharedConnector) {
+            // the given connector is used as it is, hence the connection and auth configurations are not applied
+            String sharedClientDoc = "The `http:Client` to be shared with the other clients of the service, " +
+                    "instead of creating a new connection pool. When it is given, `config` and `serviceUrl` are " +
+                    "ignored";
+            if (ballerinaAuthConfigGenerator.isHttpOROAuth()) {
+                sharedClientDoc = sharedClientDoc + (ballerinaAuthConfigGenerator.isApiKey() ?
+                        " except the API keys of `config.auth`, hence the HTTP or OAuth authentication has to be " +
+                                "configured in the given client" :
+                        ", including `config.auth`, hence the authentication has to be configured in the given client");
+            }
+            docs.add(DocCommentsGenerator.createAPIParamDoc(SHARED_HTTP_CLIENT, sharedClientDoc));
+        }
         MarkdownParameterDocumentationLineNode returnDoc = DocCommentsGenerator.createAPIParamDoc("return",
                 "An error if connector initialization failed");
         docs.add(returnDoc);
@@ -574,7 +673,8 @@ public class BallerinaClientGenerator {
 
         // Create Function Body
         FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
-                openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
+                openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode,
+                moduleVariableDeclarationNodes);
         FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
         imports = functionBodyGenerator.getImports();
 
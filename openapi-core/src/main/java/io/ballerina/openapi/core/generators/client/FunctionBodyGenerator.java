@@ -30,6 +30,7 @@ import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
@@ -57,6 +58,7 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -82,6 +84,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExp
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModuleVariableDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSpecificFieldNode;
@@ -94,6 +97,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FINAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.IF_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.IS_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
@@ -102,6 +106,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.openapi.core.GeneratorConstants.API_KEYS_CONFIG;
 import static io.ballerina.openapi.core.GeneratorConstants.API_KEY_CONFIG_PARAM;
+import static io.ballerina.openapi.core.GeneratorConstants.BOOLEAN;
 import static io.ballerina.openapi.core.GeneratorConstants.DELETE;
 import static io.ballerina.openapi.core.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.core.GeneratorConstants.EXECUTE;
@@ -110,8 +115,10 @@ import static io.ballerina.openapi.core.GeneratorConstants.HEADER;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER_VALUES;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_HEADERS;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
+import static io.ballerina.openapi.core.GeneratorConstants.INTEGER;
 import static io.ballerina.openapi.core.GeneratorConstants.NEW;
 import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
+import static io.ballerina.openapi.core.GeneratorConstants.NUMBER;
 import static io.ballerina.openapi.core.GeneratorConstants.PATCH;
 import static io.ballerina.openapi.core.GeneratorConstants.POST;
 import static io.ballerina.openapi.core.GeneratorConstants.PUT;
@@ -121,6 +128,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.RESOURCE_PATH;
 import static io.ballerina.openapi.core.GeneratorConstants.RESPONSE;
 import static io.ballerina.openapi.core.GeneratorConstants.SELF;
+import static io.ballerina.openapi.core.GeneratorUtils.escapeIdentifier;
 import static io.ballerina.openapi.core.GeneratorUtils.generateBodyStatementForComplexUrl;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 import static io.ballerina.openapi.core.GeneratorUtils.isComplexURL;
@@ -141,6 +149,8 @@ public class FunctionBodyGenerator {
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final List<ModuleVariableDeclarationNode> moduleVariableDeclarationNodes;
+    private String functionName;
 
     public List<ImportDeclarationNode> getImports() {
         return imports;
@@ -150,10 +160,30 @@ public class FunctionBodyGenerator {
         this.imports = imports;
     }
 
+    /**
+     * Returns the module level variables hoisted from the function bodies, such as the query parameter encoding maps.
+     */
+    public List<ModuleVariableDeclarationNode> getModuleVariableDeclarationNodes() {
+        return moduleVariableDeclarationNodes;
+    }
+
     public FunctionBodyGenerator(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
                                  OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
                                  BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
                                  BallerinaUtilGenerator ballerinaUtilGenerator, boolean resourceMode) {
+        this(imports, typeDefinitionNodeList, openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator,
+                ballerinaUtilGenerator, resourceMode, new ArrayList<>());
+    }
+
+    /**
+     * Creates a generator which adds the hoisted module level variables to the given variables of the client, so
+     * that their names are unique within the client module.
+     */
+    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
+                                 OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
+                                 BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
+                                 BallerinaUtilGenerator ballerinaUtilGenerator, boolean resourceMode,
+                                 List<ModuleVariableDeclarationNode> moduleVariableDeclarationNodes) {
 
         this.imports = imports;
         this.isHeader = false;
@@ -163,6 +193,7 @@ public class FunctionBodyGenerator {
         this.ballerinaUtilGenerator = ballerinaUtilGenerator;
         this.ballerinaAuthConfigGenerator = ballerinaAuthConfigGenerator;
         this.resourceMode = resourceMode;
+        this.moduleVariableDeclarationNodes = moduleVariableDeclarationNodes;
     }
 
     /**
@@ -180,6 +211,7 @@ public class FunctionBodyGenerator {
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
                 openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
         isHeader = false;
+        functionName = getFunctionName(path, operation, resourceMode);
         // Create statements
         List<StatementNode> statementsList = new ArrayList<>();
         // Check whether given path is complex path , if complex it will handle adding these two statement
@@ -188,7 +220,8 @@ public class FunctionBodyGenerator {
             statementsList.addAll(bodyStatements);
         }
         //string path - common for every remote functions
-        VariableDeclarationNode pathInt = getPathStatement(path, annotationNodes);
+        VariableDeclarationNode pathInt = getPathStatement(path, operation.getValue().getParameters(),
+                annotationNodes);
         statementsList.add(pathInt);
 
         //Handel query parameter map
@@ -366,17 +399,20 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Get updated path considering queryParamEncodingMap.
+     * Get updated path considering queryParamEncodingMap. The encoding map is a constant of the operation, hence it is
+     * declared once at the module level instead of being constructed in every call.
      */
     private void getUpdatedPathHandlingQueryParamEncoding(List<StatementNode> statementsList, List<Parameter>
             queryParameters) throws BallerinaOpenApiException {
 
-        VariableDeclarationNode queryParamEncodingMap = getQueryParameterEncodingMap(queryParameters);
+        String queryParamEncodingMapName = getQueryParamEncodingMapName();
+        ModuleVariableDeclarationNode queryParamEncodingMap = getQueryParameterEncodingMap(queryParameters,
+                queryParamEncodingMapName);
         if (queryParamEncodingMap != null) {
-            statementsList.add(queryParamEncodingMap);
+            moduleVariableDeclarationNodes.add(queryParamEncodingMap);
             ExpressionStatementNode updatedPath = GeneratorUtils.getSimpleExpressionStatementNode(
                     RESOURCE_PATH + " = " + RESOURCE_PATH + " + check getPathForQueryParam(queryParam, " +
-                            "queryParamEncoding)");
+                            queryParamEncodingMapName + ")");
             statementsList.add(updatedPath);
         } else {
             ExpressionStatementNode updatedPath = GeneratorUtils.getSimpleExpressionStatementNode(
@@ -413,26 +449,28 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generate VariableDeclarationNode for query parameter encoding map which includes the data related serialization
-     * mechanism that needs to be used with object or array type parameters. Parameters in primitive types will not be
-     * included to the map even when the serialization mechanisms are specified. These data is given in the `style` and
-     * `explode` sections of the OpenAPI definition. Style defines how multiple values are delimited and explode
-     * specifies whether arrays and objects should generate separate parameters
+     * Generate ModuleVariableDeclarationNode for query parameter encoding map which includes the data related
+     * serialization mechanism that needs to be used with object or array type parameters. Parameters in primitive
+     * types will not be included to the map even when the serialization mechanisms are specified. These data is given
+     * in the `style` and `explode` sections of the OpenAPI definition. Style defines how multiple values are delimited
+     * and explode specifies whether arrays and objects should generate separate parameters
      * <p>
-     * --ex: {@code map<Encoding> queryParamEncoding = {"expand": ["deepObject", true]};}
+     * --ex: {@code final readonly & map<Encoding> listPetsQueryParamEncoding = {"expand": ["deepObject", true]};}
      *
      * @param queryParameters List of query parameters defined in a particular function
-     * @return {@link VariableDeclarationNode}
+     * @param mapName         Name of the module level encoding map
+     * @return {@link ModuleVariableDeclarationNode}
      * @throws BallerinaOpenApiException When invalid referenced schema is given.
      */
-    private VariableDeclarationNode getQueryParameterEncodingMap(List<Parameter> queryParameters)
+    private ModuleVariableDeclarationNode getQueryParameterEncodingMap(List<Parameter> queryParameters,
+                                                                       String mapName)
             throws BallerinaOpenApiException {
 
         List<Node> filedOfMap = new ArrayList<>();
         BuiltinSimpleNameReferenceNode mapType = createBuiltinSimpleNameReferenceNode(null,
-                createIdentifierToken("map<" + ENCODING + ">"));
+                createIdentifierToken("readonly & map<" + ENCODING + ">"));
         CaptureBindingPatternNode bindingPattern = createCaptureBindingPatternNode(
-                createIdentifierToken("queryParamEncoding"));
+                createIdentifierToken(mapName));
         TypedBindingPatternNode bindingPatternNode = createTypedBindingPatternNode(mapType, bindingPattern);
 
         for (Parameter parameter : queryParameters) {
@@ -455,14 +493,55 @@ public class FunctionBodyGenerator {
             MappingConstructorExpressionNode initialize = createMappingConstructorExpressionNode(
                     createToken(OPEN_BRACE_TOKEN), createSeparatedNodeList(filedOfMap),
                     createToken(CLOSE_BRACE_TOKEN));
-            return createVariableDeclarationNode(createEmptyNodeList(),
-                    null, bindingPatternNode, createToken(EQUAL_TOKEN), initialize,
-                    createToken(SEMICOLON_TOKEN));
+            return createModuleVariableDeclarationNode(null, null,
+                    createNodeList(createToken(FINAL_KEYWORD)), bindingPatternNode, createToken(EQUAL_TOKEN),
+                    initialize, createToken(SEMICOLON_TOKEN));
         }
         return null;
 
     }
 
+    /**
+     * Returns the name of the module level query parameter encoding map of the function, which is suffixed by a
+     * number if the name is already declared in the client module.
+     * -- ex: {@code listPetsQueryParamEncoding}, {@code getPetsPetIdQueryParamEncoding}
+     */
+    private String getQueryParamEncodingMapName() {
+        Set<String> declaredNames = new HashSet<>();
+        for (ModuleVariableDeclarationNode variableDeclaration : moduleVariableDeclarationNodes) {
+            declaredNames.add(variableDeclaration.typedBindingPattern().bindingPattern().toSourceCode().trim());
+        }
+        String name = escapeIdentifier(functionName + "QueryParamEncoding");
+        String uniqueName = name;
+        int count = 1;
+        while (declaredNames.contains(uniqueName)) {
+            uniqueName = name + count++;
+        }
+        return uniqueName;
+    }
+
+    /**
+     * Returns the unescaped name of the generated client method, which is the operation id of a remote method, and
+     * the accessor followed by the path segments of a resource method, as the operation id is optional there.
+     * -- ex: {@code listPets}, {@code getPetsPetId} of {@code get pets/[string petId]}
+     */
+    private static String getFunctionName(String path, Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                          boolean resourceMode) {
+        String operationId = operation.getValue().getOperationId();
+        if (!resourceMode && operationId != null && !operationId.isBlank()) {
+            String name = getValidName(operationId.trim(), false);
+            return name.startsWith("'") ? name.substring(1) : name;
+        }
+        StringBuilder name = new StringBuilder(operation.getKey().name().toLowerCase(Locale.ENGLISH));
+        for (String segment : path.split("/")) {
+            String segmentName = segment.replaceAll("[{}]", "").trim();
+            if (segmentName.matches(".*[a-zA-Z0-9].*")) {
+                name.append(getValidName(segmentName, true));
+            }
+        }
+        return name.toString();
+    }
+
     /**
      * Provides the list of security schemes available for the given operation.
      *
@@ -573,17 +652,19 @@ public class FunctionBodyGenerator {
      * <pre> string  path = string `/weather`; </pre>
      *
      * @param path            - Given path
+     * @param parameters      - Parameters of the operation
      * @param annotationNodes - Node list for path implementation
      * @return - VariableDeclarationNode for path statement.
      */
-    private VariableDeclarationNode getPathStatement(String path, NodeList<AnnotationNode> annotationNodes) {
+    private VariableDeclarationNode getPathStatement(String path, List<Parameter> parameters,
+                                                     NodeList<AnnotationNode> annotationNodes) {
 
         TypedBindingPatternNode typedBindingPatternNode = createTypedBindingPatternNode(createSimpleNameReferenceNode(
                 createToken(STRING_KEYWORD)), createCaptureBindingPatternNode(
                 createIdentifierToken(RESOURCE_PATH)));
         // Create initializer
         // Content  should decide with /pet and /pet/{pet}
-        path = generatePathWithPathParameter(path);
+        path = generatePathWithPathParameter(path, parameters);
         //String path generator
         NodeList<Node> content = createNodeList(createLiteralValueToken(null, path, createEmptyMinutiaeList(),
                 createEmptyMinutiaeList()));
@@ -601,6 +682,20 @@ public class FunctionBodyGenerator {
      */
     public String generatePathWithPathParameter(String path) {
 
+        return generatePathWithPathParameter(path, null);
+    }
+
+    /**
+     * This method is to used for generating path when it has path parameters. The path parameters of the integer,
+     * number and boolean types are interpolated without `getEncodedUri`, since their string values never contain the
+     * reserved characters of the URI.
+     *
+     * @param path       - yaml contract path
+     * @param parameters - parameters of the operation
+     * @return string of path
+     */
+    public String generatePathWithPathParameter(String path, List<Parameter> parameters) {
+
         if (path.contains("{")) {
             String refinedPath = path;
             Pattern p = Pattern.compile("\\{[^}]*}");
@@ -609,7 +704,9 @@ public class FunctionBodyGenerator {
                 String pathVariable = path.substring(m.start(), m.end());
                 if (pathVariable.startsWith("{") && pathVariable.endsWith("}")) {
                     String d = pathVariable.replace("{", "").replace("}", "");
-                    String replaceVariable = "{getEncodedUri(" + getValidName(d, false) + ")}";
+                    String replaceVariable = isUriSafePathParameter(d, parameters) ?
+                            "{" + getValidName(d, false) + "}" :
+                            "{getEncodedUri(" + getValidName(d, false) + ")}";
                     refinedPath = refinedPath.replace(pathVariable, replaceVariable);
                 }
             }
@@ -619,6 +716,33 @@ public class FunctionBodyGenerator {
         return path;
     }
 
+    /**
+     * Checks whether the given path parameter is of the integer, number or boolean type, which does not need the URI
+     * encoding.
+     */
+    private boolean isUriSafePathParameter(String parameterName, List<Parameter> parameters) {
+
+        if (parameters == null) {
+            return false;
+        }
+        for (Parameter parameter : parameters) {
+            if (parameter.getIn() == null || !parameter.getIn().trim().equals("path") ||
+                    !parameter.getName().trim().equals(parameterName.trim())) {
+                continue;
+            }
+            Schema<?> paramSchema = parameter.getSchema();
+            if (paramSchema != null && paramSchema.get$ref() != null && openAPI.getComponents() != null &&
+                    openAPI.getComponents().getSchemas() != null) {
+                paramSchema = openAPI.getComponents().getSchemas().get(
+                        getValidName(extractReferenceType(paramSchema.get$ref()), true));
+            }
+            return paramSchema != null && !(paramSchema instanceof ComposedSchema) && paramSchema.getType() != null &&
+                    (paramSchema.getType().equals(INTEGER) || paramSchema.getType().equals(NUMBER) ||
+                            paramSchema.getType().equals(BOOLEAN));
+        }
+        return false;
+    }
+
     /**
      * This function for creating requestBody statements.
      * -- ex: Request body with json payload.
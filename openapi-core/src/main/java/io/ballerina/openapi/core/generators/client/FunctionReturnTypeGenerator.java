@@ -24,6 +24,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -88,6 +89,18 @@ public class FunctionReturnTypeGenerator {
      * @throws BallerinaOpenApiException - throws exception if creating return type fails.
      */
     public String getReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.getInstance();
+        boolean constraintEnabled = generatorMetaData.isConstraintEnabled();
+        // Inline response schemas are constrained as the response payloads of the constraint mode
+        generatorMetaData.setConstraintEnabled(generatorMetaData.isResponseConstraintEnabled());
+        try {
+            return generateReturnType(operation, isSignature);
+        } finally {
+            generatorMetaData.setConstraintEnabled(constraintEnabled);
+        }
+    }
+
+    private String generateReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
         //TODO: Handle multiple media-type
         Set<String> returnTypes = new HashSet<>();
         boolean noContentResponseFound = false;
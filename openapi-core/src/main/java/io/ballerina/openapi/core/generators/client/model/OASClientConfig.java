@@ -31,7 +31,7 @@ public class OASClientConfig {
     private final boolean nullable;
     private final boolean resourceMode;
     private final boolean isPlugin;
-
+    private final boolean sharedConnector;
 
     private OASClientConfig(Builder clientConfigBuilder) {
         this.openAPI = clientConfigBuilder.openAPI;
@@ -39,6 +39,7 @@ public class OASClientConfig {
         this.nullable = clientConfigBuilder.nullable;
         this.isPlugin = clientConfigBuilder.isPlugin;
         this.resourceMode = clientConfigBuilder.resourceMode;
+        this.sharedConnector = clientConfigBuilder.sharedConnector;
     }
 
     public OpenAPI getOpenAPI() {
@@ -61,6 +62,10 @@ public class OASClientConfig {
         return isPlugin;
     }
 
+    public boolean isSharedConnector() {
+        return sharedConnector;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -70,6 +75,7 @@ public class OASClientConfig {
         private boolean nullable = false;
         private boolean resourceMode = true;
         private boolean isPlugin = false;
+        private boolean sharedConnector = false;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
@@ -96,6 +102,11 @@ public class OASClientConfig {
             return this;
         }
 
+        public Builder withSharedConnector(boolean sharedConnector) {
+            this.sharedConnector = sharedConnector;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
@@ -126,20 +126,30 @@ public class BallerinaTypesGenerator {
      * Generate syntaxTree for component schema.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
-        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.getInstance();
+        OpenAPI openAPI = generatorMetaData.getOpenAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
         if (openAPI.getComponents() != null) {
             // Create typeDefinitionNode
             Components components = openAPI.getComponents();
             Map<String, Schema> schemas = components.getSchemas();
             if (schemas != null) {
-                for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
-                    String schemaKey = schema.getKey().trim();
-                    if (GeneratorUtils.isValidSchemaName(schemaKey)) {
-                        List<Node> schemaDoc = new ArrayList<>();
-                        typeDefinitionNodeListForSchema.add(getTypeDefinitionNode(schema.getValue(), schemaKey,
-                                schemaDoc));
+                ConstraintAnalyzer constraintAnalyzer = new ConstraintAnalyzer(openAPI,
+                        generatorMetaData.getConstraintMode());
+                boolean constraintEnabled = generatorMetaData.isConstraintEnabled();
+                try {
+                    for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+                        String schemaKey = schema.getKey().trim();
+                        if (GeneratorUtils.isValidSchemaName(schemaKey)) {
+                            List<Node> schemaDoc = new ArrayList<>();
+                            // Constraints are generated only for the schemas selected by the constraint mode
+                            generatorMetaData.setConstraintEnabled(constraintAnalyzer.isConstrained(schemaKey));
+                            typeDefinitionNodeListForSchema.add(getTypeDefinitionNode(schema.getValue(),
+                                    schemaKey, schemaDoc));
+                        }
                     }
+                } finally {
+                    generatorMetaData.setConstraintEnabled(constraintEnabled);
                 }
             }
         }
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.model.ConstraintMode;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This {@code ConstraintAnalyzer} decides the component schemas whose types carry the constraint annotations in the
+ * given {@link ConstraintMode}, and counts the constrained fields of the payloads of each operation, which are
+ * validated at runtime.
+ *
+ * @since 1.7.0
+ */
+public class ConstraintAnalyzer {
+    private final OpenAPI openAPI;
+    private final ConstraintMode constraintMode;
+    private Set<String> constrainedSchemas;
+
+    public ConstraintAnalyzer(OpenAPI openAPI, ConstraintMode constraintMode) {
+        this.openAPI = openAPI;
+        this.constraintMode = constraintMode;
+    }
+
+    /**
+     * Returns whether the type of the given component schema carries the constraint annotations.
+     */
+    public boolean isConstrained(String schemaName) {
+        switch (constraintMode) {
+            case FULL:
+                return true;
+            case NONE:
+                return false;
+            default:
+                if (constrainedSchemas == null) {
+                    constrainedSchemas = getConstrainedSchemas();
+                }
+                return constrainedSchemas.contains(schemaName);
+        }
+    }
+
+    /**
+     * Returns the number of the constrained fields of the request and response payloads of each operation, keyed by
+     * the operation ID.
+     */
+    public Map<String, Integer> getConstrainedFieldCounts() {
+        Map<String, Integer> fieldCounts = new LinkedHashMap<>();
+        if (openAPI.getPaths() == null) {
+            return fieldCounts;
+        }
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap()
+                    .entrySet()) {
+                int fieldCount = 0;
+                for (Schema<?> schema : getRequestPayloads(operation.getValue())) {
+                    fieldCount += countConstrainedFields(schema, true);
+                }
+                for (Schema<?> schema : getResponsePayloads(operation.getValue())) {
+                    fieldCount += countConstrainedFields(schema, false);
+                }
+                String operationName = operation.getValue().getOperationId() != null ?
+                        operation.getValue().getOperationId() :
+                        operation.getKey().name().toLowerCase(Locale.ENGLISH) + " " + path.getKey();
+                fieldCounts.put(operationName, fieldCount);
+            }
+        }
+        return fieldCounts;
+    }
+
+    private Set<String> getConstrainedSchemas() {
+        Set<String> schemaNames = new HashSet<>();
+        if (openAPI.getPaths() == null) {
+            return schemaNames;
+        }
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            for (Operation operation : pathItem.readOperations()) {
+                for (Schema<?> schema : getRequestPayloads(operation)) {
+                    if (constraintMode == ConstraintMode.TOP_LEVEL) {
+                        addReferencedSchema(schema, schemaNames);
+                    } else {
+                        addReachableSchemas(schema, schemaNames);
+                    }
+                }
+                if (constraintMode == ConstraintMode.TOP_LEVEL) {
+                    getResponsePayloads(operation).forEach(schema -> addReferencedSchema(schema, schemaNames));
+                }
+            }
+        }
+        return schemaNames;
+    }
+
+    private int countConstrainedFields(Schema<?> schema, boolean isRequest) {
+        switch (constraintMode) {
+            case NONE:
+                return 0;
+            case REQUEST_ONLY:
+                return isRequest ? countReachableFields(schema, new HashSet<>()) : 0;
+            case TOP_LEVEL:
+                return countTopLevelFields(schema);
+            default:
+                return countReachableFields(schema, new HashSet<>());
+        }
+    }
+
+    /**
+     * Counts the constrained fields of the given schema and of its nested schemas. A schema referenced more than
+     * once is counted once.
+     */
+    private int countReachableFields(Schema<?> schema, Set<String> visitedSchemas) {
+        if (schema == null) {
+            return 0;
+        }
+        if (schema.get$ref() != null) {
+            String schemaName = getSchemaName(schema.get$ref());
+            return visitedSchemas.add(schemaName) ? countReachableFields(getSchema(schemaName), visitedSchemas) : 0;
+        }
+        int fieldCount = GeneratorUtils.isConstraintExists(schema) ? 1 : 0;
+        for (Schema<?> nestedSchema : getNestedSchemas(schema)) {
+            fieldCount += countReachableFields(nestedSchema, visitedSchemas);
+        }
+        return fieldCount;
+    }
+
+    /**
+     * Counts the constraints of the given schema and of its inline properties.
+     */
+    private int countTopLevelFields(Schema<?> schema) {
+        Schema<?> resolvedSchema = schema != null && schema.get$ref() != null ?
+                getSchema(getSchemaName(schema.get$ref())) : schema;
+        if (resolvedSchema == null) {
+            return 0;
+        }
+        int fieldCount = GeneratorUtils.isConstraintExists(resolvedSchema) ? 1 : 0;
+        if (resolvedSchema.getProperties() != null) {
+            for (Schema<?> property : resolvedSchema.getProperties().values()) {
+                if (property.get$ref() == null && GeneratorUtils.isConstraintExists(property)) {
+                    fieldCount++;
+                }
+            }
+        }
+        return fieldCount;
+    }
+
+    private void addReferencedSchema(Schema<?> schema, Set<String> schemaNames) {
+        if (schema.get$ref() != null) {
+            schemaNames.add(getSchemaName(schema.get$ref()));
+        }
+    }
+
+    private void addReachableSchemas(Schema<?> schema, Set<String> schemaNames) {
+        if (schema == null) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            String schemaName = getSchemaName(schema.get$ref());
+            if (schemaNames.add(schemaName)) {
+                addReachableSchemas(getSchema(schemaName), schemaNames);
+            }
+            return;
+        }
+        getNestedSchemas(schema).forEach(nestedSchema -> addReachableSchemas(nestedSchema, schemaNames));
+    }
+
+    private static List<Schema<?>> getNestedSchemas(Schema<?> schema) {
+        List<Schema<?>> nestedSchemas = new ArrayList<>();
+        if (schema.getProperties() != null) {
+            schema.getProperties().values().forEach(nestedSchemas::add);
+        }
+        if (schema instanceof ArraySchema && ((ArraySchema) schema).getItems() != null) {
+            nestedSchemas.add(((ArraySchema) schema).getItems());
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            for (List<Schema> schemas : List.of(nullToEmpty(composedSchema.getAllOf()),
+                    nullToEmpty(composedSchema.getOneOf()), nullToEmpty(composedSchema.getAnyOf()))) {
+                schemas.forEach(nestedSchemas::add);
+            }
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            nestedSchemas.add((Schema<?>) schema.getAdditionalProperties());
+        }
+        return nestedSchemas;
+    }
+
+    private static List<Schema> nullToEmpty(List<Schema> schemas) {
+        return schemas == null ? List.of() : schemas;
+    }
+
+    private List<Schema<?>> getRequestPayloads(Operation operation) {
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getRequestBodies() != null) {
+            String reference = requestBody.get$ref();
+            requestBody = openAPI.getComponents().getRequestBodies()
+                    .get(reference.substring(reference.lastIndexOf('/') + 1));
+        }
+        return requestBody == null ? List.of() : getPayloads(requestBody.getContent());
+    }
+
+    private List<Schema<?>> getResponsePayloads(Operation operation) {
+        List<Schema<?>> payloads = new ArrayList<>();
+        if (operation.getResponses() == null) {
+            return payloads;
+        }
+        for (ApiResponse response : operation.getResponses().values()) {
+            payloads.addAll(getPayloads(GeneratorUtils.resolveResponseReference(openAPI, response).getContent()));
+        }
+        return payloads;
+    }
+
+    private static List<Schema<?>> getPayloads(Content content) {
+        List<Schema<?>> payloads = new ArrayList<>();
+        if (content != null) {
+            for (MediaType mediaType : content.values()) {
+                if (mediaType.getSchema() != null) {
+                    payloads.add(mediaType.getSchema());
+                }
+            }
+        }
+        return payloads;
+    }
+
+    private Schema<?> getSchema(String schemaName) {
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return null;
+        }
+        return openAPI.getComponents().getSchemas().get(schemaName);
+    }
+
+    private String getSchemaName(String reference) {
+        return GeneratorUtils.getReferencedSchemaName(openAPI, reference);
+    }
+}
@@ -302,6 +302,9 @@ public class TypeGeneratorUtils {
 
     public static boolean isConstraintAllowed(String typeName, Schema schema) {
 
+        if (!GeneratorMetaData.getInstance().isConstraintEnabled()) {
+            return false;
+        }
         boolean isConstraintNotAllowed = schema.getNullable() != null && schema.getNullable() ||
                 (schema instanceof ComposedSchema && (((ComposedSchema) schema).getOneOf() != null ||
                         ((ComposedSchema) schema).getAnyOf() != null));
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This {@code TypeReferenceIndex} indexes the type definitions of a generated types module by the names they refer
+ * to. Hence the types used by a client, and the types used by those types in turn, are found by walking the index
+ * instead of compiling the client with the types module to find the unused types.
+ * <p>
+ * The index is built from a parsed syntax tree, and it is read-only afterwards, hence it can be shared by the
+ * generators running concurrently.
+ *
+ * @since 1.7.0
+ */
+public class TypeReferenceIndex {
+    private final Map<String, TypeDefinitionNode> typeDefinitions = new LinkedHashMap<>();
+    private final Map<String, Set<String>> references = new HashMap<>();
+
+    public TypeReferenceIndex(SyntaxTree typesSyntaxTree) {
+        ModulePartNode modulePartNode = typesSyntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.TYPE_DEFINITION) {
+                TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) member;
+                String typeName = typeDefinitionNode.typeName().text();
+                typeDefinitions.put(typeName, typeDefinitionNode);
+                references.put(typeName, getReferencedNames(typeDefinitionNode));
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the indexed types which are reachable from the given names, in the order of the types
+     * module. The given names which are not indexed types, e.g. the names of the variables, are ignored.
+     */
+    public Set<String> getReachableTypes(Collection<String> names) {
+        Set<String> reachableTypes = new HashSet<>();
+        Deque<String> pendingNames = new ArrayDeque<>(names);
+        while (!pendingNames.isEmpty()) {
+            String name = pendingNames.pop();
+            if (typeDefinitions.containsKey(name) && reachableTypes.add(name)) {
+                pendingNames.addAll(references.get(name));
+            }
+        }
+        Set<String> orderedTypes = new LinkedHashSet<>();
+        for (String typeName : typeDefinitions.keySet()) {
+            if (reachableTypes.contains(typeName)) {
+                orderedTypes.add(typeName);
+            }
+        }
+        return orderedTypes;
+    }
+
+    /**
+     * Returns the type definitions of the given type names, in the order of the types module.
+     */
+    public List<TypeDefinitionNode> getTypeDefinitions(Set<String> typeNames) {
+        List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+        for (Map.Entry<String, TypeDefinitionNode> typeDefinition : typeDefinitions.entrySet()) {
+            if (typeNames.contains(typeDefinition.getKey())) {
+                typeDefinitionNodes.add(typeDefinition.getValue());
+            }
+        }
+        return typeDefinitionNodes;
+    }
+
+    /**
+     * Returns the unqualified names referred in the given node, except the names of the named arguments and of the
+     * field accesses.
+     */
+    public static Set<String> getReferencedNames(Node node) {
+        NameReferenceVisitor visitor = new NameReferenceVisitor();
+        node.accept(visitor);
+        Set<String> names = new HashSet<>();
+        for (SimpleNameReferenceNode nameReference : visitor.nameReferences) {
+            if (!isNonTypeName(nameReference)) {
+                names.add(nameReference.name().text());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the module prefixes of the qualified names referred in the given node, e.g. `http` of
+     * `http:ClientConfiguration`.
+     */
+    public static Set<String> getModulePrefixes(Node node) {
+        NameReferenceVisitor visitor = new NameReferenceVisitor();
+        node.accept(visitor);
+        return visitor.modulePrefixes;
+    }
+
+    /**
+     * Returns the source of the given syntax tree after qualifying the references to the given type names with the
+     * given module prefix, e.g. `Pet` is referred as `common:Pet`.
+     */
+    public static String qualifyReferences(SyntaxTree syntaxTree, Set<String> typeNames, String modulePrefix) {
+        NameReferenceVisitor visitor = new NameReferenceVisitor();
+        syntaxTree.rootNode().accept(visitor);
+        StringBuilder source = new StringBuilder(syntaxTree.toSourceCode());
+        List<SimpleNameReferenceNode> nameReferences = visitor.nameReferences;
+        // References are qualified from the end of the source, hence the offsets of the former ones are not changed
+        for (int i = nameReferences.size() - 1; i >= 0; i--) {
+            SimpleNameReferenceNode nameReference = nameReferences.get(i);
+            if (typeNames.contains(nameReference.name().text()) && !isNonTypeName(nameReference)) {
+                source.insert(nameReference.textRange().startOffset(), modulePrefix + ":");
+            }
+        }
+        return source.toString();
+    }
+
+    private static boolean isNonTypeName(SimpleNameReferenceNode nameReference) {
+        if (nameReference.parent() == null) {
+            return false;
+        }
+        SyntaxKind parentKind = nameReference.parent().kind();
+        return parentKind == SyntaxKind.NAMED_ARG || parentKind == SyntaxKind.FIELD_ACCESS ||
+                parentKind == SyntaxKind.OPTIONAL_FIELD_ACCESS;
+    }
+
+    /**
+     * Visitor to collect the unqualified name references in the order of the source, and the module prefixes of the
+     * qualified name references.
+     */
+    private static class NameReferenceVisitor extends NodeVisitor {
+        private final List<SimpleNameReferenceNode> nameReferences = new ArrayList<>();
+        private final Set<String> modulePrefixes = new HashSet<>();
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            nameReferences.add(simpleNameReferenceNode);
+        }
+
+        @Override
+        public void visit(QualifiedNameReferenceNode qualifiedNameReferenceNode) {
+            modulePrefixes.add(qualifiedNameReferenceNode.modulePrefix().text());
+        }
+    }
+}
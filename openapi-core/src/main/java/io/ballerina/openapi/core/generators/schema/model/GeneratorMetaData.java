@@ -18,10 +18,14 @@
 
 package io.ballerina.openapi.core.generators.schema.model;
 
+import io.ballerina.openapi.core.model.ConstraintMode;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_CONSTRAINT_MODE;
+
 /**
- * Stores metadata related to Ballerina types generation.
+ * Stores metadata related to Ballerina types generation. The metadata is kept per thread, so that the generations
+ * running concurrently on different threads do not share it.
  *
  * @since 1.3.0
  */
@@ -30,20 +34,37 @@ public class GeneratorMetaData {
     private final OpenAPI openAPI;
     private final boolean nullable;
     private final boolean generateServiceType;
-    private static GeneratorMetaData generatorMetaData = null;
+    private final ConstraintMode constraintMode;
+    private boolean constraintEnabled;
+    private static final ThreadLocal<GeneratorMetaData> GENERATOR_META_DATA = new ThreadLocal<>();
 
     private GeneratorMetaData(OpenAPI openAPI, boolean nullable, boolean generateServiceType) {
         this.openAPI = openAPI;
         this.nullable = nullable;
         this.generateServiceType = generateServiceType;
+        this.constraintMode = getConstraintMode(openAPI);
+        this.constraintEnabled = constraintMode != ConstraintMode.NONE;
+    }
+
+    /**
+     * Returns the constraint mode given by the `x-ballerina-constraint-mode` extension of the definition, which is
+     * the full mode by default.
+     */
+    private static ConstraintMode getConstraintMode(OpenAPI openAPI) {
+        if (openAPI == null || openAPI.getExtensions() == null ||
+                !(openAPI.getExtensions().get(X_BALLERINA_CONSTRAINT_MODE) instanceof String)) {
+            return ConstraintMode.FULL;
+        }
+        return ConstraintMode.fromValue((String) openAPI.getExtensions().get(X_BALLERINA_CONSTRAINT_MODE))
+                .orElse(ConstraintMode.FULL);
     }
 
     public static void createInstance(OpenAPI openAPI, boolean nullable, boolean generateServiceType) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable, generateServiceType);
+        GENERATOR_META_DATA.set(new GeneratorMetaData(openAPI, nullable, generateServiceType));
     }
 
     public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+        return GENERATOR_META_DATA.get();
     }
 
     public OpenAPI getOpenAPI() {
@@ -57,4 +78,35 @@ public class GeneratorMetaData {
     public boolean isServiceTypeRequired() {
         return generateServiceType;
     }
+
+    public ConstraintMode getConstraintMode() {
+        return constraintMode;
+    }
+
+    /**
+     * Returns whether the constraint annotations are generated for the type currently being generated.
+     */
+    public boolean isConstraintEnabled() {
+        return constraintEnabled;
+    }
+
+    public void setConstraintEnabled(boolean constraintEnabled) {
+        this.constraintEnabled = constraintEnabled && constraintMode != ConstraintMode.NONE;
+    }
+
+    /**
+     * Returns whether the array item types with the constraints of the items are generated. The items are validated
+     * one by one, hence they are not generated in the top level mode.
+     */
+    public boolean isItemConstraintEnabled() {
+        return constraintEnabled && constraintMode != ConstraintMode.TOP_LEVEL;
+    }
+
+    /**
+     * Returns whether the constraint annotations are generated for the inline schemas of the response payloads. They
+     * are payload types themselves, hence they are constrained unless the mode constrains only the request payloads.
+     */
+    public boolean isResponseConstraintEnabled() {
+        return constraintMode == ConstraintMode.FULL || constraintMode == ConstraintMode.TOP_LEVEL;
+    }
 }
@@ -26,12 +26,14 @@ import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
@@ -63,13 +65,18 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -83,6 +90,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignat
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createServiceDeclarationNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.openapi.core.GeneratorConstants.CATCH_ALL_PATH;
@@ -103,19 +111,25 @@ public class BallerinaServiceGenerator {
     private boolean isNullableRequired;
     private final OpenAPI openAPI;
     private final Filter filter;
+    private final boolean isNullable;
     private final boolean isServiceTypeRequired;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
+    private final ServicePerformanceConfigGenerator performanceConfigGenerator;
+    private final MockResponseGenerator mockResponseGenerator;
+    private final List<ModuleMemberDeclarationNode> mockResponses = new ArrayList<>();
     private List<Node> functionList = new ArrayList<>();
     private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
-    private final Set<String> paths = new LinkedHashSet<>();
 
     public BallerinaServiceGenerator(OASServiceMetadata oasServiceMetadata) {
         this.openAPI = oasServiceMetadata.getOpenAPI();
         this.filter = oasServiceMetadata.getFilters();
         this.isNullableRequired = false;
+        this.isNullable = oasServiceMetadata.isNullable();
         this.isServiceTypeRequired = oasServiceMetadata.isServiceTypeRequired();
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, oasServiceMetadata.isNullable(),
                 new LinkedList<>());
+        this.performanceConfigGenerator = new ServicePerformanceConfigGenerator(openAPI);
+        this.mockResponseGenerator = oasServiceMetadata.isMockService() ? new MockResponseGenerator(openAPI) : null;
         GeneratorMetaData.createInstance(openAPI, oasServiceMetadata.isNullable(),
                 oasServiceMetadata.isServiceTypeRequired());
     }
@@ -140,7 +154,7 @@ public class BallerinaServiceGenerator {
         // Create imports http and openapi
         NodeList<ImportDeclarationNode> imports = createImportDeclarationNodes();
         // Need to Generate Base path
-        ListenerGenerator listener = new ListenerGenerator();
+        ListenerGenerator listener = new ListenerGenerator(performanceConfigGenerator.getRequestLimits().orElse(null));
         ListenerDeclarationNode listenerDeclarationNode = listener.getListenerDeclarationNodes(openAPI.getServers());
         NodeList<Node> absoluteResourcePath = createBasePathNodeList(listener);
 
@@ -152,13 +166,15 @@ public class BallerinaServiceGenerator {
         this.setFunctionList(functions);
 
         NodeList<Node> members = createNodeList(functions);
-        // Create annotation if nullable property is enabled
+        // Create annotation if nullable property is enabled or the compression is configured
         // @http:ServiceConfig {
-        //     treatNilableAsOptional : false
+        //     treatNilableAsOptional : false,
+        //     compression: {enable: http:COMPRESSION_AUTO}
         //}
         MetadataNode metadataNode = null;
-        if (isNullableRequired) {
-            metadataNode = generateServiceConfigAnnotation();
+        Optional<MappingConstructorExpressionNode> compression = performanceConfigGenerator.getCompressionConfig();
+        if (isNullableRequired || compression.isPresent()) {
+            metadataNode = generateServiceConfigAnnotation(isNullableRequired, compression.orElse(null));
         }
         TypeDescriptorNode serviceType = null;
         if (isServiceTypeRequired) {
@@ -172,8 +188,11 @@ public class BallerinaServiceGenerator {
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN), members, createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null);
 
         // Create module member declaration
-        NodeList<ModuleMemberDeclarationNode> moduleMembers = createNodeList(
-                listenerDeclarationNode, serviceDeclarationNode);
+        List<ModuleMemberDeclarationNode> moduleMemberList = new ArrayList<>();
+        moduleMemberList.add(listenerDeclarationNode);
+        moduleMemberList.addAll(mockResponses);
+        moduleMemberList.add(serviceDeclarationNode);
+        NodeList<ModuleMemberDeclarationNode> moduleMembers = createNodeList(moduleMemberList);
 
         Token eofToken = createIdentifierToken("");
         ModulePartNode modulePartNode = createModulePartNode(imports, moduleMembers, eofToken);
@@ -183,22 +202,94 @@ public class BallerinaServiceGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generate the resource functions of the given paths. The return types are generated in the order of the paths
+     * and the operations, so that the inline response records are named uniquely and in the same way on each
+     * generation. The rest of the resource functions do not depend on each other, hence those are generated
+     * concurrently on the workers of this generation and merged in the same order.
+     */
     private List<Node> createResourceFunctions(OpenAPI openApi, Filter filter) throws BallerinaOpenApiException {
 
-        List<Node> functions = new ArrayList<>();
+        // The mock responses of an earlier generation are dropped, so that regenerating does not duplicate them
+        mockResponses.clear();
+        List<Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>>> operations = new ArrayList<>();
         if (!openApi.getPaths().isEmpty()) {
             Paths paths = openApi.getPaths();
             Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
             for (Map.Entry<String, PathItem> path : pathsItems) {
                 if (!path.getValue().readOperationsMap().isEmpty()) {
                     Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                    functions.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
+                    for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
+                        if (isFilteredOperation(filter, operation.getValue())) {
+                            operations.add(Map.entry(path.getKey(), operation));
+                        }
+                    }
                 }
             }
         }
+        List<Node> functions = new ArrayList<>();
+        if (operations.isEmpty()) {
+            return functions;
+        }
+        // The workers are not kept after the generation, hence the thread-local metadata of the workers, which
+        // refers to the definition, is released with them
+        ExecutorService resourceGenerators = Executors.newFixedThreadPool(
+                Math.min(operations.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "openapi-resource-generator");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            Set<String> responseRecordNames = new HashSet<>();
+            List<CompletableFuture<ResourceFunction>> resourceFunctions = new ArrayList<>();
+            for (Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>> operation : operations) {
+                ResourceReturnType returnType = mockResponseGenerator == null ?
+                        generateReturnType(operation.getKey(), operation.getValue(), responseRecordNames) : null;
+                resourceFunctions.add(CompletableFuture.supplyAsync(() -> generateResourceFunction(
+                        operation.getKey(), operation.getValue(), returnType), resourceGenerators));
+            }
+            Set<String> mockResponseNames = new HashSet<>();
+            for (CompletableFuture<ResourceFunction> resourceFunction : resourceFunctions) {
+                ResourceFunction function;
+                try {
+                    function = resourceFunction.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof BallerinaOpenApiException) {
+                        throw (BallerinaOpenApiException) e.getCause();
+                    }
+                    throw e;
+                }
+                if (function.mockResponse != null) {
+                    functions.add(addMockResponse(function, mockResponseNames));
+                } else {
+                    functions.add(function.functionDefinitionNode);
+                }
+                typeInclusionRecords.putAll(function.typeInclusionRecords);
+                isNullableRequired = isNullableRequired || function.isNullableRequired;
+            }
+        } finally {
+            resourceGenerators.shutdownNow();
+        }
         return functions;
     }
 
+    /**
+     * Generate the return type of the given operation with the return documentation and the inline records of it.
+     */
+    private ResourceReturnType generateReturnType(String path, Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                  Set<String> responseRecordNames)
+            throws BallerinaOpenApiException {
+
+        String pathForRecord = Objects.equals(path, SLASH) || Objects.equals(path, CATCH_ALL_PATH) ? "" :
+                GeneratorUtils.getValidName(path, true);
+        ReturnTypeGenerator returnTypeGenerator = new ReturnTypeGenerator(ballerinaSchemaGenerator, pathForRecord,
+                responseRecordNames);
+        List<Node> returnDocs = new ArrayList<>();
+        ReturnTypeDescriptorNode returnNode = returnTypeGenerator.getReturnTypeDescriptorNode(operation,
+                createEmptyNodeList(), path, returnDocs);
+        return new ResourceReturnType(returnNode, returnDocs, returnTypeGenerator.getTypeInclusionRecords());
+    }
+
     private NodeList<Node> createBasePathNodeList(ListenerGenerator listener) {
 
         if (GeneratorConstants.OAS_PATH_SEPARATOR.equals(listener.getBasePath())) {
@@ -212,47 +303,72 @@ public class BallerinaServiceGenerator {
         }
     }
 
-    private List<Node> applyFiltersForOperations(Filter filter, String path,
-                                                 Map<PathItem.HttpMethod, Operation> operationMap)
-            throws BallerinaOpenApiException {
+    /**
+     * Declare the response of the given mock resource function as a module level variable and return it from the
+     * resource function.
+     * <pre>
+     *     final readonly & http:Ok listPetsResponse = {mediaType: "application/json", body: ...};
+     *
+     *     resource function get pets() returns http:Ok {
+     *         return listPetsResponse;
+     *     }
+     * </pre>
+     */
+    private FunctionDefinitionNode addMockResponse(ResourceFunction function, Set<String> mockResponseNames) {
+        String baseName = function.mockResponseName + "Response";
+        String name = baseName;
+        for (int i = 1; !mockResponseNames.add(name); i++) {
+            name = baseName + i;
+        }
+        mockResponses.add(NodeParser.parseModuleMemberDeclaration(String.format("final readonly & %s %s = %s;",
+                function.mockResponse.getStatusCodeType(), name, function.mockResponse.getValue())));
+        FunctionDefinitionNode functionDefinitionNode = function.functionDefinitionNode;
+        FunctionBodyBlockNode functionBody = (FunctionBodyBlockNode) functionDefinitionNode.functionBody();
+        StatementNode returnStatement = NodeParser.parseStatement("return " + name + ";");
+        return functionDefinitionNode.modify().withFunctionBody(functionBody.modify()
+                .withStatements(functionBody.statements().add(returnStatement)).apply()).apply();
+    }
 
-        List<Node> functions = new ArrayList<>();
-        for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
-            List<Node> resourceFunctionDocs = new ArrayList<>();
-            addFunctionDescToAPIDocs(operation, resourceFunctionDocs);
-            //Add filter availability
-            //1.Tag filter
-            //2.Operation filter
-            //3. Both tag and operation filter
-            List<String> filterTags = filter.getTags();
-            List<String> operationTags = operation.getValue().getTags();
-            List<String> filterOperations = filter.getOperations();
-            if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                if (operationTags != null || ((!filterOperations.isEmpty())
-                        && (operation.getValue().getOperationId() != null))) {
-                    if ((operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
-                            ((operation.getValue().getOperationId() != null) &&
-                                    filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                        // getRelative resource path
-                        List<Node> functionRelativeResourcePath = GeneratorUtils.getRelativeResourcePath(path,
-                                operation.getValue(), resourceFunctionDocs);
-                        // function call
-                        FunctionDefinitionNode functionDefinitionNode = getResourceFunction(operation,
-                                functionRelativeResourcePath, path, resourceFunctionDocs);
-                        functions.add(functionDefinitionNode);
-                    }
-                }
-            } else {
-                // getRelative resource path
-                List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue(),
-                        resourceFunctionDocs);
-                // function call
-                FunctionDefinitionNode resourceFunction = getResourceFunction(operation, relativeResourcePath,
-                        path, resourceFunctionDocs);
-                functions.add(resourceFunction);
-            }
+    /**
+     * Check whether the given operation is selected by the tag and operation filters.
+     */
+    private static boolean isFilteredOperation(Filter filter, Operation operation) {
+
+        //Add filter availability
+        //1.Tag filter
+        //2.Operation filter
+        //3. Both tag and operation filter
+        List<String> filterTags = filter.getTags();
+        List<String> operationTags = operation.getTags();
+        List<String> filterOperations = filter.getOperations();
+        if (filterTags.isEmpty() && filterOperations.isEmpty()) {
+            return true;
+        }
+        return (operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
+                ((operation.getOperationId() != null) &&
+                        filterOperations.contains(operation.getOperationId().trim()));
+    }
+
+    /**
+     * Generate the resource function of the given operation in a worker thread. The types generation metadata is
+     * kept per thread, hence it is created for the worker thread as well.
+     */
+    private ResourceFunction generateResourceFunction(String path,
+                                                      Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                      ResourceReturnType returnType) {
+
+        GeneratorMetaData.createInstance(openAPI, isNullable, isServiceTypeRequired);
+        List<Node> resourceFunctionDocs = new ArrayList<>();
+        addFunctionDescToAPIDocs(operation, resourceFunctionDocs);
+        try {
+            // getRelative resource path
+            List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue(),
+                    resourceFunctionDocs);
+            // function call
+            return getResourceFunction(operation, relativeResourcePath, path, resourceFunctionDocs, returnType);
+        } catch (BallerinaOpenApiException e) {
+            throw new CompletionException(e);
         }
-        return functions;
     }
 
     /**
@@ -260,12 +376,14 @@ public class BallerinaServiceGenerator {
      *
      * @param operation -  OAS operation
      * @param pathNodes -  Relative path nodes
-     * @return - {@link FunctionDefinitionNode} relevant resource
+     * @param returnType - Generated return type of the operation, which is not given for the mock resources
+     * @return - {@link ResourceFunction} relevant resource with the records generated for it
      * @throws BallerinaOpenApiException when the process failure occur
      */
-    private FunctionDefinitionNode getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
+    private ResourceFunction getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
                                                        List<Node> pathNodes, String path,
-                                                       List<Node> resourceFunctionDocs)
+                                                       List<Node> resourceFunctionDocs,
+                                                       ResourceReturnType returnType)
             throws BallerinaOpenApiException {
 
         NodeList<Token> qualifiersList = createNodeList(createIdentifierToken(GeneratorConstants.RESOURCE,
@@ -310,20 +428,27 @@ public class BallerinaServiceGenerator {
             params.remove(params.size() - 1);
         }
 
-        if (!isNullableRequired) {
-            isNullableRequired = parametersGenerator.isNullableRequired();
-        }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(params);
-        String pathForRecord = Objects.equals(path, SLASH) || Objects.equals(path, CATCH_ALL_PATH) ? "" :
-                GeneratorUtils.getValidName(path, true);
-        ReturnTypeGenerator returnTypeGenerator = new ReturnTypeGenerator(ballerinaSchemaGenerator, pathForRecord);
-        if (!paths.contains(path)) {
-            returnTypeGenerator.setCountForRecord(0);
-            paths.add(path);
+        ReturnTypeDescriptorNode returnNode;
+        MockResponseGenerator.MockResponse mockResponse = null;
+        if (mockResponseGenerator != null) {
+            // the mock resource returns the status code response of the example instead of the response types
+            mockResponse = mockResponseGenerator.getMockResponse(operation.getValue());
+            String returnType = GeneratorUtils.isComplexURL(path) ? mockResponse.getStatusCodeType() + "|error" :
+                    mockResponse.getStatusCodeType();
+            returnNode = createReturnTypeDescriptorNode(createToken(SyntaxKind.RETURNS_KEYWORD),
+                    createEmptyNodeList(), createSimpleNameReferenceNode(createIdentifierToken(returnType)));
+            resourceFunctionDocs.add(DocCommentsGenerator.createAPIParamDoc(SyntaxKind.RETURN_KEYWORD.stringValue(),
+                    "Example response of the operation"));
+        } else {
+            returnNode = returnType.returnNode;
+            resourceFunctionDocs.addAll(returnType.returnDocs);
+        }
+        Optional<AnnotationNode> cacheAnnotation = performanceConfigGenerator.getCacheAnnotation(operation);
+        if (cacheAnnotation.isPresent()) {
+            returnNode = returnNode.modify().withAnnotations(returnNode.annotations().add(cacheAnnotation.get()))
+                    .apply();
         }
-        ReturnTypeDescriptorNode returnNode = returnTypeGenerator.getReturnTypeDescriptorNode(operation,
-                createEmptyNodeList(), path, resourceFunctionDocs);
-        typeInclusionRecords.putAll(returnTypeGenerator.getTypeInclusionRecords());
 
         FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(
                 createToken(SyntaxKind.OPEN_PAREN_TOKEN),
@@ -344,9 +469,13 @@ public class BallerinaServiceGenerator {
         MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(
                 createNodeList(resourceFunctionDocs)), createNodeList(annotationNodes));
 
-        return createFunctionDefinitionNode(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, metadataNode,
-                qualifiersList, functionKeyWord, functionName, relativeResourcePath, functionSignatureNode,
-                functionBodyBlockNode);
+        FunctionDefinitionNode functionDefinitionNode = createFunctionDefinitionNode(
+                SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, metadataNode, qualifiersList, functionKeyWord, functionName,
+                relativeResourcePath, functionSignatureNode, functionBodyBlockNode);
+        return new ResourceFunction(functionDefinitionNode,
+                returnType == null ? new HashMap<>() : returnType.typeInclusionRecords,
+                parametersGenerator.isNullableRequired(), mockResponse,
+                mockResponse == null ? null : getMockResponseName(path, operation));
     }
 
     private static void addFunctionDescToAPIDocs(Map.Entry<PathItem.HttpMethod, Operation> operation,
@@ -364,6 +493,18 @@ public class BallerinaServiceGenerator {
         }
     }
 
+    /**
+     * Returns the name of the mock response of the given operation, which is derived from the operation ID or else
+     * from the HTTP method and the path.
+     */
+    private static String getMockResponseName(String path, Map.Entry<PathItem.HttpMethod, Operation> operation) {
+        String operationId = operation.getValue().getOperationId();
+        String name = operationId != null && !operationId.isBlank() ? operationId :
+                operation.getKey().name().toLowerCase(Locale.ENGLISH) + " " + path;
+        String validName = GeneratorUtils.getValidName(name, false);
+        return validName.isBlank() || !Character.isLetter(validName.charAt(0)) ? "mock" : validName;
+    }
+
     /**
      * Resolve requestBody reference.
      */
@@ -376,4 +517,41 @@ public class BallerinaServiceGenerator {
         }
         return requestBody;
     }
+
+    /**
+     * Generated resource function with the details to be merged to the service.
+     */
+    private static class ResourceFunction {
+        private final FunctionDefinitionNode functionDefinitionNode;
+        private final Map<String, TypeDefinitionNode> typeInclusionRecords;
+        private final boolean isNullableRequired;
+        private final MockResponseGenerator.MockResponse mockResponse;
+        private final String mockResponseName;
+
+        ResourceFunction(FunctionDefinitionNode functionDefinitionNode,
+                         Map<String, TypeDefinitionNode> typeInclusionRecords, boolean isNullableRequired,
+                         MockResponseGenerator.MockResponse mockResponse, String mockResponseName) {
+            this.functionDefinitionNode = functionDefinitionNode;
+            this.typeInclusionRecords = typeInclusionRecords;
+            this.isNullableRequired = isNullableRequired;
+            this.mockResponse = mockResponse;
+            this.mockResponseName = mockResponseName;
+        }
+    }
+
+    /**
+     * Generated return type of a resource function with the details to be added to the resource function.
+     */
+    private static class ResourceReturnType {
+        private final ReturnTypeDescriptorNode returnNode;
+        private final List<Node> returnDocs;
+        private final Map<String, TypeDefinitionNode> typeInclusionRecords;
+
+        ResourceReturnType(ReturnTypeDescriptorNode returnNode, List<Node> returnDocs,
+                           Map<String, TypeDefinitionNode> typeInclusionRecords) {
+            this.returnNode = returnNode;
+            this.returnDocs = returnDocs;
+            this.typeInclusionRecords = typeInclusionRecords;
+        }
+    }
 }
@@ -53,9 +53,21 @@ import java.util.List;
 public class ListenerGenerator {
     private static final int HTTP_PORT = 80;
     private static final int HTTPS_PORT = 443;
+    private static final String REQUEST_LIMITS = "requestLimits";
     private String basePath = "/";
+    private final MappingConstructorExpressionNode requestLimits;
 
     public ListenerGenerator() {
+        this(null);
+    }
+
+    /**
+     * Creates a listener generator which adds the given request limits to the listener configuration.
+     *
+     * @param requestLimits value of the `requestLimits` field, or null to use the defaults of the listener
+     */
+    public ListenerGenerator(MappingConstructorExpressionNode requestLimits) {
+        this.requestLimits = requestLimits;
     }
 
     public String getBasePath() {
@@ -97,10 +109,15 @@ public class ListenerGenerator {
             host = "localhost";
             port = 9090;
         }
-        return getListenerDeclarationNode(port, host, "ep0");
+        return getListenerDeclarationNode(port, host, "ep0", requestLimits);
     }
 
     public static ListenerDeclarationNode getListenerDeclarationNode(Integer port, String host, String ep) {
+        return getListenerDeclarationNode(port, host, ep, null);
+    }
+
+    public static ListenerDeclarationNode getListenerDeclarationNode(Integer port, String host, String ep,
+                                                                     MappingConstructorExpressionNode requestLimits) {
         // Take first server to Map
         Token listenerKeyword = AbstractNodeFactory.createIdentifierToken("listener", GeneratorUtils.SINGLE_WS_MINUTIAE,
                 GeneratorUtils.SINGLE_WS_MINUTIAE);
@@ -133,7 +150,16 @@ public class ListenerGenerator {
                 literalHostToken);
         MappingFieldNode hostNode = NodeFactory.createSpecificFieldNode(null, fieldName,
                 AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN), valueExpr);
-        SeparatedNodeList<MappingFieldNode> fields = NodeFactory.createSeparatedNodeList(hostNode);
+        SeparatedNodeList<MappingFieldNode> fields;
+        if (requestLimits == null) {
+            fields = NodeFactory.createSeparatedNodeList(hostNode);
+        } else {
+            MappingFieldNode requestLimitsNode = NodeFactory.createSpecificFieldNode(null,
+                    AbstractNodeFactory.createIdentifierToken(REQUEST_LIMITS),
+                    AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN), requestLimits);
+            fields = NodeFactory.createSeparatedNodeList(hostNode,
+                    AbstractNodeFactory.createToken(SyntaxKind.COMMA_TOKEN), requestLimitsNode);
+        }
 
         MappingConstructorExpressionNode hostExpression = NodeFactory.createMappingConstructorExpressionNode(
                 AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN),
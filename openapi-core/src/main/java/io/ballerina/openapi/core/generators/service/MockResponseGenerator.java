@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.text.SimpleDateFormat;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+
+import static io.ballerina.openapi.core.GeneratorUtils.resolveResponseReference;
+import static io.ballerina.openapi.core.GeneratorUtils.resolveSchemaReference;
+import static io.ballerina.openapi.core.GeneratorUtils.toStringLiteral;
+
+/**
+ * This {@code MockResponseGenerator} generates the response of a mock resource function from the examples of the
+ * OpenAPI definition. The payload is taken from the `example` or the `examples` of the success response, or else
+ * synthesized from the response schema, and serialized to bytes once at the module initialization. Hence the mock
+ * service returns the same immutable response for every request without constructing the payload.
+ * <pre>
+ *     final readonly & http:Ok listPetsResponse = {
+ *         mediaType: "application/json",
+ *         body: "[{\"id\":1,\"name\":\"Tom\"}]".toBytes().cloneReadOnly()
+ *     };
+ * </pre>
+ *
+ * @since 1.7.0
+ */
+public class MockResponseGenerator {
+    private static final int MAX_SCHEMA_DEPTH = 8;
+
+    private final OpenAPI openAPI;
+
+    public MockResponseGenerator(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Returns the mock response of the given operation, which is the first success response, or the `default`
+     * response if there is no success response.
+     */
+    public MockResponse getMockResponse(Operation operation) throws BallerinaOpenApiException {
+        String statusCode = GeneratorConstants.HTTP_200;
+        ApiResponse response = null;
+        if (operation.getResponses() != null) {
+            for (Map.Entry<String, ApiResponse> apiResponse : operation.getResponses().entrySet()) {
+                String code = apiResponse.getKey().trim();
+                if (code.startsWith("2") && GeneratorConstants.HTTP_CODES_DES.containsKey(code)) {
+                    statusCode = code;
+                    response = apiResponse.getValue();
+                    break;
+                } else if (code.equals(GeneratorConstants.DEFAULT) && response == null) {
+                    response = apiResponse.getValue();
+                }
+            }
+        }
+        String statusCodeType = GeneratorConstants.HTTP + ":" + GeneratorConstants.HTTP_CODES_DES.get(statusCode);
+        response = response == null ? null : resolveResponseReference(openAPI, response);
+        if (response == null || response.getContent() == null || response.getContent().isEmpty()) {
+            return new MockResponse(statusCodeType, "{}");
+        }
+        Map.Entry<String, MediaType> mediaType = response.getContent().entrySet().iterator().next();
+        Optional<Object> example = getExample(mediaType.getValue());
+        String mediaTypeValue = toStringLiteral(mediaType.getKey().trim());
+        if (example.isEmpty()) {
+            return new MockResponse(statusCodeType, "{mediaType: " + mediaTypeValue + "}");
+        }
+        String payload;
+        Object exampleValue = normalizeExample(example.get());
+        if (exampleValue instanceof String && !isJsonMediaType(mediaType.getKey())) {
+            payload = (String) exampleValue;
+        } else {
+            try {
+                payload = Json.mapper().writeValueAsString(exampleValue);
+            } catch (JsonProcessingException e) {
+                throw new BallerinaOpenApiException("Failed to serialize the example of the operation: " +
+                        operation.getOperationId(), e);
+            }
+        }
+        return new MockResponse(statusCodeType, "{mediaType: " + mediaTypeValue + ", body: " +
+                toStringLiteral(payload) + ".toBytes().cloneReadOnly()}");
+    }
+
+    private Optional<Object> getExample(MediaType mediaType) {
+        if (mediaType.getExample() != null) {
+            return Optional.of(mediaType.getExample());
+        }
+        if (mediaType.getExamples() != null) {
+            for (Example example : mediaType.getExamples().values()) {
+                Example resolvedExample = resolveExample(example);
+                if (resolvedExample.getValue() != null) {
+                    return Optional.of(resolvedExample.getValue());
+                }
+            }
+        }
+        if (mediaType.getSchema() != null) {
+            return Optional.ofNullable(synthesizeExample(mediaType.getSchema(), 0));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Synthesizes an example value of the given schema, preferring the examples, the defaults and the enums of the
+     * schema.
+     */
+    private Object synthesizeExample(Schema<?> schema, int depth) {
+        if (schema == null || depth > MAX_SCHEMA_DEPTH) {
+            return null;
+        }
+        if (schema.get$ref() != null) {
+            return synthesizeExample(resolveSchemaReference(openAPI, schema.get$ref()), depth + 1);
+        }
+        if (schema.getExample() != null) {
+            return schema.getExample();
+        }
+        if (schema.getDefault() != null) {
+            return schema.getDefault();
+        }
+        if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+            return schema.getEnum().get(0);
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            if (composedSchema.getAllOf() != null) {
+                Map<String, Object> fields = new LinkedHashMap<>();
+                for (Schema<?> allOfSchema : composedSchema.getAllOf()) {
+                    Object value = synthesizeExample(allOfSchema, depth + 1);
+                    if (value instanceof Map) {
+                        ((Map<?, ?>) value).forEach((key, fieldValue) -> fields.put(key.toString(), fieldValue));
+                    }
+                }
+                return fields;
+            }
+            List<Schema> options = composedSchema.getOneOf() != null ? composedSchema.getOneOf() :
+                    composedSchema.getAnyOf();
+            return options == null || options.isEmpty() ? null : synthesizeExample(options.get(0), depth + 1);
+        }
+        if (schema instanceof ArraySchema) {
+            List<Object> items = new ArrayList<>();
+            Object item = synthesizeExample(((ArraySchema) schema).getItems(), depth + 1);
+            if (item != null) {
+                items.add(item);
+            }
+            return items;
+        }
+        String type = schema.getType();
+        if (type == null && schema.getProperties() == null) {
+            return null;
+        }
+        if (type == null || type.equals(GeneratorConstants.OBJECT)) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            if (schema.getProperties() != null) {
+                for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                    fields.put(property.getKey(), synthesizeExample(property.getValue(), depth + 1));
+                }
+            }
+            return fields;
+        }
+        switch (type) {
+            case GeneratorConstants.INTEGER:
+                return schema.getMinimum() != null ? schema.getMinimum().toBigInteger() : 0;
+            case GeneratorConstants.NUMBER:
+                return schema.getMinimum() != null ? schema.getMinimum() : 0.0;
+            case GeneratorConstants.BOOLEAN:
+                return true;
+            case GeneratorConstants.STRING:
+                return synthesizeString(schema.getFormat());
+            default:
+                return null;
+        }
+    }
+
+    private static String synthesizeString(String format) {
+        if (format == null) {
+            return "string";
+        }
+        switch (format) {
+            case "date":
+                return "2023-01-01";
+            case "date-time":
+                return "2023-01-01T00:00:00Z";
+            case "uuid":
+                return "00000000-0000-0000-0000-000000000000";
+            case "email":
+                return "user@example.com";
+            case "uri":
+                return "https://example.com";
+            case "byte":
+            case "binary":
+                return "";
+            default:
+                return "string";
+        }
+    }
+
+    /**
+     * Converts the dates parsed by the OpenAPI parser back to the textual values of the definition.
+     */
+    private static Object normalizeExample(Object example) {
+        if (example instanceof Date) {
+            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH);
+            dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+            return dateFormat.format((Date) example);
+        }
+        if (example instanceof TemporalAccessor) {
+            return example.toString();
+        }
+        if (example instanceof Map) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            ((Map<?, ?>) example).forEach((key, value) -> fields.put(key.toString(), normalizeExample(value)));
+            return fields;
+        }
+        if (example instanceof List) {
+            List<Object> items = new ArrayList<>();
+            ((List<?>) example).forEach(item -> items.add(normalizeExample(item)));
+            return items;
+        }
+        return example;
+    }
+
+    private Example resolveExample(Example example) {
+        if (example.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getExamples() != null) {
+            String name = example.get$ref().substring(example.get$ref().lastIndexOf('/') + 1);
+            return openAPI.getComponents().getExamples().getOrDefault(name, example);
+        }
+        return example;
+    }
+
+    private static boolean isJsonMediaType(String mediaType) {
+        String type = mediaType.trim().toLowerCase(Locale.ENGLISH);
+        return type.equals(GeneratorConstants.APPLICATION_JSON) || type.endsWith("+json") || type.equals("*/*");
+    }
+
+    /**
+     * Response of a mock resource function, which is the status code response type and its immutable value.
+     */
+    public static class MockResponse {
+        private final String statusCodeType;
+        private final String value;
+
+        MockResponse(String statusCodeType, String value) {
+            this.statusCodeType = statusCodeType;
+            this.value = value;
+        }
+
+        /**
+         * Returns the status code response type, e.g. `http:Ok`.
+         */
+        public String getStatusCodeType() {
+            return statusCodeType;
+        }
+
+        /**
+         * Returns the source of the mapping constructor of the response.
+         */
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -43,6 +43,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Content;
@@ -53,6 +54,7 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -98,7 +100,9 @@ public class ReturnTypeGenerator {
 
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final String pathRecord;
-    private static int countForRecord = 0;
+    // names of the inline response records of the whole generation, hence the records of the operations on the same
+    // path are not given the same name
+    private final Set<String> recordNames;
     private String httpMethod;
 
     private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
@@ -107,17 +111,15 @@ public class ReturnTypeGenerator {
         return this.typeInclusionRecords;
     }
 
-    public static void setCount(int count) {
-        ReturnTypeGenerator.countForRecord = count;
-    }
-
-    public void setCountForRecord(int count) {
-        setCount(count);
+    public ReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator, String pathRecord) {
+        this(ballerinaSchemaGenerator, pathRecord, new HashSet<>());
     }
 
-    public ReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator, String pathRecord) {
+    public ReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator, String pathRecord,
+                               Set<String> recordNames) {
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
         this.pathRecord = pathRecord;
+        this.recordNames = recordNames;
     }
 
     /**
@@ -133,6 +135,20 @@ public class ReturnTypeGenerator {
                                                                 NodeList<AnnotationNode> annotations, String path,
                                                                 List<Node> resourceFunctionDocs)
             throws BallerinaOpenApiException {
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.getInstance();
+        boolean constraintEnabled = generatorMetaData.isConstraintEnabled();
+        // Inline response schemas are constrained as the response payloads of the constraint mode
+        generatorMetaData.setConstraintEnabled(generatorMetaData.isResponseConstraintEnabled());
+        try {
+            return generateReturnTypeDescriptorNode(operation, annotations, path, resourceFunctionDocs);
+        } finally {
+            generatorMetaData.setConstraintEnabled(constraintEnabled);
+        }
+    }
+
+    private ReturnTypeDescriptorNode generateReturnTypeDescriptorNode(
+            Map.Entry<PathItem.HttpMethod, Operation> operation, NodeList<AnnotationNode> annotations, String path,
+            List<Node> resourceFunctionDocs) throws BallerinaOpenApiException {
 
         ReturnTypeDescriptorNode returnNode;
         List<String> returnDescriptions = new ArrayList<>();
@@ -256,8 +272,7 @@ public class ReturnTypeGenerator {
                             handleMediaType(mediaTypeEntry, recordName);
                     Optional<TypeDefinitionNode> rightNode = mediaTypeToken.right;
                     if (rightNode.isPresent()) {
-                        typeInclusionRecords.put(recordName, rightNode.get());
-                        setCountForRecord(countForRecord++);
+                        addInlineRecord(recordName, rightNode.get());
                         type = createSimpleNameReferenceNode(createIdentifierToken(recordName));
                     } else {
                         type = mediaTypeToken.left.orElseGet(
@@ -299,8 +314,7 @@ public class ReturnTypeGenerator {
                 Optional<TypeDefinitionNode> rightNode = mediaTypeToken.right;
 
                 if (rightNode.isPresent()) {
-                    typeInclusionRecords.put(recordName, rightNode.get());
-                    setCountForRecord(countForRecord++);
+                    addInlineRecord(recordName, rightNode.get());
                     SimpleNameReferenceNode type = createSimpleNameReferenceNode(createIdentifierToken(recordName));
                     returnNode = createReturnTypeDescriptorNode(returnKeyWord, createEmptyNodeList(), type);
                 } else {
@@ -387,8 +401,7 @@ public class ReturnTypeGenerator {
                 SimpleNameReferenceNode httpResponse = createSimpleNameReferenceNode(createIdentifierToken(ANYDATA));
                 qualifiedNodes.add(httpResponse.name().text());
             } else if (rightNode.isPresent()) {
-                typeInclusionRecords.put(recordName, rightNode.get());
-                setCountForRecord(countForRecord++);
+                addInlineRecord(recordName, rightNode.get());
                 qualifiedNodes.add(createSimpleNameReferenceNode(createIdentifierToken(recordName)).toSourceCode());
             } else {
                 TypeDescriptorNode typeDescriptorNode = leftNode.get();
@@ -406,8 +419,21 @@ public class ReturnTypeGenerator {
         return NodeParser.parseTypeDescriptor(unionType);
     }
 
+    /**
+     * Returns the first name of the path, i.e. `PathResponse`, `PathResponse_1` and so on, which is not given to an
+     * inline record of this or a former operation.
+     */
     private String getNewRecordName() {
-        return countForRecord == 0 ? pathRecord + RESPONSE_RECORD_NAME : pathRecord + "Response_" + countForRecord;
+        String recordName = pathRecord + RESPONSE_RECORD_NAME;
+        for (int count = 1; recordNames.contains(recordName); count++) {
+            recordName = pathRecord + RESPONSE_RECORD_NAME + "_" + count;
+        }
+        return recordName;
+    }
+
+    private void addInlineRecord(String recordName, TypeDefinitionNode typeDefinitionNode) {
+        typeInclusionRecords.put(recordName, typeDefinitionNode);
+        recordNames.add(recordName);
     }
 
     /**
@@ -25,12 +25,12 @@ import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
-import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
@@ -71,6 +71,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinition
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
@@ -289,19 +290,34 @@ public class ServiceGenerationUtils {
      * This util function is for generating service config annotation.
      * <pre>
      *     @http:ServiceConfig {
-     *          treatNilableAsOptional : false
+     *          treatNilableAsOptional : false,
+     *          compression: {enable: http:COMPRESSION_AUTO}
      *      }
      * </pre>
+     *
+     * @param treatNilableAsOptional whether to add the `treatNilableAsOptional : false` field
+     * @param compression            value of the `compression` field, or null to skip the field
      */
-    public static MetadataNode generateServiceConfigAnnotation() {
+    public static MetadataNode generateServiceConfigAnnotation(boolean treatNilableAsOptional,
+                                                               MappingConstructorExpressionNode compression) {
         MetadataNode metadataNode;
-        BasicLiteralNode valueExpr = createBasicLiteralNode(STRING_LITERAL,
-                createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, GeneratorConstants.FALSE,
-                        createEmptyMinutiaeList(),
-                        createEmptyMinutiaeList()));
-        SpecificFieldNode fields = createSpecificFieldNode(null,
-                createIdentifierToken(
-                        GeneratorConstants.TREAT_NILABLE_AS_OPTIONAL), createToken(COLON_TOKEN), valueExpr);
+        List<Node> fields = new ArrayList<>();
+        if (treatNilableAsOptional) {
+            BasicLiteralNode valueExpr = createBasicLiteralNode(STRING_LITERAL,
+                    createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, GeneratorConstants.FALSE,
+                            createEmptyMinutiaeList(),
+                            createEmptyMinutiaeList()));
+            fields.add(createSpecificFieldNode(null,
+                    createIdentifierToken(
+                            GeneratorConstants.TREAT_NILABLE_AS_OPTIONAL), createToken(COLON_TOKEN), valueExpr));
+        }
+        if (compression != null) {
+            if (!fields.isEmpty()) {
+                fields.add(createToken(COMMA_TOKEN));
+            }
+            fields.add(createSpecificFieldNode(null, createIdentifierToken(GeneratorConstants.COMPRESSION_FIELD),
+                    createToken(COLON_TOKEN), compression));
+        }
         AnnotationNode annotationNode = createAnnotationNode(createToken(SyntaxKind.AT_TOKEN),
                 createSimpleNameReferenceNode(createIdentifierToken(
                         GeneratorConstants.SERVICE_CONFIG, GeneratorUtils.SINGLE_WS_MINUTIAE,
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.service;
+
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.AT_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.MAPPING_CONSTRUCTOR;
+import static io.ballerina.openapi.core.GeneratorUtils.resolveResponseReference;
+import static io.ballerina.openapi.core.GeneratorUtils.toStringLiteral;
+
+/**
+ * This {@code ServicePerformanceConfigGenerator} maps the performance hints of an OpenAPI definition to the
+ * configurations of the generated service.
+ * <ul>
+ *     <li>The `compression` of the `x-ballerina-service-configurations` extension to the `compression` field of the
+ *     `@http:ServiceConfig` annotation.</li>
+ *     <li>The `requestLimits` of the `x-ballerina-service-configurations` extension to the `requestLimits` of the
+ *     listener configuration.</li>
+ *     <li>The `Cache-Control`, `ETag` and `Last-Modified` headers of the success responses and the `x-ballerina-cache`
+ *     extension of an operation to the `@http:Cache` annotation of the return type of the resource function.</li>
+ * </ul>
+ *
+ * @since 1.7.0
+ */
+public class ServicePerformanceConfigGenerator {
+    private static final String CACHE_ANNOTATION = "http:Cache";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final Pattern CACHE_DIRECTIVE_PATTERN = Pattern.compile(
+            "\\s*([A-Za-z-]+)\\s*(?:=\\s*(\"[^\"]*\"|[^,]*))?\\s*(?:,|$)");
+    private static final Set<String> HTTP_OPTION_VALUES = Set.of("AUTO", "ALWAYS", "NEVER");
+    private static final Set<String> REQUEST_LIMIT_FIELDS = Set.of("maxUriLength", "maxHeaderSize",
+            "maxEntityBodySize");
+    private static final Set<String> CACHE_BOOLEAN_FIELDS = Set.of("mustRevalidate", "noCache", "noStore",
+            "noTransform", "isPrivate", "proxyRevalidate", "setETag", "setLastModified");
+    private static final Set<String> CACHE_DECIMAL_FIELDS = Set.of("maxAge", "sMaxAge");
+    private static final Set<String> CACHE_ARRAY_FIELDS = Set.of("noCacheFields", "privateFields");
+
+    private final OpenAPI openAPI;
+    private final Map<?, ?> serviceConfigurations;
+
+    public ServicePerformanceConfigGenerator(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+        Object extension = openAPI.getExtensions() == null ? null :
+                openAPI.getExtensions().get(GeneratorConstants.X_BALLERINA_SERVICE_CONFIGURATIONS);
+        this.serviceConfigurations = extension instanceof Map ? (Map<?, ?>) extension : Map.of();
+    }
+
+    /**
+     * Returns the value of the `compression` field of the `@http:ServiceConfig` annotation.
+     * <pre>
+     *     {enable: http:COMPRESSION_AUTO, contentTypes: ["application/json", "text/plain"]}
+     * </pre>
+     * When the compression is configured without the content types and the service responds with binary payloads,
+     * e.g. images or archives, which are already compressed, the compression is limited to the other response media
+     * types so that those payloads are not compressed again.
+     */
+    public Optional<MappingConstructorExpressionNode> getCompressionConfig() {
+        Object compression = serviceConfigurations.get(GeneratorConstants.COMPRESSION_FIELD);
+        String enable = null;
+        List<String> contentTypes = null;
+        if (compression instanceof Map) {
+            Map<?, ?> compressionFields = (Map<?, ?>) compression;
+            enable = getCompressionOption(compressionFields.get("enable"));
+            if (compressionFields.get("contentTypes") instanceof List) {
+                contentTypes = new ArrayList<>();
+                for (Object contentType : (List<?>) compressionFields.get("contentTypes")) {
+                    contentTypes.add(contentType.toString());
+                }
+            }
+        } else {
+            enable = getCompressionOption(compression);
+        }
+        if (enable == null && contentTypes == null) {
+            return Optional.empty();
+        }
+        if (contentTypes == null) {
+            Set<String> responseMediaTypes = getResponseMediaTypes();
+            if (responseMediaTypes.stream().anyMatch(ServicePerformanceConfigGenerator::isBinaryMediaType)) {
+                contentTypes = new ArrayList<>();
+                for (String mediaType : responseMediaTypes) {
+                    if (!isBinaryMediaType(mediaType)) {
+                        contentTypes.add(mediaType);
+                    }
+                }
+            }
+        }
+        List<String> fields = new ArrayList<>();
+        fields.add("enable: http:COMPRESSION_" + (enable == null ? "AUTO" : enable));
+        if (contentTypes != null && !contentTypes.isEmpty()) {
+            List<String> contentTypeValues = new ArrayList<>();
+            for (String contentType : contentTypes) {
+                contentTypeValues.add(toStringLiteral(contentType));
+            }
+            fields.add("contentTypes: [" + String.join(", ", contentTypeValues) + "]");
+        }
+        return getMappingConstructor("{" + String.join(", ", fields) + "}");
+    }
+
+    /**
+     * Returns the value of the `requestLimits` field of the listener configuration.
+     * <pre>
+     *     {maxUriLength: 4096, maxEntityBodySize: 1048576}
+     * </pre>
+     */
+    public Optional<MappingConstructorExpressionNode> getRequestLimits() {
+        Object requestLimits = serviceConfigurations.get("requestLimits");
+        if (!(requestLimits instanceof Map)) {
+            return Optional.empty();
+        }
+        List<String> fields = new ArrayList<>();
+        for (Map.Entry<?, ?> field : ((Map<?, ?>) requestLimits).entrySet()) {
+            String fieldName = field.getKey().toString();
+            String value = getIntValue(field.getValue());
+            if (REQUEST_LIMIT_FIELDS.contains(fieldName) && value != null) {
+                fields.add(fieldName + ": " + value);
+            }
+        }
+        return fields.isEmpty() ? Optional.empty() : getMappingConstructor("{" + String.join(", ", fields) + "}");
+    }
+
+    /**
+     * Returns the `@http:Cache` annotation of the return type of the given operation, if the success response
+     * declares a `Cache-Control` header or the operation has the `x-ballerina-cache` extension. Only the fields
+     * which differ from the defaults of `http:CacheConfig` are added to the annotation.
+     * <pre>
+     *     @http:Cache {maxAge: 60, isPrivate: true, setETag: false}
+     * </pre>
+     */
+    public Optional<AnnotationNode> getCacheAnnotation(Map.Entry<PathItem.HttpMethod, Operation> operation) {
+        Map<String, String> cacheFields = new LinkedHashMap<>();
+        Optional<String> cacheControl = Optional.empty();
+        if (operation.getValue().getResponses() != null) {
+            for (Map.Entry<String, ApiResponse> response : operation.getValue().getResponses().entrySet()) {
+                if (!response.getKey().trim().startsWith("2")) {
+                    continue;
+                }
+                Map<String, Header> headers = resolveResponseReference(openAPI, response.getValue()).getHeaders();
+                cacheControl = getHeaderValue(headers, CACHE_CONTROL);
+                if (cacheControl.isPresent()) {
+                    addCacheControlFields(cacheControl.get(), cacheFields);
+                    if (!containsHeader(headers, ETAG)) {
+                        cacheFields.put("setETag", "false");
+                    }
+                    if (!containsHeader(headers, LAST_MODIFIED)) {
+                        cacheFields.put("setLastModified", "false");
+                    }
+                    break;
+                }
+            }
+        }
+        Object cacheExtension = operation.getValue().getExtensions() == null ? null :
+                operation.getValue().getExtensions().get(GeneratorConstants.X_BALLERINA_CACHE);
+        if (cacheExtension instanceof Map) {
+            addCacheExtensionFields((Map<?, ?>) cacheExtension, cacheFields);
+        } else if (cacheControl.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> fields = new ArrayList<>();
+        cacheFields.forEach((name, value) -> fields.add(name + ": " + value));
+        MappingConstructorExpressionNode annotationValue = fields.isEmpty() ? null :
+                getMappingConstructor("{" + String.join(", ", fields) + "}").orElse(null);
+        return Optional.of(NodeFactory.createAnnotationNode(createToken(AT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(CACHE_ANNOTATION)), annotationValue));
+    }
+
+    /**
+     * Adds the fields of the given `Cache-Control` header value, which differ from the defaults of `http:CacheConfig`.
+     */
+    private static void addCacheControlFields(String cacheControl, Map<String, String> cacheFields) {
+        Map<String, String> directives = new LinkedHashMap<>();
+        Matcher matcher = CACHE_DIRECTIVE_PATTERN.matcher(cacheControl);
+        while (matcher.find()) {
+            directives.put(matcher.group(1).toLowerCase(Locale.ENGLISH),
+                    matcher.group(2) == null ? null : matcher.group(2).trim());
+        }
+        if (!directives.containsKey("must-revalidate")) {
+            cacheFields.put("mustRevalidate", "false");
+        }
+        if (directives.containsKey("no-cache")) {
+            cacheFields.put("noCache", "true");
+            addFieldNames(directives.get("no-cache"), "noCacheFields", cacheFields);
+        }
+        if (directives.containsKey("no-store")) {
+            cacheFields.put("noStore", "true");
+        }
+        if (directives.containsKey("no-transform")) {
+            cacheFields.put("noTransform", "true");
+        }
+        if (directives.containsKey("private")) {
+            cacheFields.put("isPrivate", "true");
+            addFieldNames(directives.get("private"), "privateFields", cacheFields);
+        }
+        if (directives.containsKey("proxy-revalidate")) {
+            cacheFields.put("proxyRevalidate", "true");
+        }
+        String maxAge = getIntValue(directives.get("max-age"));
+        if (maxAge == null) {
+            cacheFields.put("maxAge", "-1");
+        } else if (!"3600".equals(maxAge)) {
+            cacheFields.put("maxAge", maxAge);
+        }
+        String sMaxAge = getIntValue(directives.get("s-maxage"));
+        if (sMaxAge != null) {
+            cacheFields.put("sMaxAge", sMaxAge);
+        }
+    }
+
+    /**
+     * Adds the valid fields of the `x-ballerina-cache` extension, which override the fields of the headers.
+     */
+    private static void addCacheExtensionFields(Map<?, ?> cacheExtension, Map<String, String> cacheFields) {
+        for (Map.Entry<?, ?> field : cacheExtension.entrySet()) {
+            String fieldName = field.getKey().toString();
+            Object value = field.getValue();
+            if (CACHE_BOOLEAN_FIELDS.contains(fieldName) && value instanceof Boolean) {
+                cacheFields.put(fieldName, value.toString());
+            } else if (CACHE_DECIMAL_FIELDS.contains(fieldName) && value instanceof Number) {
+                cacheFields.put(fieldName, new BigDecimal(value.toString()).toPlainString());
+            } else if (CACHE_ARRAY_FIELDS.contains(fieldName) && value instanceof List) {
+                List<String> fieldNames = new ArrayList<>();
+                for (Object name : (List<?>) value) {
+                    fieldNames.add(toStringLiteral(name.toString()));
+                }
+                cacheFields.put(fieldName, "[" + String.join(", ", fieldNames) + "]");
+            }
+        }
+    }
+
+    private static void addFieldNames(String value, String fieldName, Map<String, String> cacheFields) {
+        if (value == null) {
+            return;
+        }
+        List<String> fieldNames = new ArrayList<>();
+        for (String name : value.replace("\"", "").split(",")) {
+            if (!name.isBlank()) {
+                fieldNames.add(toStringLiteral(name.trim()));
+            }
+        }
+        if (!fieldNames.isEmpty()) {
+            cacheFields.put(fieldName, "[" + String.join(", ", fieldNames) + "]");
+        }
+    }
+
+    private Set<String> getResponseMediaTypes() {
+        Set<String> mediaTypes = new LinkedHashSet<>();
+        if (openAPI.getPaths() == null) {
+            return mediaTypes;
+        }
+        for (PathItem pathItem : openAPI.getPaths().values()) {
+            for (Operation operation : pathItem.readOperations()) {
+                if (operation.getResponses() == null) {
+                    continue;
+                }
+                for (ApiResponse response : operation.getResponses().values()) {
+                    Content content = resolveResponseReference(openAPI, response).getContent();
+                    if (content != null) {
+                        content.keySet().forEach(mediaType -> mediaTypes.add(mediaType.trim()));
+                    }
+                }
+            }
+        }
+        return mediaTypes;
+    }
+
+    private Optional<String> getHeaderValue(Map<String, Header> headers, String headerName) {
+        if (headers == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<String, Header> header : headers.entrySet()) {
+            if (!header.getKey().equalsIgnoreCase(headerName)) {
+                continue;
+            }
+            Header headerValue = header.getValue();
+            if (headerValue.get$ref() != null && openAPI.getComponents() != null &&
+                    openAPI.getComponents().getHeaders() != null) {
+                headerValue = openAPI.getComponents().getHeaders().getOrDefault(
+                        getReferenceName(headerValue.get$ref()), headerValue);
+            }
+            if (headerValue.getSchema() != null && headerValue.getSchema().getDefault() != null) {
+                return Optional.of(headerValue.getSchema().getDefault().toString());
+            }
+            if (headerValue.getExample() != null) {
+                return Optional.of(headerValue.getExample().toString());
+            }
+            if (headerValue.getSchema() != null && headerValue.getSchema().getExample() != null) {
+                return Optional.of(headerValue.getSchema().getExample().toString());
+            }
+            return Optional.of("");
+        }
+        return Optional.empty();
+    }
+
+    private static boolean containsHeader(Map<String, Header> headers, String headerName) {
+        return headers != null && headers.keySet().stream().anyMatch(name -> name.equalsIgnoreCase(headerName));
+    }
+
+    private static String getReferenceName(String reference) {
+        return reference.substring(reference.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Returns whether the given media type is a binary payload, which is usually large and already compressed.
+     */
+    private static boolean isBinaryMediaType(String mediaType) {
+        String type = mediaType.toLowerCase(Locale.ENGLISH);
+        return type.startsWith(GeneratorConstants.IMAGE + "/") || type.startsWith("audio/") ||
+                type.startsWith("video/") || type.equals(GeneratorConstants.APPLICATION_OCTET_STREAM) ||
+                type.equals("application/zip") || type.equals("application/gzip") || type.equals("application/pdf");
+    }
+
+    private static String getCompressionOption(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String option = value.toString().trim().toUpperCase(Locale.ENGLISH);
+        return HTTP_OPTION_VALUES.contains(option) ? option : null;
+    }
+
+    private static String getIntValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString().trim()).toBigIntegerExact().toString();
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static Optional<MappingConstructorExpressionNode> getMappingConstructor(String source) {
+        ExpressionNode expressionNode = NodeParser.parseExpression(source);
+        return expressionNode.kind() == MAPPING_CONSTRUCTOR ?
+                Optional.of((MappingConstructorExpressionNode) expressionNode) : Optional.empty();
+    }
+}
@@ -30,12 +30,14 @@ public class OASServiceMetadata {
     private final Filter filters;
     private final boolean nullable;
     private final boolean generateServiceType;
+    private final boolean mockService;
 
     private OASServiceMetadata(Builder clientConfigBuilder) {
         this.openAPI = clientConfigBuilder.openAPI;
         this.filters = clientConfigBuilder.filters;
         this.nullable = clientConfigBuilder.nullable;
         this.generateServiceType = clientConfigBuilder.generateServiceType;
+        this.mockService = clientConfigBuilder.mockService;
     }
 
     public OpenAPI getOpenAPI() {
@@ -54,6 +56,13 @@ public class OASServiceMetadata {
         return generateServiceType;
     }
 
+    /**
+     * Returns whether the resource functions return the examples of the responses.
+     */
+    public boolean isMockService() {
+        return mockService;
+    }
+
     /**
      * Service generation meta data builder class.
      */
@@ -63,6 +72,8 @@ public class OASServiceMetadata {
         private boolean nullable = false;
 
         private boolean generateServiceType = false;
+        private boolean mockService = false;
+
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
             return this;
@@ -83,6 +94,11 @@ public class OASServiceMetadata {
             return this;
         }
 
+        public Builder withMockService(boolean mockService) {
+            this.mockService = mockService;
+            return this;
+        }
+
         public OASServiceMetadata build() {
             return new OASServiceMetadata(this);
         }
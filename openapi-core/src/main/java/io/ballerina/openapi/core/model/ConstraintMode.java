@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Modes of generating the constraint annotations of the Ballerina types, which decide the payloads validated at
+ * runtime.
+ * <ul>
+ *     <li>{@code full} - constraints of all the schemas</li>
+ *     <li>{@code top-level} - constraints of the schemas used directly as the payloads, without the constraints of
+ *     the nested schemas and the array items</li>
+ *     <li>{@code request-only} - constraints of the schemas reachable from the request payloads</li>
+ *     <li>{@code none} - no constraints</li>
+ * </ul>
+ *
+ * @since 1.7.0
+ */
+public enum ConstraintMode {
+    FULL("full"),
+    TOP_LEVEL("top-level"),
+    REQUEST_ONLY("request-only"),
+    NONE("none");
+
+    private final String value;
+
+    ConstraintMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the constraint mode of the given value, e.g. `top-level`.
+     */
+    public static Optional<ConstraintMode> fromValue(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        String normalizedValue = value.trim().toLowerCase(Locale.ENGLISH);
+        for (ConstraintMode mode : values()) {
+            if (mode.value.equals(normalizedValue)) {
+                return Optional.of(mode);
+            }
+        }
+        return Optional.empty();
+    }
+}
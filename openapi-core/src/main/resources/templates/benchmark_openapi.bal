@@ -0,0 +1,117 @@
+import ballerina/io;
+import ballerina/test;
+import ballerina/time;
+
+# Enables the benchmark, which is skipped by default
+configurable boolean benchmarkEnabled = false;
+# Number of the concurrent workers invoking each operation
+configurable int benchmarkConcurrency = 10;
+# Duration in seconds to invoke each operation
+configurable decimal benchmarkDuration = 10;
+# Path of the JSON report of the benchmark
+configurable string benchmarkReportPath = "benchmark_report.json";
+
+# Represents the benchmark results of an operation.
+type BenchmarkReport record {|
+    # Name of the operation
+    string operation;
+    # Number of the successful requests
+    int requests;
+    # Number of the failed requests
+    int errors;
+    # Successful requests per second
+    decimal throughput;
+    # Median latency in milliseconds
+    decimal p50;
+    # 90th percentile latency in milliseconds
+    decimal p90;
+    # 99th percentile latency in milliseconds
+    decimal p99;
+    # Maximum latency in milliseconds
+    decimal max;
+|};
+
+# Represents an invocation of an operation of the client.
+type BenchmarkOperation isolated function (Client benchmarkClient) returns error?;
+
+# Invokes the given operation by the concurrent workers for the configured duration.
+#
+# + name - Name of the operation
+# + benchmarkClient - Client to invoke the operation
+# + operation - Invocation of the operation
+# + return - Benchmark results of the operation
+function runBenchmarkOperation(string name, Client benchmarkClient, BenchmarkOperation operation)
+        returns BenchmarkReport {
+    decimal endTime = time:monotonicNow() + benchmarkDuration;
+    future<[decimal[], int]>[] workers = [];
+    foreach int i in 0 ..< benchmarkConcurrency {
+        future<[decimal[], int]> worker = start runBenchmarkWorker(benchmarkClient, operation, endTime);
+        workers.push(worker);
+    }
+    decimal[] latencies = [];
+    int errors = 0;
+    foreach future<[decimal[], int]> worker in workers {
+        [decimal[], int]|error result = wait worker;
+        if result is error {
+            errors += 1;
+            continue;
+        }
+        latencies.push(...result[0]);
+        errors += result[1];
+    }
+    decimal[] sortedLatencies = latencies.sort();
+    return {
+        operation: name,
+        requests: sortedLatencies.length(),
+        errors: errors,
+        throughput: <decimal>sortedLatencies.length() / benchmarkDuration,
+        p50: getBenchmarkPercentile(sortedLatencies, 0.5),
+        p90: getBenchmarkPercentile(sortedLatencies, 0.9),
+        p99: getBenchmarkPercentile(sortedLatencies, 0.99),
+        max: getBenchmarkPercentile(sortedLatencies, 1)
+    };
+}
+
+# Invokes the given operation until the end time and records the latencies of the successful invocations.
+#
+# + benchmarkClient - Client to invoke the operation
+# + operation - Invocation of the operation
+# + endTime - Monotonic time to stop the invocations
+# + return - Latencies in milliseconds and the number of the failed invocations
+isolated function runBenchmarkWorker(Client benchmarkClient, BenchmarkOperation operation, decimal endTime)
+        returns [decimal[], int] {
+    decimal[] latencies = [];
+    int errors = 0;
+    while time:monotonicNow() < endTime {
+        decimal startTime = time:monotonicNow();
+        error? result = operation(benchmarkClient);
+        if result is error {
+            errors += 1;
+        } else {
+            latencies.push((time:monotonicNow() - startTime) * 1000);
+        }
+    }
+    return [latencies, errors];
+}
+
+# Returns the given percentile of the sorted latencies.
+#
+# + sortedLatencies - Latencies sorted in the ascending order
+# + percentile - Percentile as a fraction
+# + return - Latency of the percentile
+isolated function getBenchmarkPercentile(decimal[] sortedLatencies, decimal percentile) returns decimal {
+    if sortedLatencies.length() == 0 {
+        return 0;
+    }
+    int index = <int>(<decimal>(sortedLatencies.length() - 1) * percentile);
+    return sortedLatencies[index];
+}
+
+# Writes the given benchmark results to the report.
+#
+# + reports - Benchmark results of the operations
+# + return - Error if the report is not written
+function writeBenchmarkReport(BenchmarkReport[] reports) returns error? {
+    check io:fileWriteJson(benchmarkReportPath, reports.toJson());
+    io:println(string `Benchmark report is written to ${benchmarkReportPath}`);
+}
@@ -16,6 +16,23 @@
 
 package io.ballerina.openapi.extension;
 
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ByteArrayLiteralNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.extension.context.OpenApiDocContext;
+import io.ballerina.openapi.extension.context.OpenApiDocContextHandler;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
@@ -30,12 +47,18 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static io.ballerina.openapi.extension.context.OpenApiDocContextHandler.getContextHandler;
+
 /**
  * This class includes tests for Ballerina WebSub compiler plugin.
  */
@@ -148,6 +171,107 @@ public class OpenApiExtensionTest {
         Assert.assertTrue(info.messageFormat().contains("OpenAPI contract does not exist in the given location"));
     }
 
+    @Test
+    public void testEmbeddedMinifiedOpenApiDefinition() throws IOException {
+        Path projectDirPath = RESOURCE_DIRECTORY.resolve("sample_13");
+        String expectedDefinition = minifyJson(Files.readString(projectDirPath.resolve("service_openapi.json")));
+        Assert.assertEquals(getEmbeddedDefinition(projectDirPath), expectedDefinition);
+    }
+
+    @Test
+    public void testEmbeddedYamlOpenApiDefinition() {
+        String expectedDefinition = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Greeting\",\"version\":\"1.0.0\"}," +
+                "\"servers\":[{\"url\":\"localhost:9090/\"}],\"paths\":{\"/greeting\":{\"get\":{" +
+                "\"operationId\":\"getGreeting\",\"responses\":{\"200\":{\"description\":\"Ok\",\"content\":{" +
+                "\"text/plain\":{\"schema\":{\"type\":\"string\"}}}}}}}}}";
+        Assert.assertEquals(getEmbeddedDefinition(RESOURCE_DIRECTORY.resolve("sample_14")), expectedDefinition);
+    }
+
+    /**
+     * Runs the modifier on the service of the given project and returns the embedded definition.
+     */
+    private String getEmbeddedDefinition(Path projectDirPath) {
+        BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
+        project.currentPackage().runCodeGenAndModifyPlugins();
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        Document document = defaultModule.document(project.documentId(projectDirPath.resolve("service.bal")));
+        Assert.assertFalse(document.syntaxTree().hasDiagnostics());
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().errorCount(), 0);
+        String encodedDefinition = getEmbeddedDefinition(document.syntaxTree());
+        return new String(Base64.getDecoder().decode(encodedDefinition), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testDocContextsOfCompilationsWithoutSourceModification() {
+        Path projectDirPath = RESOURCE_DIRECTORY.resolve("sample_4");
+        BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
+        DocumentId documentId = project.documentId(projectDirPath.resolve("service.bal"));
+        Document document = project.currentPackage().getDefaultModule().document(documentId);
+        String source = document.syntaxTree().toSourceCode();
+        OpenApiDocContextHandler contextHandler = getContextHandler();
+        int initialSize = contextHandler.size();
+        // The compilations of the language server only run the analysis tasks, hence the contexts are never removed
+        for (int i = 0; i < 5; i++) {
+            Package currentPackage = document.modify().withContent(source + "\n// revision " + i).apply().module()
+                    .packageInstance();
+            PackageCompilation compilation = currentPackage.getCompilation();
+            contextHandler.updateContext(compilation, currentPackage.getDefaultModule().moduleId(), documentId,
+                    new OpenApiDocContext.OpenApiDefinition(i, "{}", true));
+
+            List<OpenApiDocContext> contexts = contextHandler.retrieveAvailableContexts(currentPackage.packageId());
+            Assert.assertEquals(contexts.size(), 1);
+            Assert.assertEquals(contexts.get(0).getOpenApiDetails().size(), 1);
+            Assert.assertEquals(contexts.get(0).getOpenApiDetails().get(0).getServiceId(), i);
+            Assert.assertTrue(contextHandler.size() <= initialSize + 1);
+        }
+        contextHandler.removeContexts(project.currentPackage().packageId());
+    }
+
+    private String getEmbeddedDefinition(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() != SyntaxKind.SERVICE_DECLARATION) {
+                continue;
+            }
+            Optional<MetadataNode> metadata = ((ServiceDeclarationNode) member).metadata();
+            Assert.assertTrue(metadata.isPresent());
+            for (AnnotationNode annotation : metadata.get().annotations()) {
+                if (annotation.annotValue().isEmpty()) {
+                    continue;
+                }
+                for (MappingFieldNode field : annotation.annotValue().get().fields()) {
+                    if (field.kind() == SyntaxKind.SPECIFIC_FIELD && ((SpecificFieldNode) field).fieldName()
+                            .toString().trim().equals("openApiDefinition")) {
+                        ExpressionNode valueExpr = ((SpecificFieldNode) field).valueExpr().orElseThrow();
+                        ByteArrayLiteralNode byteArrayLiteral = (ByteArrayLiteralNode)
+                                ((MethodCallExpressionNode) valueExpr).expression();
+                        return byteArrayLiteral.content().orElseThrow().text();
+                    }
+                }
+            }
+        }
+        Assert.fail("OpenAPI definition is not embedded into the service");
+        return null;
+    }
+
+    /**
+     * Removes the whitespace outside the string values of the given JSON.
+     */
+    private static String minifyJson(String json) {
+        StringBuilder minifiedJson = new StringBuilder();
+        boolean inString = false;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '"' && (i == 0 || json.charAt(i - 1) != '\\')) {
+                inString = !inString;
+            }
+            if (inString || !Character.isWhitespace(c)) {
+                minifiedJson.append(c);
+            }
+        }
+        return minifiedJson.toString();
+    }
+
     private Package loadPackage(String path, boolean isSingleFile) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(path);
         if (isSingleFile) {
@@ -17,21 +17,16 @@
 package io.ballerina.openapi.extension;
 
 import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.TypeDescKind;
-import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
-import io.ballerina.compiler.api.symbols.TypeSymbol;
-import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
+import io.ballerina.openapi.converter.service.HttpServiceAnalysis;
 import io.ballerina.openapi.extension.doc.gen.DocGeneratorManager;
 import io.ballerina.openapi.extension.doc.gen.OpenApiDocConfig;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
-import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.util.Optional;
 
@@ -47,10 +42,9 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
 
     @Override
     public void perform(SyntaxNodeAnalysisContext context) {
-        boolean errorsAvailable = context.compilation().diagnosticResult()
-                .diagnostics().stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        if (errorsAvailable) {
+        // The service analysis is shared with the other OpenAPI compiler plugins of the same compilation
+        HttpServiceAnalysis serviceAnalysis = HttpServiceAnalysis.getInstance(context.compilation());
+        if (serviceAnalysis.hasErrors()) {
             // if there are any compilation errors, do not proceed
             return;
         }
@@ -58,50 +52,16 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
         Project currentProject = context.currentPackage().project();
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
         SemanticModel semanticModel = context.semanticModel();
-        Optional<Symbol> serviceDeclarationOpt = semanticModel.symbol(serviceNode);
-        if (serviceDeclarationOpt.isPresent()) {
-            ServiceDeclarationSymbol serviceSymbol = (ServiceDeclarationSymbol) serviceDeclarationOpt.get();
-            if (!isHttpService(serviceSymbol)) {
+        HttpServiceInfo serviceInfo = serviceAnalysis.getService(context.documentId(), serviceNode, semanticModel);
+        Optional<ServiceDeclarationSymbol> serviceSymbol = serviceInfo.getServiceSymbol();
+        if (serviceSymbol.isPresent()) {
+            if (!serviceInfo.isHttpService()) {
                 return;
             }
             SyntaxTree syntaxTree = context.syntaxTree();
             OpenApiDocConfig docConfig = new OpenApiDocConfig(context.currentPackage(),
-                    semanticModel, syntaxTree, serviceSymbol, serviceNode, currentProject.kind());
+                    semanticModel, syntaxTree, serviceSymbol.get(), serviceNode, currentProject.kind(), serviceInfo);
             this.docGenerator.generate(docConfig, context, serviceNode.location());
         }
     }
-
-    private boolean isHttpService(ServiceDeclarationSymbol serviceSymbol) {
-        return serviceSymbol.listenerTypes().stream().anyMatch(this::isHttpListener);
-    }
-
-    private boolean isHttpListener(TypeSymbol listenerType) {
-        if (listenerType.typeKind() == TypeDescKind.UNION) {
-            return ((UnionTypeSymbol) listenerType).memberTypeDescriptors().stream()
-                    .filter(typeDescriptor -> typeDescriptor instanceof TypeReferenceTypeSymbol)
-                    .map(typeReferenceTypeSymbol -> (TypeReferenceTypeSymbol) typeReferenceTypeSymbol)
-                    .anyMatch(typeReferenceTypeSymbol ->
-                            typeReferenceTypeSymbol.getModule().isPresent()
-                                    && isHttp(typeReferenceTypeSymbol.getModule().get()
-                            ));
-        }
-
-        if (listenerType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
-            Optional<ModuleSymbol> moduleOpt = ((TypeReferenceTypeSymbol) listenerType).typeDescriptor().getModule();
-            return moduleOpt.isPresent() && isHttp(moduleOpt.get());
-        }
-
-        if (listenerType.typeKind() == TypeDescKind.OBJECT) {
-            Optional<ModuleSymbol> moduleOpt = listenerType.getModule();
-            return moduleOpt.isPresent() && isHttp(moduleOpt.get());
-        }
-
-        return false;
-    }
-
-    private boolean isHttp(ModuleSymbol moduleSymbol) {
-        Optional<String> moduleNameOpt = moduleSymbol.getName();
-        return moduleNameOpt.isPresent() && Constants.HTTP_PACKAGE_NAME.equals(moduleNameOpt.get())
-                && Constants.PACKAGE_ORG.equals(moduleSymbol.id().orgName());
-    }
 }
@@ -36,7 +36,9 @@ public enum OpenApiDiagnosticCode {
     OPENAPI_106("OPENAPI_106", "error occurred while cleaning-up generated resources : {0}",
             DiagnosticSeverity.WARNING),
     OPENAPI_107("OPENAPI_107", "generated open-api definition is empty",
-            DiagnosticSeverity.WARNING);
+            DiagnosticSeverity.WARNING),
+    OPENAPI_108("OPENAPI_108", "embedded open-api definition is {0} bytes, which exceeds {1} bytes and increases " +
+            "the size of the executable", DiagnosticSeverity.WARNING);
 
     private final String code;
     private final String description;
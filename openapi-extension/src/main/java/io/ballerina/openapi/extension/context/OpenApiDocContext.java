@@ -19,9 +19,9 @@ package io.ballerina.openapi.extension.context;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.ModuleId;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 
 /**
@@ -30,7 +30,7 @@ import java.util.List;
 public class OpenApiDocContext {
     private final ModuleId moduleId;
     private final DocumentId documentId;
-    private final List<OpenApiDefinition> definitions = new ArrayList<>();
+    private final Queue<OpenApiDefinition> definitions = new ConcurrentLinkedQueue<>();
 
     OpenApiDocContext(ModuleId moduleId, DocumentId documentId) {
         this.moduleId = moduleId;
@@ -46,7 +46,7 @@ public class OpenApiDocContext {
     }
 
     public List<OpenApiDefinition> getOpenApiDetails() {
-        return Collections.unmodifiableList(definitions);
+        return List.copyOf(definitions);
     }
 
     void updateOpenApiDetails(OpenApiDefinition definition) {
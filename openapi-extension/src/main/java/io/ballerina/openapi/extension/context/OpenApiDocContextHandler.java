@@ -18,23 +18,33 @@ package io.ballerina.openapi.extension.context;
 
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.PackageId;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code OpenApiDocContextHandler} will manage the shared context among compiler plugin tasks.
+ * <p>
+ * The contexts are kept per package and keyed by the module and the document, so that the analysis tasks running in
+ * parallel update them without locking and the source modifier only sees the contexts of the package it modifies. The
+ * contexts of a package are evicted once the source modifier has consumed them. Since the compilations of the language
+ * server never run the source modifier, the contexts of a package are also replaced by the next compilation of the
+ * package, and the contexts of the compilations which are no longer reachable are evicted.
  */
 public final class OpenApiDocContextHandler {
     private static OpenApiDocContextHandler INSTANCE;
 
-    private final List<OpenApiDocContext> contexts;
+    private final Map<PackageId, PackageContexts> contexts;
 
     private OpenApiDocContextHandler() {
-        this.contexts = new ArrayList<>();
+        this.contexts = new ConcurrentHashMap<>();
     }
 
     public static OpenApiDocContextHandler getContextHandler() {
@@ -46,45 +56,105 @@ public final class OpenApiDocContextHandler {
         return INSTANCE;
     }
 
-    public void addContext(OpenApiDocContext context) {
-        synchronized (this.contexts) {
-            this.contexts.add(context);
-        }
-    }
-
     /**
      * Update the shared context for open-api doc generation.
+     * @param compilation of the current package
      * @param moduleId of the current module
      * @param documentId of the current file
      * @param definition to be added to the context
      */
-    public void updateContext(ModuleId moduleId, DocumentId documentId,
+    public void updateContext(PackageCompilation compilation, ModuleId moduleId, DocumentId documentId,
                               OpenApiDocContext.OpenApiDefinition definition) {
-        Optional<OpenApiDocContext> contextOpt = retrieveContext(moduleId, documentId);
-        if (contextOpt.isPresent()) {
-            OpenApiDocContext context = contextOpt.get();
-            synchronized (context) {
-                context.updateOpenApiDetails(definition);
-            }
-            return;
+        this.contexts.values().removeIf(PackageContexts::isStale);
+        this.contexts.compute(moduleId.packageId(), (id, packageContexts) ->
+                        packageContexts == null || !packageContexts.belongsTo(compilation) ?
+                                new PackageContexts(compilation) : packageContexts)
+                .documentContexts.computeIfAbsent(new ContextKey(moduleId, documentId),
+                        key -> new OpenApiDocContext(moduleId, documentId))
+                .updateOpenApiDetails(definition);
+    }
+
+    /**
+     * Retrieve the shared contexts of the given package.
+     * @param packageId of the current package
+     * @return available contexts of the package
+     */
+    public List<OpenApiDocContext> retrieveAvailableContexts(PackageId packageId) {
+        PackageContexts packageContexts = this.contexts.get(packageId);
+        if (Objects.isNull(packageContexts)) {
+            return Collections.emptyList();
         }
-        OpenApiDocContext context = new OpenApiDocContext(moduleId, documentId);
-        context.updateOpenApiDetails(definition);
-        addContext(context);
+        return Collections.unmodifiableList(new ArrayList<>(packageContexts.documentContexts.values()));
     }
 
-    private Optional<OpenApiDocContext> retrieveContext(ModuleId moduleId, DocumentId documentId) {
-        return this.contexts.stream()
-                .filter(ctx -> equals(ctx, moduleId, documentId))
-                .findFirst();
+    /**
+     * Remove the shared contexts of the given package, once the compilation of the package no longer needs them.
+     * @param packageId of the current package
+     * @return removed contexts of the package
+     */
+    public List<OpenApiDocContext> removeContexts(PackageId packageId) {
+        PackageContexts packageContexts = this.contexts.remove(packageId);
+        if (Objects.isNull(packageContexts)) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(packageContexts.documentContexts.values()));
     }
 
-    public List<OpenApiDocContext> retrieveAvailableContexts() {
-        return Collections.unmodifiableList(contexts);
+    /**
+     * Returns the number of packages whose contexts are kept.
+     */
+    public int size() {
+        return this.contexts.size();
     }
 
-    private boolean equals(OpenApiDocContext context, ModuleId moduleId, DocumentId documentId) {
-        int hashCodeForCurrentContext = Objects.hash(context.getModuleId(), context.getDocumentId());
-        return hashCodeForCurrentContext == Objects.hash(moduleId, documentId);
+    /**
+     * {@code PackageContexts} contains the contexts of the documents of a package, updated by a compilation of the
+     * package.
+     */
+    private static final class PackageContexts {
+        private final WeakReference<PackageCompilation> compilation;
+        private final Map<ContextKey, OpenApiDocContext> documentContexts = new ConcurrentHashMap<>();
+
+        PackageContexts(PackageCompilation compilation) {
+            this.compilation = new WeakReference<>(compilation);
+        }
+
+        boolean belongsTo(PackageCompilation compilation) {
+            return this.compilation.get() == compilation;
+        }
+
+        boolean isStale() {
+            return this.compilation.get() == null;
+        }
+    }
+
+    /**
+     * {@code ContextKey} identifies the context of a document of a module.
+     */
+    private static final class ContextKey {
+        private final ModuleId moduleId;
+        private final DocumentId documentId;
+
+        ContextKey(ModuleId moduleId, DocumentId documentId) {
+            this.moduleId = moduleId;
+            this.documentId = documentId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContextKey)) {
+                return false;
+            }
+            ContextKey that = (ContextKey) o;
+            return moduleId.equals(that.moduleId) && documentId.equals(that.documentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(moduleId, documentId);
+        }
     }
 }
@@ -19,6 +19,7 @@ package io.ballerina.openapi.extension.doc;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ByteArrayLiteralNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
@@ -29,7 +30,6 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
@@ -39,6 +39,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.extension.Constants;
+import io.ballerina.openapi.extension.OpenApiDiagnosticCode;
 import io.ballerina.openapi.extension.context.OpenApiDocContext;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
@@ -49,7 +50,7 @@ import io.ballerina.projects.plugins.SourceModifierContext;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.text.TextDocument;
 
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.LinkedList;
@@ -57,6 +58,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static io.ballerina.openapi.extension.context.OpenApiDocContextHandler.getContextHandler;
+import static io.ballerina.openapi.extension.doc.DocGenerationUtils.getDiagnostics;
 
 /**
  * {@code OpenApiInfoUpdaterTask} modifies the source by including generated open-api spec for http-service
@@ -65,8 +67,15 @@ import static io.ballerina.openapi.extension.context.OpenApiDocContextHandler.ge
  * @since 1.1.0
  */
 public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContext> {
+    private static final String CLONE_READONLY = "cloneReadOnly";
+    // Embedded definitions larger than this are reported, since those noticeably increase the executable size
+    private static final int EMBEDDED_DEFINITION_SIZE_LIMIT = 1024 * 1024;
+
     @Override
     public void modify(SourceModifierContext context) {
+        // the contexts of the package are only needed by this compilation, hence evict them in any case
+        List<OpenApiDocContext> openApiContexts = getContextHandler()
+                .removeContexts(context.currentPackage().packageId());
         boolean erroneousCompilation = context.compilation().diagnosticResult()
                 .diagnostics().stream()
                 .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
@@ -75,7 +84,7 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
             return;
         }
 
-        for (OpenApiDocContext openApiContext: getContextHandler().retrieveAvailableContexts()) {
+        for (OpenApiDocContext openApiContext: openApiContexts) {
             ModuleId moduleId = openApiContext.getModuleId();
             Module currentModule = context.currentPackage().module(moduleId);
             DocumentId documentId = openApiContext.getDocumentId();
@@ -83,7 +92,7 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
             SemanticModel semanticModel = context.compilation().getSemanticModel(moduleId);
             ModulePartNode rootNode = currentDoc.syntaxTree().rootNode();
             NodeList<ModuleMemberDeclarationNode> newMembers = updateMemberNodes(
-                    rootNode.members(), openApiContext.getOpenApiDetails(), semanticModel);
+                    rootNode.members(), openApiContext.getOpenApiDetails(), semanticModel, context);
             ModulePartNode newModulePart = rootNode.modify(rootNode.imports(), newMembers, rootNode.eofToken());
             SyntaxTree updatedSyntaxTree = currentDoc.syntaxTree().modifyWith(newModulePart);
             TextDocument textDocument = updatedSyntaxTree.textDocument();
@@ -97,7 +106,8 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
 
     private NodeList<ModuleMemberDeclarationNode> updateMemberNodes(NodeList<ModuleMemberDeclarationNode> oldMembers,
                                                                     List<OpenApiDocContext.OpenApiDefinition> openApi,
-                                                                    SemanticModel semanticModel) {
+                                                                    SemanticModel semanticModel,
+                                                                    SourceModifierContext context) {
         List<ModuleMemberDeclarationNode> updatedMembers = new LinkedList<>();
         for (ModuleMemberDeclarationNode memberNode : oldMembers) {
             if (memberNode.kind() != SyntaxKind.SERVICE_DECLARATION) {
@@ -119,10 +129,16 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
                 updatedMembers.add(memberNode);
                 continue;
             }
+            String encodedDefinition = Base64.getEncoder().encodeToString(
+                    openApiDef.getDefinition().getBytes(StandardCharsets.UTF_8));
+            if (encodedDefinition.length() > EMBEDDED_DEFINITION_SIZE_LIMIT) {
+                context.reportDiagnostic(getDiagnostics(OpenApiDiagnosticCode.OPENAPI_108, serviceNode.location(),
+                        encodedDefinition.length(), EMBEDDED_DEFINITION_SIZE_LIMIT));
+            }
             MetadataNode metadataNode = getMetadataNode(serviceNode);
             MetadataNode.MetadataNodeModifier modifier = metadataNode.modify();
             NodeList<AnnotationNode> updatedAnnotations = updateAnnotations(
-                    metadataNode.annotations(), openApiDef.getDefinition());
+                    metadataNode.annotations(), encodedDefinition);
             modifier.withAnnotations(updatedAnnotations);
             MetadataNode updatedMetadataNode = modifier.apply();
             ServiceDeclarationNode.ServiceDeclarationNodeModifier serviceDecModifier = serviceNode.modify();
@@ -141,13 +157,13 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
     }
 
     private NodeList<AnnotationNode> updateAnnotations(NodeList<AnnotationNode> currentAnnotations,
-                                                       String openApiDefinition) {
+                                                       String encodedDefinition) {
         NodeList<AnnotationNode> updatedAnnotations = NodeFactory.createNodeList();
         boolean openApiAnnotationUpdated = false;
         for (AnnotationNode annotation: currentAnnotations) {
             if (isHttpServiceConfigAnnotation(annotation)) {
                 openApiAnnotationUpdated = true;
-                SeparatedNodeList<MappingFieldNode> updatedFields = getUpdatedFields(annotation, openApiDefinition);
+                SeparatedNodeList<MappingFieldNode> updatedFields = getUpdatedFields(annotation, encodedDefinition);
                 MappingConstructorExpressionNode annotationValue =
                         NodeFactory.createMappingConstructorExpressionNode(
                                 NodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN), updatedFields,
@@ -157,16 +173,16 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
             updatedAnnotations = updatedAnnotations.add(annotation);
         }
         if (!openApiAnnotationUpdated) {
-            AnnotationNode openApiAnnotation = getHttpServiceConfigAnnotation(openApiDefinition);
+            AnnotationNode openApiAnnotation = getHttpServiceConfigAnnotation(encodedDefinition);
             updatedAnnotations = updatedAnnotations.add(openApiAnnotation);
         }
         return updatedAnnotations;
     }
 
-    private SeparatedNodeList<MappingFieldNode> getUpdatedFields(AnnotationNode annotation, String servicePath) {
+    private SeparatedNodeList<MappingFieldNode> getUpdatedFields(AnnotationNode annotation, String encodedDefinition) {
         Optional<MappingConstructorExpressionNode> annotationValueOpt = annotation.annotValue();
         if (annotationValueOpt.isEmpty()) {
-            return NodeFactory.createSeparatedNodeList(createOpenApiDefinitionField(servicePath));
+            return NodeFactory.createSeparatedNodeList(createOpenApiDefinitionField(encodedDefinition));
         }
         List<Node> fields = new ArrayList<>();
         MappingConstructorExpressionNode annotationValue = annotationValueOpt.get();
@@ -186,35 +202,44 @@ public class OpenApiInfoUpdaterTask implements ModifierTask<SourceModifierContex
                 fields.remove(fields.size() - 1);
             }
         } else {
-            fields.add(createOpenApiDefinitionField(servicePath));
+            fields.add(createOpenApiDefinitionField(encodedDefinition));
         }
         return NodeFactory.createSeparatedNodeList(fields);
     }
 
-    private AnnotationNode getHttpServiceConfigAnnotation(String openApiDefinition) {
+    private AnnotationNode getHttpServiceConfigAnnotation(String encodedDefinition) {
         String configIdentifierString = Constants.HTTP_PACKAGE_NAME + SyntaxKind.COLON_TOKEN.stringValue() +
                 Constants.SERVICE_CONFIG_ANNOTATION_IDENTIFIER;
         IdentifierToken identifierToken = NodeFactory.createIdentifierToken(configIdentifierString);
         Token atToken = NodeFactory.createToken(SyntaxKind.AT_TOKEN);
         SimpleNameReferenceNode nameReferenceNode = NodeFactory.createSimpleNameReferenceNode(identifierToken);
-        MappingConstructorExpressionNode annotValue = getAnnotationExpression(openApiDefinition);
+        MappingConstructorExpressionNode annotValue = getAnnotationExpression(encodedDefinition);
         return NodeFactory.createAnnotationNode(atToken, nameReferenceNode, annotValue);
     }
 
-    private MappingConstructorExpressionNode getAnnotationExpression(String openApiDefinition) {
+    private MappingConstructorExpressionNode getAnnotationExpression(String encodedDefinition) {
         Token openBraceToken = NodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN);
         Token closeBraceToken = NodeFactory.createToken(SyntaxKind.CLOSE_BRACE_TOKEN);
-        SpecificFieldNode specificFieldNode = createOpenApiDefinitionField(openApiDefinition);
+        SpecificFieldNode specificFieldNode = createOpenApiDefinitionField(encodedDefinition);
         SeparatedNodeList<MappingFieldNode> separatedNodeList = NodeFactory.createSeparatedNodeList(specificFieldNode);
         return NodeFactory.createMappingConstructorExpressionNode(openBraceToken, separatedNodeList, closeBraceToken);
     }
 
-    private static SpecificFieldNode createOpenApiDefinitionField(String openApiDefinition) {
+    private static SpecificFieldNode createOpenApiDefinitionField(String encodedDefinition) {
         IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(Constants.OPEN_API_DEFINITION_FIELD);
         Token colonToken = AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN);
-        String encodedValue = Base64.getEncoder().encodeToString(openApiDefinition.getBytes(Charset.defaultCharset()));
-        ExpressionNode expressionNode = NodeParser.parseExpression(
-                String.format("base64 `%s`.cloneReadOnly()", encodedValue));
+        // The `base64 `...`.cloneReadOnly()` expression is built directly from the nodes, since parsing the source
+        // of a large definition is costly
+        Token contentToken = NodeFactory.createLiteralValueToken(SyntaxKind.TEMPLATE_STRING, encodedDefinition,
+                NodeFactory.createEmptyMinutiaeList(), NodeFactory.createEmptyMinutiaeList());
+        ByteArrayLiteralNode byteArrayLiteral = NodeFactory.createByteArrayLiteralNode(
+                NodeFactory.createToken(SyntaxKind.BASE64_KEYWORD), NodeFactory.createToken(SyntaxKind.BACKTICK_TOKEN),
+                contentToken, NodeFactory.createToken(SyntaxKind.BACKTICK_TOKEN));
+        ExpressionNode expressionNode = NodeFactory.createMethodCallExpressionNode(byteArrayLiteral,
+                NodeFactory.createToken(SyntaxKind.DOT_TOKEN),
+                NodeFactory.createSimpleNameReferenceNode(NodeFactory.createIdentifierToken(CLONE_READONLY)),
+                NodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN), NodeFactory.createSeparatedNodeList(),
+                NodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
         return NodeFactory.createSpecificFieldNode(null, fieldName, colonToken, expressionNode);
     }
 
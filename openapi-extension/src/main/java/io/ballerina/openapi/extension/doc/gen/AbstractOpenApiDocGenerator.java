@@ -16,16 +16,11 @@
 
 package io.ballerina.openapi.extension.doc.gen;
 
-import io.ballerina.compiler.syntax.tree.AnnotationNode;
-import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
-import io.ballerina.compiler.syntax.tree.MetadataNode;
-import io.ballerina.compiler.syntax.tree.NodeList;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.compiler.syntax.tree.NodeLocation;
-import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
-import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
-import io.ballerina.openapi.converter.model.OASGenerationMetaInfo;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
 import io.ballerina.openapi.converter.model.OASResult;
-import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.openapi.converter.service.HttpServiceAnalysis;
 import io.ballerina.openapi.extension.Constants;
 import io.ballerina.openapi.extension.OpenApiDiagnosticCode;
 import io.ballerina.openapi.extension.context.OpenApiDocContext;
@@ -34,6 +29,7 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 
 import java.io.IOException;
@@ -41,7 +37,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import static io.ballerina.openapi.converter.Constants.JSON_EXTENSION;
 import static io.ballerina.openapi.converter.Constants.SLASH;
+import static io.ballerina.openapi.converter.Constants.YAML_EXTENSION;
+import static io.ballerina.openapi.converter.Constants.YML_EXTENSION;
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.normalizeTitle;
 import static io.ballerina.openapi.extension.context.OpenApiDocContextHandler.getContextHandler;
 import static io.ballerina.openapi.extension.doc.DocGenerationUtils.getDiagnostics;
@@ -51,6 +50,8 @@ import static io.ballerina.openapi.extension.doc.DocGenerationUtils.getDiagnosti
  */
 public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator {
     private static final String FILE_NAME_FORMAT = "%d.json";
+    private static final String INFO = "info";
+    private static final String TITLE = "title";
 
     private final OpenApiContractResolver contractResolver;
 
@@ -68,25 +69,21 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
             // find the project root path
             Path projectRoot = retrieveProjectRoot(srcRoot);
 
-            ServiceDeclarationNode serviceNode = config.getServiceNode();
-            Optional<AnnotationNode> serviceInfoAnnotationOpt = getServiceInfoAnnotation(serviceNode);
-            if (serviceInfoAnnotationOpt.isPresent()) {
-                AnnotationNode serviceInfoAnnotation = serviceInfoAnnotationOpt.get();
-
-                boolean embed = retrieveValueForAnnotationFields(
-                        serviceInfoAnnotation, Constants.EMBED)
+            HttpServiceInfo serviceInfo = config.getServiceInfo();
+            if (serviceInfo.getServiceInfoAnnotation().isPresent()) {
+                boolean embed = serviceInfo.getServiceInfoField(Constants.EMBED)
                         .map(Boolean::parseBoolean)
                         .orElse(false);
 
                 // use the available open-api doc and update the context
                 OpenApiContractResolver.ResolverResponse resolverResponse = this.contractResolver
-                        .resolve(serviceInfoAnnotation, projectRoot);
+                        .resolve(serviceInfo, projectRoot);
                 if (resolverResponse.isContractAvailable()) {
                     // could not find the open-api contract file, hence will not proceed
                     if (resolverResponse.getContractPath().isEmpty()) {
                         return;
                     }
-                    String openApiDefinition = Files.readString(resolverResponse.getContractPath().get());
+                    String openApiDefinition = readOpenApiDefinition(resolverResponse.getContractPath().get());
                     updateOpenApiContext(context, serviceId, openApiDefinition, embed);
                 } else {
                     // generate open-api doc and update the context if the `contract` configuration is not available
@@ -105,7 +102,8 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
                                       boolean embed) {
         OpenApiDocContext.OpenApiDefinition openApiDef = new OpenApiDocContext
                 .OpenApiDefinition(serviceId, openApiDefinition, embed);
-        getContextHandler().updateContext(context.moduleId(), context.documentId(), openApiDef);
+        getContextHandler().updateContext(context.compilation(), context.moduleId(), context.documentId(),
+                openApiDef);
     }
 
     private void updateCompilerContext(SyntaxNodeAnalysisContext context, NodeLocation location,
@@ -114,49 +112,32 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
         context.reportDiagnostic(diagnostic);
     }
 
-    private Optional<AnnotationNode> getServiceInfoAnnotation(ServiceDeclarationNode serviceNode) {
-        Optional<MetadataNode> metadata = serviceNode.metadata();
-        if (metadata.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Reads the given contract as minified JSON, as the definition is embedded into the service. YAML contracts are
+     * converted to JSON.
+     */
+    private String readOpenApiDefinition(Path contractPath) throws IOException {
+        String openApiDefinition = Files.readString(contractPath);
+        String contractFile = contractPath.toString();
+        if (contractFile.endsWith(JSON_EXTENSION)) {
+            return Json.mapper().writeValueAsString(Json.mapper().readTree(openApiDefinition));
         }
-        MetadataNode metaData = metadata.get();
-        NodeList<AnnotationNode> annotations = metaData.annotations();
-        String serviceInfoAnnotation = String.format("%s:%s",
-                Constants.PACKAGE_NAME, Constants.SERVICE_INFO_ANNOTATION_IDENTIFIER);
-        return annotations.stream()
-                .filter(ann -> serviceInfoAnnotation.equals(ann.annotReference().toString().trim()))
-                .findFirst();
-    }
-
-    private Optional<String> retrieveValueForAnnotationFields(AnnotationNode serviceInfoAnnotation, String fieldName) {
-        return serviceInfoAnnotation
-                .annotValue()
-                .map(MappingConstructorExpressionNode::fields)
-                .flatMap(fields ->
-                        fields.stream()
-                            .filter(fld -> fld instanceof SpecificFieldNode)
-                            .map(fld -> (SpecificFieldNode) fld)
-                            .filter(fld -> fieldName.equals(fld.fieldName().toString().trim()))
-                            .findFirst()
-                ).flatMap(SpecificFieldNode::valueExpr)
-                .map(en -> en.toString().trim());
+        if (contractFile.endsWith(YAML_EXTENSION) || contractFile.endsWith(YML_EXTENSION)) {
+            return Json.mapper().writeValueAsString(Yaml.mapper().readTree(openApiDefinition));
+        }
+        return openApiDefinition;
     }
 
     private void generateOpenApiDoc(Project project, OpenApiDocConfig config, SyntaxNodeAnalysisContext context,
-                                    NodeLocation location, boolean embed) {
+                                    NodeLocation location, boolean embed) throws IOException {
         if (!embed) {
             return;
         }
         int serviceId = config.getSemanticModel().hashCode();
         String targetFile = String.format(FILE_NAME_FORMAT, serviceId);
-        OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder = new
-                OASGenerationMetaInfo.OASGenerationMetaInfoBuilder();
-        builder.setServiceDeclarationNode(config.getServiceNode())
-                .setSemanticModel(config.getSemanticModel())
-                .setOpenApiFileName(targetFile)
-                .setBallerinaFilePath(null)
-                .setProject(project);
-        OASResult oasResult = ServiceToOpenAPIConverterUtils.generateOAS(builder.build());
+        // The generated definition is shared with the other OpenAPI compiler plugins, hence it is not modified here
+        OASResult oasResult = HttpServiceAnalysis.getInstance(context.compilation())
+                .getOASResult(config.getServiceInfo(), context.documentId(), project);
         Optional<OpenAPI> openApiOpt = oasResult.getOpenAPI();
         if (!oasResult.getDiagnostics().isEmpty() || openApiOpt.isEmpty()) {
             OpenApiDiagnosticCode errorCode = OpenApiDiagnosticCode.OPENAPI_107;
@@ -164,10 +145,15 @@ public abstract class AbstractOpenApiDocGenerator implements OpenApiDocGenerator
             return;
         }
         OpenAPI openApi = openApiOpt.get();
+        // The definition is embedded into the service, hence it is generated without insignificant whitespace
+        String openApiDefinition;
         if (openApi.getInfo().getTitle() == null || openApi.getInfo().getTitle().equals(SLASH)) {
-            openApi.getInfo().setTitle(normalizeTitle(targetFile));
+            ObjectNode openApiTree = Json.mapper().valueToTree(openApi);
+            ((ObjectNode) openApiTree.get(INFO)).put(TITLE, normalizeTitle(targetFile));
+            openApiDefinition = Json.mapper().writeValueAsString(openApiTree);
+        } else {
+            openApiDefinition = Json.mapper().writeValueAsString(openApi);
         }
-        String openApiDefinition = Json.pretty(openApi);
         updateOpenApiContext(context, serviceId, openApiDefinition, embed);
     }
 
@@ -16,12 +16,7 @@
 
 package io.ballerina.openapi.extension.doc.gen;
 
-import io.ballerina.compiler.syntax.tree.AnnotationNode;
-import io.ballerina.compiler.syntax.tree.ExpressionNode;
-import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
-import io.ballerina.compiler.syntax.tree.MappingFieldNode;
-import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
-import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
 import io.ballerina.openapi.extension.Constants;
 
 import java.nio.file.Files;
@@ -33,50 +28,14 @@ import java.util.Optional;
  * {@code OpenApiContractResolver} resolves the provided OpenAPI doc via `openapi:ServiceInfo` annotation.
  */
 public final class OpenApiContractResolver {
-    public ResolverResponse resolve(AnnotationNode serviceInfoAnnotation, Path projectRoot) {
-        Optional<MappingConstructorExpressionNode> mappingConstructorExpressionNode =
-                serviceInfoAnnotation.annotValue();
-        if (mappingConstructorExpressionNode.isEmpty()) {
-            // if details not available do not proceed
-            return new ResolverResponse(false);
-        }
-
-        MappingConstructorExpressionNode exprNode = mappingConstructorExpressionNode.get();
-        SeparatedNodeList<MappingFieldNode> fieldsOpt = exprNode.fields();
-        if (fieldsOpt.isEmpty()) {
-            // if details not available do not proceed
-            return new ResolverResponse(false);
-        }
-
-        Optional<SeparatedNodeList<MappingFieldNode>> annotationFieldsOpt = serviceInfoAnnotation
-                .annotValue().map(MappingConstructorExpressionNode::fields);
-        if (annotationFieldsOpt.isEmpty()) {
-            // annotation fields are not available, hence will not proceed
-            return new ResolverResponse(false);
-        }
-
-        SeparatedNodeList<MappingFieldNode> annotationFields = annotationFieldsOpt.get();
-        Optional<SpecificFieldNode> contractFieldOpt = annotationFields.stream()
-                .filter(fld -> fld instanceof SpecificFieldNode)
-                .map(fld -> (SpecificFieldNode) fld)
-                .filter(fld -> Constants.CONTRACT.equals(fld.fieldName().toString().trim()))
-                .findFirst();
-        if (contractFieldOpt.isEmpty()) {
+    public ResolverResponse resolve(HttpServiceInfo serviceInfo, Path projectRoot) {
+        Optional<String> openApiContractValueOpt = serviceInfo.getServiceInfoField(Constants.CONTRACT);
+        if (openApiContractValueOpt.isEmpty()) {
             // could not find the `contract` field in the service-info annotation, hence will not proceed
             return new ResolverResponse(false);
         }
 
-        SpecificFieldNode openApiContract = contractFieldOpt.get();
-        Optional<ExpressionNode> openApiContractValueOpt = openApiContract.valueExpr();
-        if (openApiContractValueOpt.isEmpty()) {
-            // could not find the value for `contract` field in the service-info annotation,
-            // hence will not proceed
-            return new ResolverResponse(true);
-        }
-
-        ExpressionNode openApiContractValue = openApiContractValueOpt.get();
-        String openApiContractPath = openApiContractValue.toString()
-                .replaceAll("\"", "").trim();
+        String openApiContractPath = openApiContractValueOpt.get().replaceAll("\"", "").trim();
         if (openApiContractPath.isBlank()) {
             // `contract` value is empty, hence will not proceed
             return new ResolverResponse(true);
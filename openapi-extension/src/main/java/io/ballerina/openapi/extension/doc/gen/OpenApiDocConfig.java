@@ -20,6 +20,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.model.HttpServiceInfo;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.ProjectKind;
 
@@ -33,19 +34,22 @@ public class OpenApiDocConfig {
     private final ServiceDeclarationSymbol serviceSymbol;
     private final ServiceDeclarationNode serviceNode;
     private final ProjectKind projectType;
+    private final HttpServiceInfo serviceInfo;
 
     public OpenApiDocConfig(Package currentPackage,
                             SemanticModel semanticModel,
                             SyntaxTree syntaxTree,
                             ServiceDeclarationSymbol serviceSymbol,
                             ServiceDeclarationNode serviceNode,
-                            ProjectKind projectType) {
+                            ProjectKind projectType,
+                            HttpServiceInfo serviceInfo) {
         this.currentPackage = currentPackage;
         this.semanticModel = semanticModel;
         this.syntaxTree = syntaxTree;
         this.serviceSymbol = serviceSymbol;
         this.serviceNode = serviceNode;
         this.projectType = projectType;
+        this.serviceInfo = serviceInfo;
     }
 
     public Package getCurrentPackage() {
@@ -71,4 +75,8 @@ public class OpenApiDocConfig {
     public ProjectKind getProjectType() {
         return projectType;
     }
+
+    public HttpServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
 }
@@ -26,8 +26,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.openapi.TestUtil.DISTRIBUTIONS_DIR;
 import static io.ballerina.openapi.TestUtil.RESOURCE;
@@ -124,6 +127,58 @@ public class BuildExtensionTests {
                 TEST_RESOURCE.resolve("project_9"), buildArgs);
         Assert.assertTrue(Files.exists(RESOURCE.resolve("build/project_9/target/openapi/ชื่อ_openapi.yaml")));
     }
+
+    @Test(description = "Unchanged contracts are not rewritten by a subsequent build")
+    public void unchangedContractIsNotRewritten() throws IOException, InterruptedException {
+        List<String> buildArgs = new LinkedList<>();
+        buildArgs.add("--export-openapi");
+        Path contract = RESOURCE.resolve("build/project_10/target/openapi/greeting_openapi.yaml");
+        executeBuild(DISTRIBUTION_FILE_NAME, TEST_RESOURCE.resolve("project_10"), buildArgs);
+        Assert.assertTrue(Files.exists(contract));
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(contract, lastModifiedTime);
+
+        executeBuild(DISTRIBUTION_FILE_NAME, TEST_RESOURCE.resolve("project_10"), buildArgs);
+        Assert.assertEquals(Files.getLastModifiedTime(contract), lastModifiedTime);
+        assertNoTemporaryFiles(contract.getParent());
+    }
+
+    @Test(description = "Changed contracts are replaced without leaving temporary files",
+            dependsOnMethods = "unchangedContractIsNotRewritten")
+    public void changedContractIsReplaced() throws IOException, InterruptedException {
+        List<String> buildArgs = new LinkedList<>();
+        buildArgs.add("--export-openapi");
+        Path contract = RESOURCE.resolve("build/project_10/target/openapi/greeting_openapi.yaml");
+        String expectedContent = Files.readString(contract);
+        Files.writeString(contract, "openapi: 3.0.1");
+
+        executeBuild(DISTRIBUTION_FILE_NAME, TEST_RESOURCE.resolve("project_10"), buildArgs);
+        Assert.assertEquals(Files.readString(contract), expectedContent);
+        assertNoTemporaryFiles(contract.getParent());
+    }
+
+    @Test(description = "Services sharing a base path in a document are named once per compilation")
+    public void duplicateBasePathsAcrossDocuments() throws IOException, InterruptedException {
+        List<String> buildArgs = new LinkedList<>();
+        buildArgs.add("--export-openapi");
+        executeBuild(DISTRIBUTION_FILE_NAME, TEST_RESOURCE.resolve("project_11"), buildArgs);
+        Path outDir = RESOURCE.resolve("build/project_11/target/openapi");
+        Assert.assertTrue(Files.exists(outDir.resolve("greeting_openapi.yaml")));
+        Assert.assertTrue(Files.exists(outDir.resolve("hello_openapi.yaml")));
+        try (Stream<Path> files = Files.list(outDir)) {
+            List<String> fileNames = files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+            // The second `/greeting` service of the document is named with its symbol hash code
+            Assert.assertEquals(fileNames.size(), 3);
+            Assert.assertEquals(fileNames.stream().filter(name -> name.startsWith("greeting")).count(), 2);
+        }
+    }
+
+    private void assertNoTemporaryFiles(Path outDir) throws IOException {
+        try (Stream<Path> files = Files.list(outDir)) {
+            Assert.assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
     private void executeCommand(String resourcePath) throws IOException, InterruptedException {
         List<String> buildArgs = new LinkedList<>();
         boolean successful = executeBuild(DISTRIBUTION_FILE_NAME,
@@ -0,0 +1,7 @@
+import ballerina/http;
+
+service /hello on new http:Listener(9092) {
+    resource function get greeting() returns string {
+        return "Hello, World!";
+    }
+}
@@ -0,0 +1,13 @@
+import ballerina/http;
+
+service /greeting on new http:Listener(9090) {
+    resource function get greeting() returns string {
+        return "Hello, World!";
+    }
+}
+
+service /greeting on new http:Listener(9091) {
+    resource function get welcome() returns string {
+        return "Welcome!";
+    }
+}
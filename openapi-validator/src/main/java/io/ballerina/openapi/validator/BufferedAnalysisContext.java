@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi.validator;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Analysis context of a single validation job, which keeps the reported diagnostics until they are reported to the
+ * compiler context. This lets the diagnostics of a resource function be cached and reported together, in the order
+ * of the jobs.
+ *
+ * @since 1.7.0
+ */
+class BufferedAnalysisContext implements SyntaxNodeAnalysisContext {
+    private final SyntaxNodeAnalysisContext context;
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+
+    BufferedAnalysisContext(SyntaxNodeAnalysisContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public Node node() {
+        return context.node();
+    }
+
+    @Override
+    public ModuleId moduleId() {
+        return context.moduleId();
+    }
+
+    @Override
+    public DocumentId documentId() {
+        return context.documentId();
+    }
+
+    @Override
+    public SyntaxTree syntaxTree() {
+        return context.syntaxTree();
+    }
+
+    @Override
+    public SemanticModel semanticModel() {
+        return context.semanticModel();
+    }
+
+    @Override
+    public Package currentPackage() {
+        return context.currentPackage();
+    }
+
+    @Override
+    public PackageCompilation compilation() {
+        return context.compilation();
+    }
+
+    @Override
+    public void reportDiagnostic(Diagnostic diagnostic) {
+        diagnostics.add(diagnostic);
+    }
+
+    /**
+     * Returns the buffered diagnostics in the reported order, to be reported to the compiler context.
+     */
+    List<Diagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+}
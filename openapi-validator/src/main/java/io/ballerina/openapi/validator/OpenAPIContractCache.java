@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi.validator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This {@code OpenAPIContractCache} keeps the parsed OpenAPI contracts shared by all the validator invocations of the
+ * process, e.g. the compilations triggered by the language server on every change.
+ * <p>
+ * Contracts are keyed by the SHA-256 hash of their content, hence the same contract used by several services or
+ * packages is parsed once. The hash of a file is reused while its modified time and size are unchanged, so that an
+ * unchanged contract is not read again. The cache holds the parsed document tree, and each call builds a new
+ * {@link OpenAPI} model from it, hence the callers own the returned model and can not affect the other callers.
+ * The cache is bounded by the number of contracts and by the total size of the contract files, and the document
+ * trees are held through soft references so that they can be reclaimed under memory pressure.
+ *
+ * @since 1.7.0
+ */
+public final class OpenAPIContractCache {
+    private static final int MAX_ENTRIES = 32;
+    private static final long MAX_CONTENT_SIZE = 64L * 1024 * 1024;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final OpenAPIContractCache INSTANCE = new OpenAPIContractCache();
+
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, FileStamp> fileStamps = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, FileStamp> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private long contentSize = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    private OpenAPIContractCache() {
+    }
+
+    public static OpenAPIContractCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a new OpenAPI model of the contract in the given path, parsing the file only if a contract with the
+     * same content is not available in the cache.
+     *
+     * @param contractPath path of the OpenAPI contract
+     * @return parsed contract with its content hash, or {@code null} if the contract could not be parsed
+     * @throws IOException when reading the contract fails
+     */
+    public ParsedContract get(Path contractPath) throws IOException {
+        FileStamp fileStamp = getFileStamp(contractPath);
+        JsonNode contractTree = getContractTree(contractPath, fileStamp);
+        if (contractTree == null) {
+            return null;
+        }
+        // The model is built outside the lock and from a copy, hence the shared tree is never handed out
+        OpenAPI openAPI = new OpenAPIDeserializer().deserialize(contractTree.deepCopy()).getOpenAPI();
+        return openAPI == null ? null : new ParsedContract(openAPI, fileStamp.hash);
+    }
+
+    /**
+     * Returns the stamp of the given contract file, hashing the content only if the file is changed since the last
+     * call.
+     */
+    private synchronized FileStamp getFileStamp(Path contractPath) throws IOException {
+        Path canonicalPath = contractPath.toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(canonicalPath, BasicFileAttributes.class);
+        long modifiedTime = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        FileStamp fileStamp = fileStamps.get(canonicalPath);
+        if (fileStamp == null || fileStamp.modifiedTime != modifiedTime || fileStamp.size != size) {
+            byte[] content = Files.readAllBytes(canonicalPath);
+            fileStamp = new FileStamp(modifiedTime, size, hash(content), content);
+            fileStamps.put(canonicalPath, fileStamp.withoutContent());
+        }
+        return fileStamp;
+    }
+
+    private synchronized JsonNode getContractTree(Path contractPath, FileStamp fileStamp) throws IOException {
+        String key = Base64.getEncoder().encodeToString(fileStamp.hash);
+        CacheEntry entry = entries.get(key);
+        JsonNode contractTree = entry == null ? null : entry.contractTree.get();
+        if (contractTree != null) {
+            hitCount++;
+            return contractTree;
+        }
+        missCount++;
+        byte[] content = fileStamp.content;
+        if (content == null) {
+            content = Files.readAllBytes(contractPath.toRealPath());
+        }
+        contractTree = readTree(new String(content, StandardCharsets.UTF_8));
+        if (contractTree == null) {
+            remove(key);
+        } else {
+            put(key, new CacheEntry(content.length, contractTree));
+        }
+        return contractTree;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all the cached contracts and resets the hit and miss counts.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        fileStamps.clear();
+        contentSize = 0;
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    private void put(String hash, CacheEntry entry) {
+        remove(hash);
+        entries.put(hash, entry);
+        contentSize += entry.size;
+        // Evict the least recently used contracts, but always keep the latest one
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > MAX_ENTRIES || contentSize > MAX_CONTENT_SIZE) && entries.size() > 1) {
+            CacheEntry evicted = iterator.next().getValue();
+            contentSize -= evicted.size;
+            iterator.remove();
+        }
+    }
+
+    private void remove(String hash) {
+        CacheEntry removed = entries.remove(hash);
+        if (removed != null) {
+            contentSize -= removed.size;
+        }
+    }
+
+    /**
+     * Reads the document tree of the given contract, in the same way as the OpenAPI parser detects JSON and YAML.
+     */
+    private static JsonNode readTree(String content) {
+        try {
+            JsonNode contractTree = content.trim().startsWith("{") ? Json.mapper().readTree(content) :
+                    Yaml.mapper().readTree(content);
+            return contractTree == null || !contractTree.isObject() ? null : contractTree;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] hash(byte[] content) throws IOException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Parsed OpenAPI contract with the SHA-256 hash of the content it was parsed from.
+     */
+    public static final class ParsedContract {
+        private final OpenAPI openAPI;
+        private final byte[] contentHash;
+
+        ParsedContract(OpenAPI openAPI, byte[] contentHash) {
+            this.openAPI = openAPI;
+            this.contentHash = contentHash;
+        }
+
+        public OpenAPI getOpenAPI() {
+            return openAPI;
+        }
+
+        public byte[] getContentHash() {
+            return contentHash.clone();
+        }
+    }
+
+    /**
+     * Modified time and size of a contract file with the hash of the content they were seen with. The content is
+     * kept only while the stamp is in use by the call which read it.
+     */
+    private static class FileStamp {
+        private final long modifiedTime;
+        private final long size;
+        private final byte[] hash;
+        private final byte[] content;
+
+        FileStamp(long modifiedTime, long size, byte[] hash, byte[] content) {
+            this.modifiedTime = modifiedTime;
+            this.size = size;
+            this.hash = hash;
+            this.content = content;
+        }
+
+        FileStamp withoutContent() {
+            return new FileStamp(modifiedTime, size, hash, null);
+        }
+    }
+
+    /**
+     * Cached document tree of a contract with the size of its content.
+     */
+    private static class CacheEntry {
+        private final long size;
+        private final SoftReference<JsonNode> contractTree;
+
+        CacheEntry(long size, JsonNode contractTree) {
+            this.size = size;
+            this.contractTree = new SoftReference<>(contractTree);
+        }
+    }
+}
@@ -70,13 +70,13 @@ import static io.ballerina.openapi.validator.error.CompilationError.UNEXPECTED_E
  * @since 1.1.0
  */
 public class PreValidator implements Validator {
+    private final SyntaxNodeAnalysisContext context;
     private Filter filter;
-    private SyntaxNodeAnalysisContext context;
     private OpenAPI openAPI;
+    private byte[] contractHash;
 
-    public void initialize(SyntaxNodeAnalysisContext context) {
+    public PreValidator(SyntaxNodeAnalysisContext context) {
         this.context = context;
-        this.openAPI = null;
     }
     
     public Filter getFilter() {
@@ -87,6 +87,13 @@ public class PreValidator implements Validator {
         return openAPI;
     }
 
+    /**
+     * Returns the content hash of the OpenAPI contract, which identifies the contract in the validation caches.
+     */
+    public byte[] getContractHash() {
+        return contractHash;
+    }
+
     /**
      * During the Pre validation , it is checking whether the given service is http service, that service has openapi
      * annotation @openapi:ServiceInfo and that annotation includes valid openapi contract path.
@@ -94,14 +101,7 @@ public class PreValidator implements Validator {
      */
     @Override
     public void validate() {
-        // 1. Checking receive service node has compilation issue
-        boolean erroneousCompilation = context.compilation().diagnosticResult()
-                .diagnostics().stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR == d.diagnosticInfo().severity());
-        if (erroneousCompilation) {
-            return;
-        }
-
+        // 1. Compilation issues are checked once per compilation by the ServiceAnalysisTask
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) this.context.node();
         Location location = serviceNode.location();
         // 2.Test given service is http service, if not this will return WARNING and execute the ballerina
@@ -166,8 +166,11 @@ public class PreValidator implements Validator {
                                 Path openAPIPath = Paths.get(expression.toString().replaceAll("\"",
                                         "").trim());
                                 Path ballerinaFilePath = getBallerinaFilePath();
-                                this.openAPI = getOpenAPIContract(ballerinaFilePath, location, openAPIPath);
-                                if (openAPI != null) {
+                                OpenAPIContractCache.ParsedContract contract =
+                                        getOpenAPIContract(ballerinaFilePath, location, openAPIPath);
+                                if (contract != null) {
+                                    this.openAPI = contract.getOpenAPI();
+                                    this.contractHash = contract.getContentHash();
                                     validatorEnable = true;
                                 }
                                 break;
@@ -232,7 +235,8 @@ public class PreValidator implements Validator {
     /**
      * OpenAPI contract path resolution.
      */
-    private OpenAPI getOpenAPIContract(Path ballerinaFilePath, Location location, Path openAPIPath) {
+    private OpenAPIContractCache.ParsedContract getOpenAPIContract(Path ballerinaFilePath, Location location,
+                                                                   Path openAPIPath) {
         Path relativePath = null;
         try {
             if (openAPIPath.toString().isBlank()) {
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi.validator;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.MethodSymbol;
+import io.ballerina.compiler.api.symbols.ObjectFieldSymbol;
+import io.ballerina.compiler.api.symbols.ObjectTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.StreamTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticProperty;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This {@code ResourceValidationCache} keeps the diagnostics of the validated resource functions, so that the
+ * compilations triggered by the language server on every change only validate the resource functions whose inputs have
+ * changed.
+ * <p>
+ * The diagnostics of a resource function are keyed by the content hash of the contract, the matched contract path,
+ * the diagnostic severity, the source and the location of the resource function without its body, and the signature
+ * and the location of every type referenced by the resource function. Since the diagnostics carry the locations of
+ * the resource function and of the referenced types, a change which moves any of them invalidates the entry.
+ * <p>
+ * The entries keep only the diagnostic info, the message arguments and the ranges of the diagnostics, instead of the
+ * diagnostics whose locations refer to the syntax trees of the compilation. The locations are rebuilt against the
+ * documents of the current compilation when an entry is reused.
+ *
+ * @since 1.7.0
+ */
+public final class ResourceValidationCache {
+    private static final int MAX_ENTRIES = 4096;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final ResourceValidationCache INSTANCE = new ResourceValidationCache();
+
+    private final Map<String, List<CachedDiagnostic>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<CachedDiagnostic>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private ResourceValidationCache() {
+    }
+
+    public static ResourceValidationCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached diagnostics of the given key, with the locations in the documents of the given context.
+     */
+    public Optional<List<Diagnostic>> get(String key, SyntaxNodeAnalysisContext context) {
+        List<CachedDiagnostic> cachedDiagnostics;
+        synchronized (this) {
+            cachedDiagnostics = entries.get(key);
+        }
+        if (cachedDiagnostics == null) {
+            return Optional.empty();
+        }
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (CachedDiagnostic cachedDiagnostic : cachedDiagnostics) {
+            diagnostics.add(cachedDiagnostic.toDiagnostic(context));
+        }
+        return Optional.of(diagnostics);
+    }
+
+    public void put(String key, List<Diagnostic> diagnostics) {
+        List<CachedDiagnostic> cachedDiagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            cachedDiagnostics.add(new CachedDiagnostic(diagnostic));
+        }
+        synchronized (this) {
+            entries.put(key, List.copyOf(cachedDiagnostics));
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Creates the cache key of the given resource function.
+     *
+     * @param contractHash  content hash of the contract
+     * @param contractPath  contract path matched with the resource function
+     * @param severity      severity of the diagnostics
+     * @param functionNode  resource function
+     * @param semanticModel semantic model of the module
+     * @return cache key
+     */
+    public static String createKey(byte[] contractHash, String contractPath, DiagnosticSeverity severity,
+                                   FunctionDefinitionNode functionNode, SemanticModel semanticModel) {
+        StringBuilder key = new StringBuilder();
+        key.append(Base64.getEncoder().encodeToString(contractHash)).append('\n')
+                .append(contractPath).append('\n')
+                .append(severity).append('\n')
+                .append(functionNode.functionName().text()).append(' ')
+                .append(functionNode.relativeResourcePath().toSourceCode())
+                .append(functionNode.functionSignature().toSourceCode()).append('\n');
+        appendLocation(key, functionNode.location());
+        Optional<Symbol> symbol = semanticModel.symbol(functionNode);
+        if (symbol.isPresent() && symbol.get() instanceof FunctionSymbol) {
+            FunctionTypeSymbol functionType = ((FunctionSymbol) symbol.get()).typeDescriptor();
+            Set<String> visitedTypes = new HashSet<>();
+            if (functionType.params().isPresent()) {
+                for (ParameterSymbol parameter : functionType.params().get()) {
+                    appendType(key, parameter.typeDescriptor(), visitedTypes);
+                }
+            }
+            if (functionType.returnTypeDescriptor().isPresent()) {
+                appendType(key, functionType.returnTypeDescriptor().get(), visitedTypes);
+            }
+        }
+        return hash(key.toString());
+    }
+
+    /**
+     * Appends the signature of the given type, and of the types it refers to, with the locations of the type
+     * definitions and the record fields.
+     */
+    private static void appendType(StringBuilder key, TypeSymbol typeSymbol, Set<String> visitedTypes) {
+        key.append(typeSymbol.signature()).append('\n');
+        if (typeSymbol instanceof TypeReferenceTypeSymbol) {
+            TypeReferenceTypeSymbol referenceType = (TypeReferenceTypeSymbol) typeSymbol;
+            if (!visitedTypes.add(referenceType.signature())) {
+                return;
+            }
+            referenceType.definition().getLocation().ifPresent(location -> appendLocation(key, location));
+            appendType(key, referenceType.typeDescriptor(), visitedTypes);
+        } else if (typeSymbol instanceof RecordTypeSymbol) {
+            RecordTypeSymbol recordType = (RecordTypeSymbol) typeSymbol;
+            for (RecordFieldSymbol field : recordType.fieldDescriptors().values()) {
+                field.getLocation().ifPresent(location -> appendLocation(key, location));
+                appendType(key, field.typeDescriptor(), visitedTypes);
+            }
+            recordType.restTypeDescriptor().ifPresent(restType -> appendType(key, restType, visitedTypes));
+        } else if (typeSymbol instanceof UnionTypeSymbol) {
+            for (TypeSymbol memberType : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                appendType(key, memberType, visitedTypes);
+            }
+        } else if (typeSymbol instanceof IntersectionTypeSymbol) {
+            for (TypeSymbol memberType : ((IntersectionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                appendType(key, memberType, visitedTypes);
+            }
+        } else if (typeSymbol instanceof ArrayTypeSymbol) {
+            appendType(key, ((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor(), visitedTypes);
+        } else if (typeSymbol instanceof MapTypeSymbol) {
+            appendType(key, ((MapTypeSymbol) typeSymbol).typeParam(), visitedTypes);
+        } else if (typeSymbol instanceof TupleTypeSymbol) {
+            TupleTypeSymbol tupleType = (TupleTypeSymbol) typeSymbol;
+            for (TypeSymbol memberType : tupleType.memberTypeDescriptors()) {
+                appendType(key, memberType, visitedTypes);
+            }
+            tupleType.restTypeDescriptor().ifPresent(restType -> appendType(key, restType, visitedTypes));
+        } else if (typeSymbol instanceof TableTypeSymbol) {
+            TableTypeSymbol tableType = (TableTypeSymbol) typeSymbol;
+            appendType(key, tableType.rowTypeParameter(), visitedTypes);
+            tableType.keyConstraintTypeParameter().ifPresent(keyType -> appendType(key, keyType, visitedTypes));
+        } else if (typeSymbol instanceof StreamTypeSymbol) {
+            StreamTypeSymbol streamType = (StreamTypeSymbol) typeSymbol;
+            appendType(key, streamType.typeParameter(), visitedTypes);
+            appendType(key, streamType.completionValueTypeParameter(), visitedTypes);
+        } else if (typeSymbol instanceof ErrorTypeSymbol) {
+            appendType(key, ((ErrorTypeSymbol) typeSymbol).detailTypeDescriptor(), visitedTypes);
+        } else if (typeSymbol instanceof ObjectTypeSymbol) {
+            ObjectTypeSymbol objectType = (ObjectTypeSymbol) typeSymbol;
+            for (ObjectFieldSymbol field : objectType.fieldDescriptors().values()) {
+                field.getLocation().ifPresent(location -> appendLocation(key, location));
+                appendType(key, field.typeDescriptor(), visitedTypes);
+            }
+            for (MethodSymbol method : objectType.methods().values()) {
+                method.getLocation().ifPresent(location -> appendLocation(key, location));
+                appendType(key, method.typeDescriptor(), visitedTypes);
+            }
+        } else if (typeSymbol instanceof FunctionTypeSymbol) {
+            FunctionTypeSymbol functionType = (FunctionTypeSymbol) typeSymbol;
+            functionType.params().ifPresent(params -> params.forEach(param ->
+                    appendType(key, param.typeDescriptor(), visitedTypes)));
+            functionType.restParam().ifPresent(param -> appendType(key, param.typeDescriptor(), visitedTypes));
+            functionType.returnTypeDescriptor().ifPresent(returnType -> appendType(key, returnType, visitedTypes));
+        }
+    }
+
+    private static void appendLocation(StringBuilder key, Location location) {
+        key.append(location.lineRange().fileName()).append(':')
+                .append(location.lineRange().startLine().line()).append(',')
+                .append(location.lineRange().startLine().offset()).append('-')
+                .append(location.lineRange().endLine().line()).append(',')
+                .append(location.lineRange().endLine().offset()).append('\n');
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(key.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available in every Java platform, fall back to the key itself
+            return key;
+        }
+    }
+
+    /**
+     * Diagnostic of a validated resource function without its location, which refers to the syntax tree of the
+     * compilation it was reported in.
+     */
+    private static final class CachedDiagnostic {
+        private final DiagnosticInfo diagnosticInfo;
+        private final Object[] arguments;
+        private final LineRange lineRange;
+        private final TextRange textRange;
+
+        CachedDiagnostic(Diagnostic diagnostic) {
+            this.diagnosticInfo = diagnostic.diagnosticInfo();
+            this.lineRange = diagnostic.location().lineRange();
+            this.textRange = diagnostic.location().textRange();
+            List<DiagnosticProperty<?>> properties = diagnostic.properties();
+            this.arguments = new Object[properties == null ? 0 : properties.size()];
+            for (int i = 0; i < arguments.length; i++) {
+                Object value = properties.get(i).value();
+                // Only the plain values are kept, as the other arguments may refer to the compilation
+                arguments[i] = value instanceof Number ? value : String.valueOf(value);
+            }
+        }
+
+        Diagnostic toDiagnostic(SyntaxNodeAnalysisContext context) {
+            Location location = new CachedLocation(lineRange, getTextRange(context));
+            return DiagnosticFactory.createDiagnostic(diagnosticInfo, location, arguments);
+        }
+
+        /**
+         * Returns the text range of the line range in the current document, since the line range is a part of the
+         * cache key while the text range may have shifted with the changes of the former lines.
+         */
+        private TextRange getTextRange(SyntaxNodeAnalysisContext context) {
+            TextDocument textDocument = null;
+            String fileName = lineRange.fileName();
+            if (fileName.equals(context.syntaxTree().filePath())) {
+                textDocument = context.syntaxTree().textDocument();
+            } else {
+                Module module = context.currentPackage().module(context.moduleId());
+                for (DocumentId documentId : module.documentIds()) {
+                    if (fileName.equals(module.document(documentId).name())) {
+                        textDocument = module.document(documentId).textDocument();
+                        break;
+                    }
+                }
+            }
+            if (textDocument == null) {
+                return textRange;
+            }
+            int startOffset = textDocument.textPositionFrom(lineRange.startLine());
+            int endOffset = textDocument.textPositionFrom(lineRange.endLine());
+            return TextRange.from(startOffset, endOffset - startOffset);
+        }
+    }
+
+    /**
+     * Location of a cached diagnostic.
+     */
+    private static final class CachedLocation implements Location {
+        private final LineRange lineRange;
+        private final TextRange textRange;
+
+        CachedLocation(LineRange lineRange, TextRange textRange) {
+            this.lineRange = lineRange;
+            this.textRange = textRange;
+        }
+
+        @Override
+        public LineRange lineRange() {
+            return lineRange;
+        }
+
+        @Override
+        public TextRange textRange() {
+            return textRange;
+        }
+    }
+}
@@ -19,34 +19,44 @@ package io.ballerina.openapi.validator;
 
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.openapi.validator.model.Filter;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
 
 /**
  * This model used to filter and validate all the operations according to the given filter and filter the service
  * resource in the resource file.
+ * <p>
+ * The validators are created for each service, hence the services can be analysed concurrently.
  *
  * @since 1.1.0
  */
 public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
-    private final ServiceValidator serviceValidator;
-    private final PreValidator preValidator;
+    // Compilation errors are checked once per compilation instead of once per service
+    private final Map<PackageCompilation, Boolean> compilationErrors =
+            Collections.synchronizedMap(new WeakHashMap<>());
 
-    public ServiceAnalysisTask() {
-        this.preValidator = new PreValidator();
-        this.serviceValidator = new ServiceValidator();
-    }
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxContext) {
-        this.preValidator.initialize(syntaxContext);
-        this.preValidator.validate();
-        if (this.preValidator.getOpenAPI() == null) {
+        boolean erroneousCompilation = compilationErrors.computeIfAbsent(syntaxContext.compilation(),
+                compilation -> compilation.diagnosticResult().diagnostics().stream()
+                        .anyMatch(d -> DiagnosticSeverity.ERROR == d.diagnosticInfo().severity()));
+        if (erroneousCompilation) {
+            return;
+        }
+        PreValidator preValidator = new PreValidator(syntaxContext);
+        preValidator.validate();
+        if (preValidator.getOpenAPI() == null) {
             return;
         }
-        Filter filter = this.preValidator.getFilter();
+        Filter filter = preValidator.getFilter();
         boolean tagEnabled = filter.getTag() != null;
         boolean operationEnabled = filter.getOperation() != null;
         boolean excludeTagsEnabled = filter.getExcludeTag() != null;
@@ -73,7 +83,8 @@ public class ServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisConte
             return;
         }
 
-        this.serviceValidator.initialize(syntaxContext, this.preValidator.getOpenAPI(), filter);
-        this.serviceValidator.validate();
+        ServiceValidator serviceValidator = new ServiceValidator(syntaxContext, preValidator.getOpenAPI(),
+                preValidator.getContractHash(), filter);
+        serviceValidator.validate();
     }
 }
@@ -27,9 +27,11 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.openapi.validator.model.Filter;
 import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
+import io.ballerina.openapi.validator.model.PathIndex;
 import io.ballerina.openapi.validator.model.ResourceMethod;
 import io.ballerina.openapi.validator.model.ResourcePathSummary;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.parameters.Parameter;
@@ -39,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.openapi.validator.ValidatorUtils.getNormalizedPath;
@@ -53,13 +56,15 @@ import static io.ballerina.openapi.validator.ValidatorUtils.summarizeResources;
  * @since 1.1.0
  */
 public class ServiceValidator implements Validator {
-    private Filter filter;
-    private SyntaxNodeAnalysisContext context;
-    private OpenAPI openAPI;
+    private final Filter filter;
+    private final SyntaxNodeAnalysisContext context;
+    private final OpenAPI openAPI;
+    private final byte[] contractHash;
 
-    public void initialize(SyntaxNodeAnalysisContext context, OpenAPI openAPI, Filter filter) {
+    public ServiceValidator(SyntaxNodeAnalysisContext context, OpenAPI openAPI, byte[] contractHash, Filter filter) {
         this.context = context;
         this.openAPI = openAPI;
+        this.contractHash = contractHash;
         this.filter = filter;
     }
 
@@ -76,7 +81,7 @@ public class ServiceValidator implements Validator {
         ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) context.node();
 
         // 1. Summaries the OAS operations and return the filtered operations
-        List<OpenAPIPathSummary> openAPIPathSummaries = summarizeOpenAPI(openAPI, context, filter);
+        PathIndex<OpenAPIPathSummary> openAPIPathSummaries = summarizeOpenAPI(openAPI, context, filter);
         // 2. Summaries the ballerina resource
         NodeList<Node> members = serviceNode.members();
         List<FunctionDefinitionNode> resourceFunctions = new ArrayList<>();
@@ -87,16 +92,16 @@ public class ServiceValidator implements Validator {
         }
         // 3. Summaries the resource functions
         Map<String, ResourcePathSummary> resourcePathMap = summarizeResources(resourceFunctions, context);
+        PathIndex<ResourcePathSummary> resourcePaths = new PathIndex<>();
+        resourcePathMap.forEach(resourcePaths::put);
 
         // 4. Unimplemented resource in service file (extra resource in openapi spec)
-        List<OpenAPIPathSummary> updatedOASPaths = validateMissingBalResources(openAPIPathSummaries,
-                resourcePathMap);
+        validateMissingBalResources(openAPIPathSummaries, resourcePaths);
         // 5. Undocumented resource in service file (extra resource in ballerina service)
-        Map<String, ResourcePathSummary> updatedResourcePath = validateUndefinedBalResources(openAPIPathSummaries,
-                resourcePathMap);
+        validateUndefinedBalResources(openAPIPathSummaries, resourcePaths);
 
         // 6. Resource validation
-        validateBalServiceWithOAS(updatedResourcePath, updatedOASPaths);
+        validateBalServiceWithOAS(resourcePaths, openAPIPathSummaries);
 
     }
 
@@ -104,124 +109,121 @@ public class ServiceValidator implements Validator {
      * Validate all the resource with operations to check whether there is any missing implementation for operations.
      * OAS-> ballerina validate add
      */
-    private List<OpenAPIPathSummary> validateMissingBalResources(List<OpenAPIPathSummary> operations, Map<String,
-            ResourcePathSummary> resources) {
+    private void validateMissingBalResources(PathIndex<OpenAPIPathSummary> operations,
+                                             PathIndex<ResourcePathSummary> resources) {
         boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
                 filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
-        Iterator<OpenAPIPathSummary> openAPIPathIterator = operations.iterator();
-        while (openAPIPathIterator.hasNext()) {
-            OpenAPIPathSummary operationPath = openAPIPathIterator.next();
+        for (OpenAPIPathSummary operationPath : new ArrayList<>(operations.values())) {
+            Optional<ResourcePathSummary> resourcePath = resources.get(operationPath.getPath());
             // Extra path openapi
-            if (!resources.containsKey(operationPath.getPath())) {
+            if (resourcePath.isEmpty()) {
                 if (!filterEnable) {
                     reportDiagnostic(context, CompilationError.MISSING_RESOURCE_PATH, context.node().location(),
                             filter.getKind(),
                             getNormalizedPath(operationPath.getPath()));
                 }
-                openAPIPathIterator.remove();
+                operations.remove(operationPath.getPath());
             } else {
                 // Extra operation in openAPI
-                ResourcePathSummary resourcePath = resources.get(operationPath.getPath());
-                Map<String, ResourceMethod> resourceMethods = resourcePath.getMethods();
-                Map<String, Operation> methods = operationPath.getOperations();
-                for (Map.Entry<String, Operation> operation : methods.entrySet()) {
+                Map<String, ResourceMethod> resourceMethods = resourcePath.get().getMethods();
+                Iterator<Map.Entry<String, Operation>> methodsIter = operationPath.getOperations().entrySet()
+                        .iterator();
+                while (methodsIter.hasNext()) {
+                    Map.Entry<String, Operation> operation = methodsIter.next();
                     if (!resourceMethods.containsKey(operation.getKey().trim())) {
                         if (!filterEnable) {
                             reportDiagnostic(context, CompilationError.MISSING_RESOURCE_FUNCTION,
                                     context.node().location(), filter.getKind(), operation.getKey().trim(),
                                     getNormalizedPath(operationPath.getPath()));
                         }
-                        methods.remove(operation.getKey());
+                        methodsIter.remove();
                     }
                 }
             }
         }
-        return operations;
     }
 
     /**
      * Checking whether there is undocumented resource function with align to openapi spec.
      * Ballerina -> OAS
      */
-    private Map<String, ResourcePathSummary> validateUndefinedBalResources(List<OpenAPIPathSummary> operations,
-                                                                           Map<String, ResourcePathSummary>
-                                                                                   resourcePathMap) {
+    private void validateUndefinedBalResources(PathIndex<OpenAPIPathSummary> operations,
+                                               PathIndex<ResourcePathSummary> resourcePaths) {
         boolean filterEnable = filter.getOperation() != null || filter.getTag() != null ||
                 filter.getExcludeTag() != null || filter.getExcludeOperation() != null;
 
-        Iterator<Map.Entry<String, ResourcePathSummary>> resourcePathIter = resourcePathMap.entrySet().iterator();
-        while (resourcePathIter.hasNext()) {
-            Map.Entry<String, ResourcePathSummary> resourcePath = resourcePathIter.next();
-            boolean isPathDocumented = false;
-            for (OpenAPIPathSummary operationPath: operations) {
-                if (operationPath.getPath().equals(resourcePath.getKey())) {
-                    isPathDocumented = true;
-                    Set<Map.Entry<String, ResourceMethod>> methods = resourcePath.getValue().getMethods().entrySet();
-                    Iterator<Map.Entry<String, ResourceMethod>> methodsIter = methods.iterator();
-                    while (methodsIter.hasNext()) {
-                        Map.Entry<String, ResourceMethod> method = methodsIter.next();
-                        if (!operationPath.getOperations().containsKey(method.getKey().trim())) {
-                            if (!filterEnable) {
-                                reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
-                                        method.getValue().getLocation(), filter.getKind(), method.getKey(),
-                                        getNormalizedPath(resourcePath.getKey()));
-                            }
-                            methodsIter.remove();
+        for (ResourcePathSummary resourcePath : new ArrayList<>(resourcePaths.values())) {
+            Optional<OpenAPIPathSummary> operationPath = operations.get(resourcePath.getPath());
+            if (operationPath.isPresent()) {
+                Set<Map.Entry<String, ResourceMethod>> methods = resourcePath.getMethods().entrySet();
+                Iterator<Map.Entry<String, ResourceMethod>> methodsIter = methods.iterator();
+                while (methodsIter.hasNext()) {
+                    Map.Entry<String, ResourceMethod> method = methodsIter.next();
+                    if (!operationPath.get().getOperations().containsKey(method.getKey().trim())) {
+                        if (!filterEnable) {
+                            reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_FUNCTIONS,
+                                    method.getValue().getLocation(), filter.getKind(), method.getKey(),
+                                    getNormalizedPath(resourcePath.getPath()));
                         }
+                        methodsIter.remove();
                     }
-                    break;
                 }
-            }
-            if (!isPathDocumented) {
+            } else {
                 if (!filterEnable) {
                     reportDiagnostic(context, CompilationError.UNDEFINED_RESOURCE_PATH, context.node().location(),
                             filter.getKind(),
-                            getNormalizedPath(resourcePath.getKey()));
+                            getNormalizedPath(resourcePath.getPath()));
                 }
-                resourcePathIter.remove();
+                resourcePaths.remove(resourcePath.getPath());
             }
         }
-        return resourcePathMap;
     }
 
     /**
-     * This validation happens ballerina service against to openapi specification.
+     * This validation happens ballerina service against to openapi specification. The sections of all the resource
+     * functions are validated sequentially, as the semantic model and the type symbols are not thread-safe, and the
+     * diagnostics are reported in the order of the resource functions and the sections. Resource functions whose
+     * inputs are unchanged since the last validation reuse the cached diagnostics.
      */
-    private void validateBalServiceWithOAS(Map<String, ResourcePathSummary> resourcePaths,
-                                           List<OpenAPIPathSummary> oasPaths) {
-
-        Set<Map.Entry<String, ResourcePathSummary>> paths = resourcePaths.entrySet();
-        for (Map.Entry<String, ResourcePathSummary> path : paths) {
-            Map<String, ResourceMethod> methods = path.getValue().getMethods();
-            OpenAPIPathSummary oasPath = null;
-            for (OpenAPIPathSummary openAPIPath : oasPaths) {
-                if (path.getKey().equals(openAPIPath.getPath())) {
-                    oasPath = openAPIPath;
-                    break;
-                }
-            }
+    private void validateBalServiceWithOAS(PathIndex<ResourcePathSummary> resourcePaths,
+                                           PathIndex<OpenAPIPathSummary> oasPaths) {
+
+        ResourceValidationCache validationCache = ResourceValidationCache.getInstance();
+        List<ResourceValidation> validations = new ArrayList<>();
+        List<Validator> jobs = new ArrayList<>();
+        for (ResourcePathSummary path : resourcePaths.values()) {
+            Map<String, ResourceMethod> methods = path.getMethods();
+            OpenAPIPathSummary oasPath = oasPaths.get(path.getPath()).orElse(null);
 
             for (Map.Entry<String, ResourceMethod> method : methods.entrySet()) {
                 assert oasPath != null;
-                ValidatorContext validatorContext = new ValidatorContext(context, openAPI, path.getKey(),
-                        method.getKey(), filter.getKind(), method.getValue().getLocation());
+                String cacheKey = contractHash == null ? null : ResourceValidationCache.createKey(contractHash,
+                        oasPath.getPath(), filter.getKind(), method.getValue().getFunctionNode(),
+                        context.semanticModel());
+                ResourceValidation validation = new ResourceValidation(cacheKey);
+                validations.add(validation);
+                if (cacheKey != null) {
+                    Optional<List<Diagnostic>> diagnostics = validationCache.get(cacheKey, context);
+                    if (diagnostics.isPresent()) {
+                        validation.diagnostics = diagnostics.get();
+                        continue;
+                    }
+                }
                 Map<String, Operation> operations = oasPath.getOperations();
                 Operation oasOperation = operations.get(method.getKey());
                 // Parameters validation
                 List<Parameter> oasParameters = oasOperation.getParameters();
-                ParameterValidator parameterValidator = new ParameterValidator(validatorContext,
-                        method.getValue().getParameters(), oasParameters);
-                parameterValidator.validate();
+                jobs.add(new ParameterValidator(createValidatorContext(path, method, validation),
+                        method.getValue().getParameters(), oasParameters));
 
                 // Headers validation
                 Map<String, Node> balHeaders = method.getValue().getHeaders();
-                HeaderValidator headerValidator = new HeaderValidator(validatorContext, balHeaders, oasParameters);
-                headerValidator.validate();
+                jobs.add(new HeaderValidator(createValidatorContext(path, method, validation), balHeaders,
+                        oasParameters));
 
                 // Request body validation
-                RequestBodyValidator requestBodyValidator = new RequestBodyValidator(validatorContext,
-                        oasOperation.getRequestBody(), method.getValue().getBody());
-                requestBodyValidator.validate();
+                jobs.add(new RequestBodyValidator(createValidatorContext(path, method, validation),
+                        oasOperation.getRequestBody(), method.getValue().getBody()));
 
                 // Return Type validation
                 ReturnTypeDescriptorNode returnNode = method.getValue().getReturnNode();
@@ -232,10 +234,45 @@ public class ServiceValidator implements Validator {
                 } else {
                     type = (TypeDescriptorNode) returnNode.type();
                 }
-                ReturnTypeValidator returnTypeValidator = new ReturnTypeValidator(validatorContext, type,
-                        responses);
-                returnTypeValidator.validate();
+                jobs.add(new ReturnTypeValidator(createValidatorContext(path, method, validation), type,
+                        responses));
+            }
+        }
+        jobs.forEach(Validator::validate);
+        for (ResourceValidation validation : validations) {
+            if (validation.diagnostics == null) {
+                validation.diagnostics = new ArrayList<>();
+                validation.jobContexts.forEach(jobContext ->
+                        validation.diagnostics.addAll(jobContext.getDiagnostics()));
+                if (validation.cacheKey != null) {
+                    validationCache.put(validation.cacheKey, validation.diagnostics);
+                }
             }
+            validation.diagnostics.forEach(context::reportDiagnostic);
+        }
+    }
+
+    /**
+     * Creates the context of a validation job of the given resource function, with its own diagnostic buffer.
+     */
+    private ValidatorContext createValidatorContext(ResourcePathSummary path, Map.Entry<String, ResourceMethod> method,
+                                                    ResourceValidation validation) {
+        BufferedAnalysisContext jobContext = new BufferedAnalysisContext(context);
+        validation.jobContexts.add(jobContext);
+        return new ValidatorContext(jobContext, openAPI, path.getPath(), method.getKey(), filter.getKind(),
+                method.getValue().getLocation());
+    }
+
+    /**
+     * Validation state of a single resource function.
+     */
+    private static class ResourceValidation {
+        private final String cacheKey;
+        private final List<BufferedAnalysisContext> jobContexts = new ArrayList<>();
+        private List<Diagnostic> diagnostics;
+
+        ResourceValidation(String cacheKey) {
+            this.cacheKey = cacheKey;
         }
     }
 }
@@ -31,10 +31,12 @@ import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
 
 import static io.ballerina.openapi.validator.Constants.ARRAY_BRACKETS;
 import static io.ballerina.openapi.validator.Constants.BOOLEAN;
@@ -49,6 +51,7 @@ import static io.ballerina.openapi.validator.Constants.STRING;
 import static io.ballerina.openapi.validator.ValidatorUtils.extractReferenceType;
 import static io.ballerina.openapi.validator.ValidatorUtils.getNumberFormatType;
 import static io.ballerina.openapi.validator.ValidatorUtils.reportDiagnostic;
+import static io.ballerina.openapi.validator.ValidatorUtils.unescapeIdentifier;
 
 /**
  * This util class is used to validate data types with given schema.
@@ -63,62 +66,79 @@ public class TypeValidatorUtils {
     public static void validateRecordType(Schema<?> schema, TypeSymbol typeSymbol, String balRecord,
                                           SyntaxNodeAnalysisContext context,
                                           OpenAPI openAPI, String oasName, DiagnosticSeverity severity) {
+        validateRecordType(schema, typeSymbol, balRecord, context, openAPI, oasName, severity, new HashSet<>());
+    }
+
+    /**
+     * Validate ballerina record against schema. The schema and record pairs which are already validated are kept in
+     * the given set, so that the records shared by several fields are validated once and recursive records terminate.
+     */
+    private static void validateRecordType(Schema<?> schema, TypeSymbol typeSymbol, String balRecord,
+                                           SyntaxNodeAnalysisContext context, OpenAPI openAPI, String oasName,
+                                           DiagnosticSeverity severity, Set<String> validatedTypes) {
 
         if (typeSymbol instanceof RecordTypeSymbol || typeSymbol instanceof TypeReferenceTypeSymbol) {
-            Map<String, Schema> properties = schema.getProperties();
-            if (schema instanceof ObjectSchema) {
-                properties = schema.getProperties();
+            if (!validatedTypes.add(oasName + ":" + typeSymbol.signature())) {
+                return;
             }
+            Map<String, Schema> properties = indexProperties(schema.getProperties());
             if (typeSymbol instanceof TypeReferenceTypeSymbol) {
                 typeSymbol = ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor();
             }
             RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) typeSymbol;
             Map<String, RecordFieldSymbol> fieldSymbolList = recordTypeSymbol.fieldDescriptors();
             for (Map.Entry<String, RecordFieldSymbol> field : fieldSymbolList.entrySet()) {
-                boolean isFieldExist = false;
-                for (Map.Entry<String, Schema> property : properties.entrySet()) {
-                    if (field.getKey().trim().equals(property.getKey().trim())) {
-                        isFieldExist = true;
-                        String fieldType = field.getValue().typeDescriptor().signature();
-                        if (field.getValue().typeDescriptor() instanceof TypeReferenceTypeSymbol) {
-                            TypeReferenceTypeSymbol typeRef =
-                                    (TypeReferenceTypeSymbol) field.getValue().typeDescriptor();
-                            fieldType = typeRef.definition().getName().get();
-                        }
-
-                        Schema<?> schemaValue = property.getValue();
-                        String oas = getNumberFormatType(schemaValue);
-                        Optional<String> oasType = convertOpenAPITypeToBallerina(oas);
-                        if (schemaValue instanceof ArraySchema) {
-                            ArraySchema arraySchema = (ArraySchema) schemaValue;
-                            validateArrayTypeMismatch(balRecord, context, field, arraySchema, severity);
-                        } else if (schemaValue.get$ref() != null) {
-                            Schema<?> componentSchema = openAPI.getComponents().getSchemas()
-                                    .get(extractReferenceType(schemaValue.get$ref()).orElse(null));
-                            validateRecordType(componentSchema, field.getValue().typeDescriptor(), fieldType, context
-                                    , openAPI, extractReferenceType(schemaValue.get$ref()).orElse(null), severity);
-                        } else if (schemaValue instanceof ObjectSchema) {
-                            // Todo: inline record validation ex: record {|int id; string name;|}
-                            return;
-                        } else if (oasType.isEmpty() || !fieldType.equals(oasType.get())) {
-                            // type mismatch field
-                            reportDiagnostic(context, CompilationError.TYPE_MISMATCH_FIELD,
-                                    field.getValue().getLocation().orElse(null), severity, oas, fieldType,
-                                    field.getKey(), balRecord);
-                        }
-                        break;
-                    }
-                }
-                if (!isFieldExist) {
+                Schema<?> schemaValue = properties.get(unescapeIdentifier(field.getKey().trim()));
+                if (schemaValue == null) {
                     // Undefine record field.
                     reportDiagnostic(context, CompilationError.UNDEFINED_BRECORD_FIELD,
                             field.getValue().getLocation().orElse(null), severity, field.getKey(), balRecord,
                             oasName);
+                    continue;
+                }
+                String fieldType = field.getValue().typeDescriptor().signature();
+                if (field.getValue().typeDescriptor() instanceof TypeReferenceTypeSymbol) {
+                    TypeReferenceTypeSymbol typeRef =
+                            (TypeReferenceTypeSymbol) field.getValue().typeDescriptor();
+                    fieldType = typeRef.definition().getName().get();
+                }
+
+                String oas = getNumberFormatType(schemaValue);
+                Optional<String> oasType = convertOpenAPITypeToBallerina(oas);
+                if (schemaValue instanceof ArraySchema) {
+                    ArraySchema arraySchema = (ArraySchema) schemaValue;
+                    validateArrayTypeMismatch(balRecord, context, field, arraySchema, severity);
+                } else if (schemaValue.get$ref() != null) {
+                    String componentName = extractReferenceType(schemaValue.get$ref()).orElse(null);
+                    Schema<?> componentSchema = openAPI.getComponents().getSchemas().get(componentName);
+                    validateRecordType(componentSchema, field.getValue().typeDescriptor(), fieldType, context,
+                            openAPI, componentName, severity, validatedTypes);
+                } else if (schemaValue instanceof ObjectSchema) {
+                    // Todo: inline record validation ex: record {|int id; string name;|}
+                    return;
+                } else if (oasType.isEmpty() || !fieldType.equals(oasType.get())) {
+                    // type mismatch field
+                    reportDiagnostic(context, CompilationError.TYPE_MISMATCH_FIELD,
+                            field.getValue().getLocation().orElse(null), severity, oas, fieldType,
+                            field.getKey(), balRecord);
                 }
             }
         }
     }
 
+    /**
+     * Index the schema properties by the trimmed property name.
+     */
+    private static Map<String, Schema> indexProperties(Map<String, Schema> properties) {
+        if (properties == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Schema> propertyIndex = new HashMap<>();
+        // The first property wins when the trimmed names collide
+        properties.forEach((name, property) -> propertyIndex.putIfAbsent(name.trim(), property));
+        return propertyIndex;
+    }
+
     /**
      * This function is used to validate type for array fields.
      */
@@ -246,18 +266,12 @@ public class TypeValidatorUtils {
 
             RecordTypeSymbol recordTypeSymbol = (RecordTypeSymbol) typeSymbol;
             Map<String, Schema> properties = objectSchema.getProperties();
-            Map<String, RecordFieldSymbol> recordFieldSymbolMap = recordTypeSymbol.fieldDescriptors();
-            AtomicInteger numberOfMissingFields = new AtomicInteger();
+            Set<String> recordFields = new HashSet<>();
+            recordTypeSymbol.fieldDescriptors().keySet()
+                    .forEach(fieldName -> recordFields.add(unescapeIdentifier(fieldName.trim())));
             properties.forEach((key, value)-> {
-                AtomicBoolean isPropertyExist = new AtomicBoolean(false);
-                recordFieldSymbolMap.forEach((fieldName, fieldValue) -> {
-                    if (key.equals(fieldName.trim())) {
-                        isPropertyExist.set(true);
-                    }
-                });
-                if (!isPropertyExist.get()) {
+                if (!recordFields.contains(key)) {
                     // Missing field message;
-                    numberOfMissingFields.addAndGet(1);
                     reportDiagnostic(context, CompilationError.MISSING_OAS_PROPERTY,
                             location, severity, key, balRecord);
                 }
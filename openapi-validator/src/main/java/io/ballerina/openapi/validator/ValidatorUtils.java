@@ -49,6 +49,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.openapi.validator.error.CompilationError;
 import io.ballerina.openapi.validator.model.Filter;
 import io.ballerina.openapi.validator.model.OpenAPIPathSummary;
+import io.ballerina.openapi.validator.model.PathIndex;
 import io.ballerina.openapi.validator.model.ResourceMethod;
 import io.ballerina.openapi.validator.model.ResourcePathSummary;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
@@ -60,9 +61,6 @@ import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
-import io.swagger.v3.parser.core.models.ParseOptions;
-import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -109,16 +107,17 @@ public class ValidatorUtils {
     }
 
     /**
-     * Parse and get the {@link OpenAPI} for the given OpenAPI contract.
+     * Parse and get the {@link OpenAPI} for the given OpenAPI contract. The parsed contracts are shared through the
+     * {@link OpenAPIContractCache}, which returns a new model for each call.
      *
      * @param definitionURI     URI for the OpenAPI contract
-     * @return {@link OpenAPI}  OpenAPI model
+     * @return parsed contract with the {@link OpenAPI} model and the content hash
      * @throws IOException in case of exception
      */
-    public static OpenAPI parseOpenAPIFile(SyntaxNodeAnalysisContext context, String definitionURI, Location location)
+    public static OpenAPIContractCache.ParsedContract parseOpenAPIFile(SyntaxNodeAnalysisContext context,
+                                                                       String definitionURI, Location location)
             throws  IOException {
         Path contractPath = Paths.get(definitionURI);
-        ParseOptions parseOptions = new ParseOptions();
 
         if (!Files.exists(contractPath)) {
             reportDiagnostic(context, CompilationError.INVALID_CONTRACT_PATH, location, DiagnosticSeverity.ERROR,
@@ -131,15 +130,12 @@ public class ValidatorUtils {
             return null;
         }
 
-        String openAPIFileContent = Files.readString(contractPath);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
-                parseOptions);
-        OpenAPI api = parseResult.getOpenAPI();
-        if (api == null) {
+        OpenAPIContractCache.ParsedContract contract = OpenAPIContractCache.getInstance().get(contractPath);
+        if (contract == null) {
             reportDiagnostic(context, CompilationError.PARSER_EXCEPTION, location, DiagnosticSeverity.ERROR,
                     definitionURI);
         }
-        return api;
+        return contract;
     }
 
     /**
@@ -248,11 +244,11 @@ public class ValidatorUtils {
     /**
      * Summarize openAPI contract paths to easily access details to validate.
      * @param contract                openAPI contract
-     * @return List of summarized OpenAPIPathSummary
+     * @return {@link PathIndex} of summarized OpenAPIPathSummary
      */
-    public static List<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract, SyntaxNodeAnalysisContext context,
-                                                             Filter filter) {
-        List<OpenAPIPathSummary> openAPISummaries = new ArrayList<>();
+    public static PathIndex<OpenAPIPathSummary> summarizeOpenAPI(OpenAPI contract, SyntaxNodeAnalysisContext context,
+                                                                 Filter filter) {
+        PathIndex<OpenAPIPathSummary> openAPISummaries = new PathIndex<>();
         io.swagger.v3.oas.models.Paths paths = contract.getPaths();
         paths.forEach((path, value) -> {
             OpenAPIPathSummary openAPISummary = new OpenAPIPathSummary();
@@ -284,7 +280,7 @@ public class ValidatorUtils {
                 }
             }
             if (openAPISummary.getOperations().size() > 0) {
-                openAPISummaries.add(openAPISummary);
+                openAPISummaries.put(path, openAPISummary);
             }
         });
         return openAPISummaries;
@@ -365,6 +361,7 @@ public class ValidatorUtils {
         resourceMethodBuilder.withPath(path);
         resourceMethodBuilder.withMethod(httpMethod);
         resourceMethodBuilder.withLocation(resourceNode.location());
+        resourceMethodBuilder.withFunctionNode(resourceNode);
         Map<String, Node> headers = new HashMap<>();
 
         for (ParameterNode param : parameters) {
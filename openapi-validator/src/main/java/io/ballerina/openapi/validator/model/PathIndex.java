@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.ballerina.openapi.validator.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the resource paths, which finds the summary of a path by the exact path or by the path template.
+ * <p>
+ * The path template is the path with the names of the path parameters dropped, hence syntactically different but
+ * equivalent paths such as `/users/{id}` and `/users/{userId}` are matched. The exact path is preferred when both are
+ * available.
+ *
+ * @param <T> type of the path summary
+ * @since 1.7.0
+ */
+public class PathIndex<T> {
+    private static final Pattern PATH_PARAMETER = Pattern.compile("\\{[^}]*}");
+    private static final String PATH_PARAMETER_TEMPLATE = "{}";
+
+    private final Map<String, T> paths = new LinkedHashMap<>();
+    private final Map<String, List<T>> templates = new HashMap<>();
+
+    public void put(String path, T summary) {
+        remove(path);
+        paths.put(path, summary);
+        templates.computeIfAbsent(getTemplate(path), key -> new ArrayList<>()).add(summary);
+    }
+
+    /**
+     * Returns the summary of the given path, matching the path template if there is no exact match.
+     */
+    public Optional<T> get(String path) {
+        T summary = paths.get(path);
+        if (summary != null) {
+            return Optional.of(summary);
+        }
+        List<T> summaries = templates.get(getTemplate(path));
+        return summaries == null || summaries.isEmpty() ? Optional.empty() : Optional.of(summaries.get(0));
+    }
+
+    public void remove(String path) {
+        T summary = paths.remove(path);
+        if (summary != null) {
+            String template = getTemplate(path);
+            List<T> summaries = templates.get(template);
+            summaries.remove(summary);
+            if (summaries.isEmpty()) {
+                templates.remove(template);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed summaries in the insertion order.
+     */
+    public Collection<T> values() {
+        return paths.values();
+    }
+
+    private static String getTemplate(String path) {
+        return PATH_PARAMETER.matcher(path).replaceAll(PATH_PARAMETER_TEMPLATE);
+    }
+}
@@ -17,6 +17,7 @@
  */
 package io.ballerina.openapi.validator.model;
 
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
@@ -38,6 +39,7 @@ public class ResourceMethod {
     private final RequiredParameterNode body;
     private final Map<String, Node> headers;
     private final ReturnTypeDescriptorNode returnNode;
+    private final FunctionDefinitionNode functionNode;
 
     public ResourceMethod(ResourceMethodBuilder resourceMethodBuilder) {
         this.path = resourceMethodBuilder.path;
@@ -47,6 +49,7 @@ public class ResourceMethod {
         this.body = resourceMethodBuilder.body;
         this.headers = resourceMethodBuilder.headers;
         this.returnNode = resourceMethodBuilder.returnNode;
+        this.functionNode = resourceMethodBuilder.functionNode;
     }
 
     public String getPath() {
@@ -77,6 +80,10 @@ public class ResourceMethod {
         return returnNode;
     }
 
+    public FunctionDefinitionNode getFunctionNode() {
+        return functionNode;
+    }
+
     /**
      * This is the builder class for the {@link ResourceMethod}.
      */
@@ -88,6 +95,7 @@ public class ResourceMethod {
         private RequiredParameterNode body;
         private Map<String, Node> headers;
         private ReturnTypeDescriptorNode returnNode;
+        private FunctionDefinitionNode functionNode;
 
         public ResourceMethodBuilder withPath(String path) {
             this.path = path;
@@ -124,6 +132,11 @@ public class ResourceMethod {
             return this;
         }
 
+        public ResourceMethodBuilder withFunctionNode(FunctionDefinitionNode functionNode) {
+            this.functionNode = functionNode;
+            return this;
+        }
+
         public ResourceMethod build() {
             ResourceMethod resourceMethod = new ResourceMethod(this);
             return resourceMethod;
@@ -18,6 +18,8 @@ module io.ballerina.openapi.validator {
     requires io.ballerina.lang;
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
+    requires com.fasterxml.jackson.databind;
+    requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
     requires swagger.parser.v3;
     requires swagger.parser.core;
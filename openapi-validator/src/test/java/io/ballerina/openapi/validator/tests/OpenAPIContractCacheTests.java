@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator.tests;
+
+import io.ballerina.openapi.validator.OpenAPIContractCache;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This test class is for the shared cache of the parsed OpenAPI contracts.
+ */
+public class OpenAPIContractCacheTests {
+    private static final String CONTRACT = "openapi: 3.0.1\n" +
+            "info:\n" +
+            "  title: pets\n" +
+            "  version: 1.0.0\n" +
+            "paths:\n" +
+            "  /pets:\n" +
+            "    get:\n" +
+            "      operationId: listPets\n" +
+            "      responses:\n" +
+            "        \"200\":\n" +
+            "          description: Ok\n";
+    private final OpenAPIContractCache cache = OpenAPIContractCache.getInstance();
+    private Path tempDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tempDir = Files.createTempDirectory("openapi-contract-cache-" + System.nanoTime());
+        cache.clear();
+    }
+
+    @Test(description = "Each call gets its own model of a cached contract")
+    public void testIndependentModels() throws IOException {
+        Path contractPath = Files.writeString(tempDir.resolve("pets.yaml"), CONTRACT);
+        OpenAPIContractCache.ParsedContract first = cache.get(contractPath);
+        OpenAPIContractCache.ParsedContract second = cache.get(contractPath);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertNotSame(first.getOpenAPI(), second.getOpenAPI());
+        Assert.assertEquals(first.getOpenAPI(), second.getOpenAPI());
+
+        // Changing a returned model must not change the models returned later
+        OpenAPI openAPI = first.getOpenAPI();
+        openAPI.getPaths().addPathItem("/dogs", new PathItem());
+        openAPI.getPaths().get("/pets").getGet().setOperationId("changed");
+        OpenAPI thirdModel = cache.get(contractPath).getOpenAPI();
+        Assert.assertFalse(thirdModel.getPaths().containsKey("/dogs"));
+        Assert.assertEquals(thirdModel.getPaths().get("/pets").getGet().getOperationId(), "listPets");
+    }
+
+    @Test(description = "Contracts with the same content are parsed once")
+    public void testContentHashKey() throws IOException {
+        Path contractPath = Files.writeString(tempDir.resolve("pets.yaml"), CONTRACT);
+        Path copiedContractPath = Files.writeString(tempDir.resolve("pets_copy.yaml"), CONTRACT);
+        OpenAPIContractCache.ParsedContract contract = cache.get(contractPath);
+        OpenAPIContractCache.ParsedContract copiedContract = cache.get(copiedContractPath);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(contract.getContentHash(), copiedContract.getContentHash());
+    }
+
+    @Test(description = "Changed contracts are parsed again")
+    public void testChangedContract() throws IOException {
+        Path contractPath = Files.writeString(tempDir.resolve("pets.yaml"), CONTRACT);
+        OpenAPIContractCache.ParsedContract contract = cache.get(contractPath);
+        Files.writeString(contractPath, CONTRACT.replace("listPets", "getPets"));
+        Files.setLastModifiedTime(contractPath, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+
+        OpenAPIContractCache.ParsedContract changedContract = cache.get(contractPath);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertNotEquals(contract.getContentHash(), changedContract.getContentHash());
+        Assert.assertEquals(changedContract.getOpenAPI().getPaths().get("/pets").getGet().getOperationId(),
+                "getPets");
+    }
+
+    @Test(description = "Contracts which can not be parsed are not cached")
+    public void testInvalidContract() throws IOException {
+        Path contractPath = Files.writeString(tempDir.resolve("invalid.yaml"), "openapi: [3.0.1");
+        Assert.assertNull(cache.get(contractPath));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        cache.clear();
+        try (Stream<Path> files = Files.list(tempDir)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(tempDir);
+    }
+}
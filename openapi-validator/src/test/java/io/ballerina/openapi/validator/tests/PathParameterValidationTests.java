@@ -17,6 +17,7 @@
  */
 package io.ballerina.openapi.validator.tests;
 
+import io.ballerina.openapi.validator.ResourceValidationCache;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -25,6 +26,8 @@ import org.testng.annotations.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.validator.tests.ValidatorTest.getCompilation;
 import static io.ballerina.openapi.validator.tests.ValidatorTest.getProject;
@@ -49,4 +52,44 @@ public class PathParameterValidationTests {
                 "that associated with the path '/pets/{petId}/owner/{owner-id}'.";
         Assert.assertEquals(error, errors[0].toString());
     }
+
+    @Test(description = "Resources are matched with the contract paths by the path template")
+    public void differentlyNamedPathParameters() {
+        Path path = RES_DIR.resolve("path_parameter_name.bal");
+        Project project = getProject(path);
+        DiagnosticResult diagnostic = getCompilation(project);
+        List<String> errors = diagnostic.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR == d.diagnosticInfo().severity())
+                .map(d -> d.message())
+                .collect(Collectors.toList());
+        // `users/[int id]` matches `/users/{userId}`, and `pets/[int petId]` matches `/pets/{petId}` exactly
+        Assert.assertEquals(errors.size(), 2);
+        Assert.assertTrue(errors.stream().anyMatch(error ->
+                error.startsWith("undefined parameter 'id' for the method 'get'")));
+        Assert.assertTrue(errors.stream().anyMatch(error ->
+                error.startsWith("missing OpenAPI contract parameter 'userId'")));
+    }
+
+    @Test(description = "Diagnostics of a multi-resource service are reported in the order of the resources")
+    public void deterministicDiagnosticsOfMultipleResources() {
+        Path path = RES_DIR.resolve("multiple_resources.bal");
+        ResourceValidationCache.getInstance().clear();
+        List<String> errors = getErrors(getCompilation(getProject(path)));
+        Assert.assertEquals(errors.size(), 5);
+        String[] parameters = {"userId", "petId", "orderId", "storeId", "itemId"};
+        for (int i = 0; i < parameters.length; i++) {
+            Assert.assertTrue(errors.get(i).contains("for the parameter '" + parameters[i] + "'"), errors.get(i));
+        }
+        for (int i = 0; i < 3; i++) {
+            ResourceValidationCache.getInstance().clear();
+            Assert.assertEquals(getErrors(getCompilation(getProject(path))), errors);
+        }
+    }
+
+    private static List<String> getErrors(DiagnosticResult diagnosticResult) {
+        return diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR == d.diagnosticInfo().severity())
+                .map(Object::toString)
+                .collect(Collectors.toList());
+    }
 }
@@ -111,4 +111,13 @@ public class RequestBodyValidationTests {
                 " the HTTP method 'post' that associated with the path '/pets'.";
         Assert.assertEquals(undocumentedRB, errors[0].toString());
     }
+
+    @Test(description = "Quoted record fields are matched with the unescaped property names")
+    public void escapedRecordFieldValidation() {
+        Path path = RES_DIR.resolve("escaped_field_request_body.bal");
+        Project project = getProject(path);
+        DiagnosticResult diagnostic = getCompilation(project);
+        Object[] errors = getDiagnostics(diagnostic);
+        Assert.assertEquals(errors.length, 0);
+    }
 }
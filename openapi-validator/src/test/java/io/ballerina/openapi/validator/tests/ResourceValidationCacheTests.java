@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator.tests;
+
+import io.ballerina.openapi.validator.ResourceValidationCache;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.ballerina.openapi.validator.tests.ValidatorTest.getCompilation;
+import static io.ballerina.openapi.validator.tests.ValidatorTest.getProject;
+
+/**
+ * Tests for reusing and invalidating the cached diagnostics of the resource functions.
+ */
+public class ResourceValidationCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/parameter").toAbsolutePath();
+
+    @BeforeMethod
+    public void clearCache() {
+        ResourceValidationCache.getInstance().clear();
+    }
+
+    @Test(description = "Cached diagnostics are reported with the same messages and locations")
+    public void cacheHit() {
+        Path path = RES_DIR.resolve("multiple_resources.bal");
+        List<Diagnostic> errors = getErrors(getCompilation(getProject(path)));
+        Assert.assertEquals(errors.size(), 5);
+        Assert.assertEquals(ResourceValidationCache.getInstance().size(), 5);
+
+        List<Diagnostic> cachedErrors = getErrors(getCompilation(getProject(path)));
+        Assert.assertEquals(ResourceValidationCache.getInstance().size(), 5);
+        Assert.assertEquals(cachedErrors.size(), errors.size());
+        for (int i = 0; i < errors.size(); i++) {
+            Assert.assertEquals(cachedErrors.get(i).toString(), errors.get(i).toString());
+            Assert.assertEquals(cachedErrors.get(i).location().lineRange(), errors.get(i).location().lineRange());
+            Assert.assertEquals(cachedErrors.get(i).location().textRange(), errors.get(i).location().textRange());
+            Assert.assertNotSame(cachedErrors.get(i).location(), errors.get(i).location());
+        }
+    }
+
+    @Test(description = "Cached diagnostics are not reused for the moved or the changed resource functions")
+    public void cacheInvalidation() {
+        Path path = RES_DIR.resolve("multiple_resources.bal");
+        Project project = getProject(path);
+        List<Diagnostic> errors = getErrors(getCompilation(project));
+        Assert.assertEquals(errors.size(), 5);
+
+        // Moving the resource functions to the next lines changes the keys of all the resource functions
+        Document document = getDocument(project);
+        String source = document.syntaxTree().toSourceCode();
+        Package movedPackage = document.modify().withContent("// moved\n" + source).apply().module()
+                .packageInstance();
+        List<Diagnostic> movedErrors = getErrors(movedPackage.getCompilation().diagnosticResult());
+        Assert.assertEquals(ResourceValidationCache.getInstance().size(), 10);
+        Assert.assertEquals(movedErrors.size(), 5);
+        for (int i = 0; i < errors.size(); i++) {
+            Assert.assertEquals(movedErrors.get(i).location().lineRange().startLine().line(),
+                    errors.get(i).location().lineRange().startLine().line() + 1);
+        }
+
+        // Fixing the type of a path parameter removes its diagnostic instead of reusing the cached one
+        Package fixedPackage = document.modify()
+                .withContent(source.replace("users/[string userId]", "users/[int userId]")).apply().module()
+                .packageInstance();
+        List<String> fixedErrors = getErrors(fixedPackage.getCompilation().diagnosticResult()).stream()
+                .map(Diagnostic::message)
+                .collect(Collectors.toList());
+        Assert.assertEquals(fixedErrors.size(), 4);
+        Assert.assertTrue(fixedErrors.stream().noneMatch(error -> error.contains("'userId'")));
+    }
+
+    private static Document getDocument(Project project) {
+        Module module = project.currentPackage().getDefaultModule();
+        DocumentId documentId = module.documentIds().iterator().next();
+        return module.document(documentId);
+    }
+
+    private static List<Diagnostic> getErrors(DiagnosticResult diagnosticResult) {
+        return diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR == d.diagnosticInfo().severity())
+                .collect(Collectors.toList());
+    }
+}
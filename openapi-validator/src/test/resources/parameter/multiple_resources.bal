@@ -0,0 +1,18 @@
+import ballerina/openapi;
+import ballerina/http;
+
+@openapi:ServiceInfo {
+    contract:"multiple_resources.yaml"
+}
+service /v1 on new http:Listener(9090) {
+    resource function get users/[string userId]() {
+    }
+    resource function get pets/[string petId]() {
+    }
+    resource function get orders/[string orderId]() {
+    }
+    resource function get stores/[string storeId]() {
+    }
+    resource function get items/[string itemId]() {
+    }
+}
@@ -0,0 +1,12 @@
+import ballerina/openapi;
+import ballerina/http;
+
+@openapi:ServiceInfo {
+    contract:"path_parameter_name.yaml"
+}
+service /v1 on new http:Listener(9090) {
+    resource function get users/[int id]() {
+    }
+    resource function get pets/[int petId]() {
+    }
+}